@@ -0,0 +1,80 @@
+package zerobase.projectdividend.cache;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import zerobase.projectdividend.model.Company;
+import zerobase.projectdividend.model.Dividend;
+import zerobase.projectdividend.model.ScrapedResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// finance 캐시 값(ScrapedResult) 직렬화 / 역직렬화 시간 비교
+// - json*   : GenericJackson2JsonRedisSerializer (기존 방식)
+// - binary* : ScrapedResultRedisSerializer (compress-threshold 이상이면 deflate 압축)
+// 시작할 때 배당금 개수별 저장 크기(byte)도 출력
+// 실행 : ./gradlew jmh -Pjmh.includes=CacheSerializerBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheSerializerBenchmark {
+
+    // 분기 배당 5년 / 50년 / 250년
+    @Param({"20", "200", "1000"})
+    private int dividends;
+
+    @Param({"512"})
+    private int compressThreshold;
+
+    private RedisSerializer<Object> json;
+    private RedisSerializer<Object> binary;
+
+    private ScrapedResult value;
+    private byte[] jsonBytes;
+    private byte[] binaryBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.json = new GenericJackson2JsonRedisSerializer();
+        this.binary = new ScrapedResultRedisSerializer(this.json, this.compressThreshold);
+
+        LocalDate start = LocalDate.of(1975, 2, 15);
+        List<Dividend> list = new ArrayList<>(this.dividends);
+        for (int i = 0; i < this.dividends; i++) {
+            list.add(Dividend.of(start.plusMonths(3L * i), BigDecimal.valueOf(25 + i % 100, 2)));
+        }
+        this.value = new ScrapedResult(new Company("MMM", "3M Company"), list);
+        this.jsonBytes = this.json.serialize(this.value);
+        this.binaryBytes = this.binary.serialize(this.value);
+
+        System.out.printf("%ncache value size (%d dividends) -> json: %d bytes, binary: %d bytes%n",
+                this.dividends, this.jsonBytes.length, this.binaryBytes.length);
+    }
+
+    @Benchmark
+    public byte[] jsonSerialize() {
+        return this.json.serialize(this.value);
+    }
+
+    @Benchmark
+    public Object jsonDeserialize() {
+        return this.json.deserialize(this.jsonBytes);
+    }
+
+    @Benchmark
+    public byte[] binarySerialize() {
+        return this.binary.serialize(this.value);
+    }
+
+    @Benchmark
+    public Object binaryDeserialize() {
+        return this.binary.deserialize(this.binaryBytes);
+    }
+}
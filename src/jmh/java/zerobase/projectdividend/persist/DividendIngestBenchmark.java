@@ -0,0 +1,107 @@
+package zerobase.projectdividend.persist;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import zerobase.projectdividend.ProjectDividendApplication;
+import zerobase.projectdividend.model.Dividend;
+import zerobase.projectdividend.persist.entity.DividendEntity;
+import zerobase.projectdividend.persist.repository.DividendRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 회사 10,000개의 스크래핑 결과를 저장하는 시간 비교 (H2 in-memory)
+// - existsThenSave : row 마다 existsByCompanyIdAndDate + save (기존 방식, row 당 2번 왕복)
+// - saveNewDividends : 회사마다 저장된 날짜를 한 번 조회하고 새 row 만 batch insert
+// 회사마다 배당금의 절반은 이미 저장되어 있는 상태에서 시작
+// 실행 : ./gradlew jmh -Pjmh.includes=DividendIngestBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class DividendIngestBenchmark {
+
+    @Param({"10000"})
+    private int companies;
+
+    @Param({"8"})
+    private int dividendsPerCompany;
+
+    private ConfigurableApplicationContext context;
+    private DividendRepository dividendRepository;
+    private List<List<Dividend>> scraped;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = new SpringApplicationBuilder(ProjectDividendApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:ingest;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "scheduler.scrap.yahoo=-",
+                        "scheduler.scrap.yahoo-full=-",
+                        "snapshot.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+        this.dividendRepository = this.context.getBean(DividendRepository.class);
+
+        // 분기 배당
+        LocalDateTime start = LocalDateTime.of(2020, 2, 15, 0, 0);
+        this.scraped = new ArrayList<>(this.companies);
+        for (int c = 0; c < this.companies; c++) {
+            List<Dividend> dividends = new ArrayList<>(this.dividendsPerCompany);
+            for (int i = 0; i < this.dividendsPerCompany; i++) {
+                dividends.add(new Dividend(start.plusMonths(3L * i), String.valueOf(1 + c % 100 / 100.0)));
+            }
+            this.scraped.add(dividends);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void seed() {
+        this.dividendRepository.deleteAllInBatch();
+        for (int c = 0; c < this.companies; c++) {
+            List<Dividend> dividends = this.scraped.get(c);
+            this.dividendRepository.saveNewDividends(companyId(c), dividends.subList(0, dividends.size() / 2));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public int existsThenSave() {
+        int inserted = 0;
+        for (int c = 0; c < this.companies; c++) {
+            for (Dividend dividend : this.scraped.get(c)) {
+                DividendEntity entity = new DividendEntity(companyId(c), dividend);
+                if (!this.dividendRepository.existsByCompanyIdAndDate(entity.getCompanyId(), entity.getDate())) {
+                    this.dividendRepository.save(entity);
+                    inserted++;
+                }
+            }
+        }
+        return inserted;
+    }
+
+    @Benchmark
+    public int saveNewDividends() {
+        int inserted = 0;
+        for (int c = 0; c < this.companies; c++) {
+            inserted += this.dividendRepository.saveNewDividends(companyId(c), this.scraped.get(c));
+        }
+        return inserted;
+    }
+
+    private static Long companyId(int c) {
+        return (long) c + 1;
+    }
+}
@@ -0,0 +1,169 @@
+package zerobase.projectdividend.persist;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import zerobase.projectdividend.ProjectDividendApplication;
+import zerobase.projectdividend.model.Dividend;
+import zerobase.projectdividend.persist.entity.CompanyEntity;
+import zerobase.projectdividend.persist.repository.CompanyRepository;
+import zerobase.projectdividend.persist.repository.DividendRepository;
+import zerobase.projectdividend.persist.series.DividendSeries;
+import zerobase.projectdividend.persist.series.DividendSeriesStore;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 캐시 miss 시 한 회사의 배당금을 응답 형식으로 만드는 시간 비교 (H2 in-memory)
+// - database* : 회사 + 배당금 join 조회 후 Dividend 로 변환 (기존 방식)
+// - series*   : 메모리의 DividendSeries(int[] 배당일, long[] 배당금)에서 변환
+// *FullHistory 는 전체 이력, *LastFour 는 최근 4개
+// 시작할 때 row 당 heap 사용량(List<Dividend> vs DividendSeries)도 출력
+// 실행 : ./gradlew jmh -Pjmh.includes=DividendReadBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DividendReadBenchmark {
+
+    @Param({"200"})
+    private int companies;
+
+    // 분기 배당 50년
+    @Param({"200"})
+    private int dividendsPerCompany;
+
+    private ConfigurableApplicationContext context;
+    private CompanyRepository companyRepository;
+    private DividendRepository dividendRepository;
+    private DividendSeriesStore dividendSeriesStore;
+
+    private final List<Long> ids = new ArrayList<>();
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = new SpringApplicationBuilder(ProjectDividendApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:read;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "scheduler.scrap.yahoo=-",
+                        "scheduler.scrap.yahoo-full=-",
+                        "snapshot.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+        this.companyRepository = this.context.getBean(CompanyRepository.class);
+        this.dividendRepository = this.context.getBean(DividendRepository.class);
+        this.dividendSeriesStore = this.context.getBean(DividendSeriesStore.class);
+
+        for (int c = 0; c < this.companies; c++) {
+            CompanyEntity company = this.companyRepository.save(new CompanyEntity(null, "T" + c, name(c)));
+            this.ids.add(company.getId());
+            this.dividendRepository.saveNewDividends(company.getId(), dividends(c));
+        }
+        this.dividendSeriesStore.load();
+
+        printFootprint(this.companies * this.dividendsPerCompany);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public List<Dividend> databaseFullHistory() {
+        List<Dividend> dividends = new ArrayList<>(this.dividendsPerCompany);
+        for (CompanyRepository.FinanceRow row : this.companyRepository.findFinanceById(this.nextId())) {
+            dividends.add(Dividend.of(row.getDate(), row.getDividend()));
+        }
+        return dividends;
+    }
+
+    @Benchmark
+    public List<Dividend> seriesFullHistory() {
+        return this.dividendSeriesStore.findByName(this.nextName()).get().getSeries().toDividends();
+    }
+
+    @Benchmark
+    public List<Dividend> databaseLastFour() {
+        CompanyEntity company = this.companyRepository.findByName(this.nextName()).get();
+        List<Dividend> dividends = new ArrayList<>(4);
+        this.dividendRepository.findRecentInRange(company.getId(), LocalDate.of(1900, 1, 1),
+                        LocalDate.of(9999, 12, 31), PageRequest.of(0, 4))
+                .forEach(entity -> dividends.add(entity.toDividend()));
+        return dividends;
+    }
+
+    @Benchmark
+    public List<Dividend> seriesLastFour() {
+        return this.dividendSeriesStore.findByName(this.nextName()).get().getSeries().toDividends(null, null, 4);
+    }
+
+    private String nextName() {
+        this.next = (this.next + 1) % this.companies;
+        return name(this.next);
+    }
+
+    private Long nextId() {
+        this.next = (this.next + 1) % this.companies;
+        return this.ids.get(this.next);
+    }
+
+    private List<Dividend> dividends(int c) {
+        LocalDateTime start = LocalDateTime.of(1975, 2, 15, 0, 0);
+        List<Dividend> dividends = new ArrayList<>(this.dividendsPerCompany);
+        for (int i = 0; i < this.dividendsPerCompany; i++) {
+            dividends.add(new Dividend(start.plusMonths(3L * i), String.valueOf(0.25 + (c + i) % 100 / 100.0)));
+        }
+        return dividends;
+    }
+
+    private static String name(int c) {
+        return "Company " + c;
+    }
+
+    // 같은 배당금을 List<Dividend> 와 DividendSeries 로 만들었을 때 늘어난 heap 크기 (대략적인 값)
+    private static void printFootprint(int rows) {
+        long base = usedHeap();
+        List<Dividend> objects = new ArrayList<>(rows);
+        LocalDateTime start = LocalDateTime.of(1975, 2, 15, 0, 0);
+        for (int i = 0; i < rows; i++) {
+            objects.add(new Dividend(start.plusDays(i), String.valueOf(0.25 + i % 100 / 100.0)));
+        }
+        long objectBytes = usedHeap() - base;
+
+        base = usedHeap();
+        int[] days = new int[rows];
+        long[] amounts = new long[rows];
+        for (int i = 0; i < rows; i++) {
+            days[i] = (int) start.toLocalDate().plusDays(i).toEpochDay();
+            amounts[i] = 250_000L + i % 100 * 10_000L;
+        }
+        DividendSeries series = DividendSeries.of(days, amounts);
+        // of() 는 배열을 복사하므로 원본 배열은 측정에서 제외
+        days = null;
+        amounts = null;
+        long seriesBytes = usedHeap() - base;
+
+        // 측정이 끝날 때까지 두 결과가 GC 되지 않도록 출력에 사용
+        System.out.printf("%nheap per dividend -> List<Dividend>: %.1f bytes (%d rows), DividendSeries: %.1f bytes (%d rows)%n",
+                (double) objectBytes / rows, objects.size(), (double) seriesBytes / rows, series.size());
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
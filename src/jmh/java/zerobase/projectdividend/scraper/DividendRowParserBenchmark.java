@@ -0,0 +1,94 @@
+package zerobase.projectdividend.scraper;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import zerobase.projectdividend.model.Dividend;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+// 기록해 둔 전체 이력 페이지(1970 ~ 2024, 월별 주가 + 분기 배당)의 row 파싱 비교
+// 실행 : ./gradlew jmh -Pjmh.includes=DividendRowParserBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DividendRowParserBenchmark {
+
+    private List<String> rows;
+
+    @Setup
+    public void setUp() throws IOException {
+        String html;
+        try (InputStream in = new GZIPInputStream(getClass().getResourceAsStream("/pages/MMM-history-1mo.html.gz"))) {
+            html = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        Element tbody = Jsoup.parse(html).getElementsByClass("table svelte-ewueuo").get(0).children().get(1);
+        this.rows = new ArrayList<>();
+        for (Element e : tbody.children()) {
+            this.rows.add(e.text());
+        }
+    }
+
+    // 변경 전 : split + replace + Integer.valueOf + Month.values() 순회
+    @Benchmark
+    public void legacySplit(Blackhole bh) {
+        for (String txt : this.rows) {
+            if (!txt.endsWith("Dividend")) {
+                continue;
+            }
+            String[] splits = txt.split(" ");
+            int month = LegacyMonth.stringToNumber(splits[0]);
+            int day = Integer.valueOf(splits[1].replace(",", ""));
+            int year = Integer.valueOf(splits[2]);
+            String dividend = splits[3];
+
+            bh.consume(new Dividend(LocalDateTime.of(year, month, day, 0, 0), dividend));
+        }
+    }
+
+    // 변경 후 : DividendRowParser
+    @Benchmark
+    public void rowParser(Blackhole bh) {
+        for (String txt : this.rows) {
+            Dividend dividend = DividendRowParser.parse(txt);
+            if (dividend != null) {
+                bh.consume(dividend);
+            }
+        }
+    }
+
+    // 변경 전 Month.stringToNumber (호출마다 values() 배열 복사 + 선형 탐색)
+    private enum LegacyMonth {
+        JAN("Jan", 1), FEB("Feb", 2), MAR("Mar", 3), APR("Apr", 4), MAY("May", 5), JUN("Jun", 6),
+        JUL("Jul", 7), AUG("Aug", 8), SEP("Sep", 9), OCT("Oct", 10), NOV("Nov", 11), DEC("Dec", 12);
+
+        private final String s;
+        private final int number;
+
+        LegacyMonth(String s, int number) {
+            this.s = s;
+            this.number = number;
+        }
+
+        static int stringToNumber(String s) {
+            for (var m : LegacyMonth.values()) {
+                if (m.s.equals(s)) {
+                    return m.number;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package zerobase.projectdividend.scraper.archive;
+
+import org.openjdk.jmh.annotations.*;
+import zerobase.projectdividend.model.Company;
+import zerobase.projectdividend.model.ScrapedResult;
+import zerobase.projectdividend.scraper.PageKind;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+// 보관소에 기록된 페이지로 YahooFinanceScraper 전체 경로(읽기 + Jsoup + row 파싱)를 네트워크 없이 측정
+// 실행 : ./gradlew jmh -Pjmh.includes=ReplayScraperBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReplayScraperBenchmark {
+
+    private Path root;
+    private ReplayScraper scraper;
+    private Company company;
+
+    @Setup
+    public void setUp() throws IOException {
+        String html;
+        try (InputStream in = new GZIPInputStream(getClass().getResourceAsStream("/pages/MMM-history-1mo.html.gz"))) {
+            html = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        this.root = Files.createTempDirectory("page-archive");
+        PageArchive archive = new PageArchive(this.root);
+        archive.record("MMM", PageKind.FULL_HISTORY, Instant.now(), html);
+
+        this.scraper = new ReplayScraper(archive);
+        this.company = new Company("MMM", "3M Company");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(this.root)) {
+            files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public ScrapedResult replayFullHistory() {
+        return this.scraper.scrap(this.company);
+    }
+}
@@ -0,0 +1,42 @@
+package zerobase.projectdividend.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+
+// @Cacheable 등에서 캐시 작업이 실패해도 예외를 던지지 않고 캐시 없이 처리 (조회는 원본 메서드 실행)
+// Redis 작업은 RedisCacheGuard 가 먼저 처리하므로 여기로 오는 것은 그 밖의 오류
+@Slf4j
+public class BypassCacheErrorHandler implements CacheErrorHandler {
+
+    private final RedisCacheGuard guard;
+
+    public BypassCacheErrorHandler(RedisCacheGuard guard) {
+        this.guard = guard;
+    }
+
+    @Override
+    public void handleCacheGetError(RuntimeException exception, Cache cache, Object key) {
+        this.handle(RedisCacheGuard.Operation.READ, exception, cache, key);
+    }
+
+    @Override
+    public void handleCachePutError(RuntimeException exception, Cache cache, Object key, Object value) {
+        this.handle(RedisCacheGuard.Operation.WRITE, exception, cache, key);
+    }
+
+    @Override
+    public void handleCacheEvictError(RuntimeException exception, Cache cache, Object key) {
+        this.handle(RedisCacheGuard.Operation.EVICT, exception, cache, key);
+    }
+
+    @Override
+    public void handleCacheClearError(RuntimeException exception, Cache cache) {
+        this.handle(RedisCacheGuard.Operation.EVICT, exception, cache, null);
+    }
+
+    private void handle(RedisCacheGuard.Operation operation, RuntimeException exception, Cache cache, Object key) {
+        this.guard.recordFailure(operation);
+        log.warn("cache {} failed -> bypass ({}::{})", operation, cache.getName(), key, exception);
+    }
+}
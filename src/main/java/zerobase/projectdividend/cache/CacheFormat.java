@@ -0,0 +1,6 @@
+package zerobase.projectdividend.cache;
+
+public enum CacheFormat {
+    JSON,  // 모든 값을 @class 타입 정보가 포함된 JSON 으로 저장
+    BINARY // ScrapedResult 는 바이너리로, 나머지는 JSON 으로 저장 (ScrapedResultRedisSerializer)
+}
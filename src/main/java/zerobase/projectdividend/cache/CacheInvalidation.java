@@ -0,0 +1,42 @@
+package zerobase.projectdividend.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.charset.StandardCharsets;
+
+// 다른 노드의 L1 캐시를 지우도록 Redis pub/sub 으로 보내는 메시지
+// 형식 : {보낸 노드}|{캐시 이름}|{종류}|{key} (key 에는 | 가 들어가도 됨)
+@Getter
+@ToString
+@AllArgsConstructor
+public class CacheInvalidation {
+
+    public enum Type {
+        // key 하나
+        EVICT,
+        // key 가 prefix 로 시작하는 값 전부 (ex. 회사의 기간 조회 캐시)
+        EVICT_PREFIX,
+        // 캐시 전체
+        CLEAR
+    }
+
+    private final String origin;
+    private final String cacheName;
+    private final Type type;
+    private final String key;
+
+    public byte[] encode() {
+        return (this.origin + '|' + this.cacheName + '|' + this.type.name() + '|' + (this.key == null ? "" : this.key))
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static CacheInvalidation decode(byte[] body) {
+        String[] parts = new String(body, StandardCharsets.UTF_8).split("\\|", 4);
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("invalid cache invalidation message");
+        }
+        return new CacheInvalidation(parts[0], parts[1], Type.valueOf(parts[2]), parts[3]);
+    }
+}
@@ -0,0 +1,105 @@
+package zerobase.projectdividend.cache;
+
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.util.ByteUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// 캐시에 저장한 Redis key 를 묶음(캐시 key 의 첫 ':' 앞, ex. 회사 id)마다 Redis set 에 기록
+// (set key : {index 이름}::{묶음}, ex. finance-range-keys::1)
+// -> 묶음의 캐시를 지울 때 전체 keyspace 를 SCAN 하지 않고 set 에 기록된 key 만 지움
+// set 은 기록할 때마다 캐시와 같은 보관 시간으로 연장 (기록된 캐시보다 먼저 만료되지 않음)
+public class CacheKeyIndex {
+
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final RedisCacheConfiguration redisCacheConfiguration;
+    private final String cacheName;
+    private final String indexName;
+    private final Duration ttl;
+
+    public CacheKeyIndex(RedisConnectionFactory redisConnectionFactory, RedisCacheConfiguration redisCacheConfiguration,
+                         String cacheName, String indexName, Duration ttl) {
+        this.redisConnectionFactory = redisConnectionFactory;
+        this.redisCacheConfiguration = redisCacheConfiguration;
+        this.cacheName = cacheName;
+        this.indexName = indexName;
+        this.ttl = ttl;
+    }
+
+    public String getCacheName() {
+        return this.cacheName;
+    }
+
+    // 캐시에 저장한 key 를 묶음의 set 에 기록
+    public void add(Object key) {
+        String localKey = String.valueOf(key);
+        byte[] index = this.indexKey(group(localKey));
+        byte[] member = this.serialize(this.redisCacheConfiguration.getKeyPrefixFor(this.cacheName) + localKey);
+        RedisConnection connection = this.redisConnectionFactory.getConnection();
+        try {
+            connection.openPipeline();
+            connection.sAdd(index, member);
+            if (!this.ttl.isZero() && !this.ttl.isNegative()) {
+                connection.pExpire(index, this.ttl.toMillis());
+            }
+            connection.closePipeline();
+        } finally {
+            connection.close();
+        }
+    }
+
+    public int evict(Collection<String> groups) {
+        RedisConnection connection = this.redisConnectionFactory.getConnection();
+        try {
+            return this.evict(connection, groups);
+        } finally {
+            connection.close();
+        }
+    }
+
+    // 묶음마다 기록된 key 를 pipeline 으로 읽고 set 과 함께 한 번에 삭제, 삭제한 캐시 key 수를 반환
+    public int evict(RedisConnection connection, Collection<String> groups) {
+        if (groups.isEmpty()) {
+            return 0;
+        }
+        List<byte[]> indexes = new ArrayList<>(groups.size());
+        for (String group : groups) {
+            indexes.add(this.indexKey(group));
+        }
+
+        connection.openPipeline();
+        for (byte[] index : indexes) {
+            connection.sMembers(index);
+        }
+        List<Object> members = connection.closePipeline();
+
+        List<byte[]> stale = new ArrayList<>(indexes);
+        for (Object result : members) {
+            if (result instanceof Collection) {
+                for (Object member : (Collection<?>) result) {
+                    stale.add((byte[]) member);
+                }
+            }
+        }
+        connection.del(stale.toArray(new byte[0][]));
+        return stale.size() - indexes.size();
+    }
+
+    private byte[] indexKey(String group) {
+        return this.serialize(this.redisCacheConfiguration.getKeyPrefixFor(this.indexName) + group);
+    }
+
+    private byte[] serialize(String key) {
+        return ByteUtils.getBytes(this.redisCacheConfiguration.getKeySerializationPair().write(key));
+    }
+
+    private static String group(String key) {
+        int end = key.indexOf(':');
+        return end < 0 ? key : key.substring(0, end);
+    }
+}
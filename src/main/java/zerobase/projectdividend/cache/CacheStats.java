@@ -0,0 +1,69 @@
+package zerobase.projectdividend.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// 캐시 단계(L1, L2)별 hit / miss 횟수
+public class CacheStats {
+
+    private final LongAdder l1Hits = new LongAdder();
+    private final LongAdder l1Misses = new LongAdder();
+    private final LongAdder l2Hits = new LongAdder();
+    private final LongAdder l2Misses = new LongAdder();
+    // 원본을 읽은 횟수, 다른 스레드가 읽는 중이라 결과를 같이 사용한 횟수
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    // 만료 전에 비동기로 다시 읽도록 예약한 횟수
+    private final LongAdder refreshes = new LongAdder();
+
+    void recordL1(boolean hit) {
+        (hit ? this.l1Hits : this.l1Misses).increment();
+    }
+
+    void recordL2(boolean hit) {
+        (hit ? this.l2Hits : this.l2Misses).increment();
+    }
+
+    void recordLoad(boolean coalesced) {
+        (coalesced ? this.coalesced : this.loads).increment();
+    }
+
+    void recordRefresh() {
+        this.refreshes.increment();
+    }
+
+    public long getL1Hits() {
+        return this.l1Hits.sum();
+    }
+
+    public long getL1Misses() {
+        return this.l1Misses.sum();
+    }
+
+    public long getL2Hits() {
+        return this.l2Hits.sum();
+    }
+
+    public long getL2Misses() {
+        return this.l2Misses.sum();
+    }
+
+    public long getLoads() {
+        return this.loads.sum();
+    }
+
+    public long getCoalesced() {
+        return this.coalesced.sum();
+    }
+
+    public long getRefreshes() {
+        return this.refreshes.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "l1 hit/miss: " + this.getL1Hits() + "/" + this.getL1Misses()
+                + ", l2 hit/miss: " + this.getL2Hits() + "/" + this.getL2Misses()
+                + ", loads: " + this.getLoads() + ", coalesced: " + this.getCoalesced()
+                + ", refreshes: " + this.getRefreshes();
+    }
+}
@@ -0,0 +1,45 @@
+package zerobase.projectdividend.cache;
+
+import java.time.Duration;
+import java.util.Map;
+
+// 캐시별 Redis(L2) 보관 시간과 refresh-ahead 구간
+// refresh-ahead : 남은 시간이 ttl * refreshAheadRatio 보다 적을 때 조회되면 기존 값으로 응답하고 비동기로 다시 읽음
+// -> 만료되는 순간 몰린 요청이 DB 를 기다리지 않음 (만료 전에 새 값으로 교체)
+public class CacheTtlPolicy {
+
+    private final Duration defaultTtl;
+    private final Map<String, Duration> ttls;
+    private final double refreshAheadRatio;
+
+    public CacheTtlPolicy(Duration defaultTtl, Map<String, Duration> ttls, double refreshAheadRatio) {
+        if (refreshAheadRatio < 0 || refreshAheadRatio >= 1) {
+            throw new IllegalArgumentException("refreshAheadRatio must be in [0, 1)");
+        }
+        this.defaultTtl = defaultTtl;
+        this.ttls = Map.copyOf(ttls);
+        this.refreshAheadRatio = refreshAheadRatio;
+    }
+
+    public Duration getDefaultTtl() {
+        return this.defaultTtl;
+    }
+
+    // 0 이면 만료 없음
+    public Duration ttlFor(String cacheName) {
+        return this.ttls.getOrDefault(cacheName, this.defaultTtl);
+    }
+
+    public Map<String, Duration> getTtls() {
+        return this.ttls;
+    }
+
+    // 만료가 없거나 refresh-ahead 를 사용하지 않으면 0
+    public Duration refreshAheadFor(String cacheName) {
+        Duration ttl = this.ttlFor(cacheName);
+        if (ttl.isZero() || ttl.isNegative() || this.refreshAheadRatio == 0) {
+            return Duration.ZERO;
+        }
+        return Duration.ofMillis((long) (ttl.toMillis() * this.refreshAheadRatio));
+    }
+}
@@ -0,0 +1,112 @@
+package zerobase.projectdividend.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// Redis CacheManager 의 캐시 작업을 RedisCacheGuard 로 감싸는 CacheManager
+// Redis 를 건너뛰면 조회는 miss 로 처리되어 L1 또는 DB 에서 응답
+public class GuardedCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final RedisCacheGuard guard;
+
+    private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public GuardedCacheManager(CacheManager delegate, RedisCacheGuard guard) {
+        this.delegate = delegate;
+        this.guard = guard;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = this.caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = this.delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return this.caches.computeIfAbsent(name, n -> new GuardedCache(target, this.guard));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return this.delegate.getCacheNames();
+    }
+
+    private static class GuardedCache implements Cache {
+        private final Cache target;
+        private final RedisCacheGuard guard;
+
+        GuardedCache(Cache target, RedisCacheGuard guard) {
+            this.target = target;
+            this.guard = guard;
+        }
+
+        @Override
+        public String getName() {
+            return this.target.getName();
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return this.target.getNativeCache();
+        }
+
+        @Override
+        public ValueWrapper get(Object key) {
+            return this.guard.execute(RedisCacheGuard.Operation.READ, () -> this.target.get(key), () -> null);
+        }
+
+        @Override
+        public <T> T get(Object key, Class<T> type) {
+            return this.guard.execute(RedisCacheGuard.Operation.READ, () -> this.target.get(key, type), () -> null);
+        }
+
+        // Redis 를 건너뛰면 저장하지 않고 원본에서 읽음
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            ValueWrapper value = this.get(key);
+            if (value != null) {
+                return (T) value.get();
+            }
+            T loaded;
+            try {
+                loaded = valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            this.put(key, loaded);
+            return loaded;
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            this.guard.run(RedisCacheGuard.Operation.WRITE, () -> this.target.put(key, value));
+        }
+
+        // Redis 를 건너뛰면 저장하지 않음 (기존 값이 없던 것으로 응답)
+        @Override
+        public ValueWrapper putIfAbsent(Object key, Object value) {
+            return this.guard.execute(RedisCacheGuard.Operation.WRITE, () -> this.target.putIfAbsent(key, value),
+                    () -> null);
+        }
+
+        @Override
+        public void evict(Object key) {
+            this.guard.run(RedisCacheGuard.Operation.EVICT, () -> this.target.evict(key));
+        }
+
+        @Override
+        public void clear() {
+            this.guard.run(RedisCacheGuard.Operation.EVICT, this.target::clear);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package zerobase.projectdividend.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// CacheKeyIndex 가 있는 캐시에 값을 저장하면 key 를 index 에도 기록하는 CacheManager
+// Redis CacheManager 바로 위에 두어 저장과 기록이 같은 RedisCacheGuard 작업 안에서 실행되도록 함
+public class IndexedCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final Map<String, CacheKeyIndex> indexes = new HashMap<>();
+
+    private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public IndexedCacheManager(CacheManager delegate, Collection<CacheKeyIndex> indexes) {
+        this.delegate = delegate;
+        indexes.forEach(index -> this.indexes.put(index.getCacheName(), index));
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache target = this.delegate.getCache(name);
+        CacheKeyIndex index = this.indexes.get(name);
+        if (target == null || index == null) {
+            return target;
+        }
+        return this.caches.computeIfAbsent(name, n -> new IndexedCache(target, index));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return this.delegate.getCacheNames();
+    }
+
+    private static class IndexedCache implements Cache {
+        private final Cache target;
+        private final CacheKeyIndex index;
+
+        IndexedCache(Cache target, CacheKeyIndex index) {
+            this.target = target;
+            this.index = index;
+        }
+
+        @Override
+        public String getName() {
+            return this.target.getName();
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return this.target.getNativeCache();
+        }
+
+        @Override
+        public ValueWrapper get(Object key) {
+            return this.target.get(key);
+        }
+
+        @Override
+        public <T> T get(Object key, Class<T> type) {
+            return this.target.get(key, type);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            ValueWrapper value = this.get(key);
+            if (value != null) {
+                return (T) value.get();
+            }
+            T loaded;
+            try {
+                loaded = valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            this.put(key, loaded);
+            return loaded;
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            this.target.put(key, value);
+            this.index.add(key);
+        }
+
+        @Override
+        public ValueWrapper putIfAbsent(Object key, Object value) {
+            ValueWrapper existing = this.target.putIfAbsent(key, value);
+            if (existing == null) {
+                this.index.add(key);
+            }
+            return existing;
+        }
+
+        @Override
+        public void evict(Object key) {
+            this.target.evict(key);
+        }
+
+        @Override
+        public void clear() {
+            this.target.clear();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package zerobase.projectdividend.cache;
+
+import java.time.Duration;
+
+// 캐시 miss 시 여러 노드 중 한 노드만 원본을 읽도록 하는 lock
+// lock 을 얻지 못한 노드는 waitTimeout 동안 L2 에 값이 저장되기를 기다렸다가, 그래도 없으면 직접 읽음
+public interface LoadLock {
+
+    // lock 을 얻으면 해제에 사용할 token, 다른 노드가 가지고 있으면 null
+    String tryLock(String key);
+
+    void unlock(String key, String token);
+
+    Duration getWaitTimeout();
+
+    // 노드 안에서만 요청을 합침 (SingleFlight)
+    static LoadLock none() {
+        return new LoadLock() {
+            @Override
+            public String tryLock(String key) {
+                return "";
+            }
+
+            @Override
+            public void unlock(String key, String token) {
+            }
+
+            @Override
+            public Duration getWaitTimeout() {
+                return Duration.ZERO;
+            }
+        };
+    }
+}
@@ -0,0 +1,95 @@
+package zerobase.projectdividend.cache;
+
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+// JVM 안에 두는 크기, 시간 제한이 있는 캐시 (L1)
+// - maxSize 를 넘으면 가장 오래 조회되지 않은 key 부터 제거 (LRU)
+// - ttl 이 지난 값은 조회할 때 제거 -> 다른 노드의 무효화 메시지를 놓쳐도 ttl 이후에는 L2 에서 다시 읽음
+public class LocalCache {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+
+    private final LinkedHashMap<String, Entry> entries;
+
+    public LocalCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, System::nanoTime);
+    }
+
+    LocalCache(int maxSize, Duration ttl, LongSupplier clock) {
+        if (maxSize <= 0 || ttl.isZero() || ttl.isNegative()) {
+            throw new IllegalArgumentException("maxSize and ttl must be positive");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+        // 조회 순서로 정렬 (가장 앞이 가장 오래 조회되지 않은 key)
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > LocalCache.this.maxSize;
+            }
+        };
+    }
+
+    // 없거나 만료되었으면 null
+    public synchronized Cache.ValueWrapper get(String key) {
+        Entry entry = this.entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (this.clock.getAsLong() - entry.expiresAt >= 0) {
+            this.entries.remove(key);
+            return null;
+        }
+        return entry.value;
+    }
+
+    public synchronized void put(String key, Cache.ValueWrapper value) {
+        this.entries.put(key, new Entry(value, this.clock.getAsLong() + this.ttlNanos));
+    }
+
+    // L2 에 남은 시간이 ttl 보다 짧으면 L2 와 같이 만료 (L2 에서 지워진 값을 L1 에서 계속 응답하지 않도록)
+    public synchronized void put(String key, Cache.ValueWrapper value, Duration remaining) {
+        long ttl = remaining == null ? this.ttlNanos : Math.min(this.ttlNanos, remaining.toNanos());
+        this.entries.put(key, new Entry(value, this.clock.getAsLong() + ttl));
+    }
+
+    public synchronized void evict(String key) {
+        this.entries.remove(key);
+    }
+
+    public synchronized void evictPrefix(String prefix) {
+        Iterator<String> keys = this.entries.keySet().iterator();
+        while (keys.hasNext()) {
+            if (keys.next().startsWith(prefix)) {
+                keys.remove();
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        this.entries.clear();
+    }
+
+    public synchronized int size() {
+        return this.entries.size();
+    }
+
+    private static class Entry {
+        private final Cache.ValueWrapper value;
+        private final long expiresAt;
+
+        Entry(Cache.ValueWrapper value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package zerobase.projectdividend.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import zerobase.projectdividend.scraper.CircuitBreaker;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// Redis 가 느리거나 죽어도 조회가 실패하지 않도록 Redis 작업을 감싸는 guard
+// - Redis 오류(DataAccessException)가 이어지면 circuit breaker 가 열려 한동안 Redis 를 호출하지 않음
+// - 호출하지 않았거나 실패한 작업은 fallback 결과로 대신함 (조회는 miss, 저장 / 삭제는 생략)
+// 건너뛴 작업 수는 종류별로 기록 (breaker 가 막은 횟수 / 실패한 횟수)
+@Slf4j
+public class RedisCacheGuard {
+
+    public enum Operation {
+        READ, WRITE, EVICT
+    }
+
+    private final CircuitBreaker circuitBreaker;
+
+    private final LongAdder[] rejected = newCounters();
+    private final LongAdder[] failed = newCounters();
+
+    public RedisCacheGuard(CircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    public <T> T execute(Operation operation, Supplier<T> action, Supplier<T> fallback) {
+        Optional<CircuitBreaker.Permit> permit = this.circuitBreaker.tryAcquire();
+        if (permit.isEmpty()) {
+            this.rejected[operation.ordinal()].increment();
+            return fallback.get();
+        }
+        try {
+            T result = action.get();
+            this.circuitBreaker.onSuccess(permit.get());
+            return result;
+        } catch (DataAccessException e) {
+            this.circuitBreaker.onFailure(permit.get());
+            this.failed[operation.ordinal()].increment();
+            log.warn("redis cache {} failed -> bypass ({})", operation, e.getMessage());
+            return fallback.get();
+        } catch (RuntimeException e) {
+            // Redis 는 응답했으므로 breaker 에는 성공으로 기록 (ex. 역직렬화 실패)
+            this.circuitBreaker.onSuccess(permit.get());
+            this.failed[operation.ordinal()].increment();
+            log.warn("redis cache {} failed -> bypass", operation, e);
+            return fallback.get();
+        }
+    }
+
+    public void run(Operation operation, Runnable action) {
+        this.execute(operation, () -> {
+            action.run();
+            return null;
+        }, () -> null);
+    }
+
+    // guard 밖에서 실패한 캐시 작업 (CacheErrorHandler)
+    public void recordFailure(Operation operation) {
+        this.failed[operation.ordinal()].increment();
+    }
+
+    public CircuitBreaker.State getState() {
+        return this.circuitBreaker.getState();
+    }
+
+    public long getRejected(Operation operation) {
+        return this.rejected[operation.ordinal()].sum();
+    }
+
+    public long getFailed(Operation operation) {
+        return this.failed[operation.ordinal()].sum();
+    }
+
+    public String summary() {
+        StringBuilder sb = new StringBuilder("state: ").append(this.getState());
+        for (Operation operation : Operation.values()) {
+            sb.append(", ").append(operation.name().toLowerCase()).append(" rejected/failed: ")
+                    .append(this.getRejected(operation)).append('/').append(this.getFailed(operation));
+        }
+        return sb.toString();
+    }
+
+    private static LongAdder[] newCounters() {
+        LongAdder[] counters = new LongAdder[Operation.values().length];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+        return counters;
+    }
+}
@@ -0,0 +1,77 @@
+package zerobase.projectdividend.cache;
+
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.types.Expiration;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+
+// SET NX PX 로 만든 노드 간 lock (key : lock::{캐시 이름}::{캐시 key})
+// 노드가 lock 을 가진 채 죽어도 ttl 이 지나면 풀림
+// Redis 를 건너뛰거나 오류로 lock 을 확인하지 못하면 lock 없이 읽음 (요청이 실패하지 않도록, RedisCacheGuard)
+public class RedisLoadLock implements LoadLock {
+
+    private static final String PREFIX = "lock::";
+
+    // 자신이 건 lock 만 해제 (ttl 이 지나 다른 노드가 다시 건 lock 은 지우지 않음)
+    private static final byte[] UNLOCK_SCRIPT = ("if redis.call('get', KEYS[1]) == ARGV[1] then "
+            + "return redis.call('del', KEYS[1]) else return 0 end").getBytes(StandardCharsets.UTF_8);
+
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final RedisCacheGuard redisCacheGuard;
+    private final Duration ttl;
+    private final Duration waitTimeout;
+
+    public RedisLoadLock(RedisConnectionFactory redisConnectionFactory, RedisCacheGuard redisCacheGuard,
+                         Duration ttl, Duration waitTimeout) {
+        this.redisConnectionFactory = redisConnectionFactory;
+        this.redisCacheGuard = redisCacheGuard;
+        this.ttl = ttl;
+        this.waitTimeout = waitTimeout;
+    }
+
+    @Override
+    public String tryLock(String key) {
+        String token = UUID.randomUUID().toString();
+        // 빈 token : lock 없이 읽음 (해제할 lock 도 없음)
+        return this.redisCacheGuard.execute(RedisCacheGuard.Operation.WRITE, () -> {
+            RedisConnection connection = this.redisConnectionFactory.getConnection();
+            try {
+                Boolean locked = connection.set(bytes(PREFIX + key), bytes(token),
+                        Expiration.from(this.ttl), RedisStringCommands.SetOption.SET_IF_ABSENT);
+                return Boolean.TRUE.equals(locked) ? token : null;
+            } finally {
+                connection.close();
+            }
+        }, () -> "");
+    }
+
+    @Override
+    public void unlock(String key, String token) {
+        if (token == null || token.isEmpty()) {
+            return;
+        }
+        // 해제하지 못해도 ttl 이 지나면 풀림
+        this.redisCacheGuard.run(RedisCacheGuard.Operation.EVICT, () -> {
+            RedisConnection connection = this.redisConnectionFactory.getConnection();
+            try {
+                connection.eval(UNLOCK_SCRIPT, ReturnType.INTEGER, 1, bytes(PREFIX + key), bytes(token));
+            } finally {
+                connection.close();
+            }
+        });
+    }
+
+    @Override
+    public Duration getWaitTimeout() {
+        return this.waitTimeout;
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+}
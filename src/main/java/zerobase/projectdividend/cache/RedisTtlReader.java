@@ -0,0 +1,59 @@
+package zerobase.projectdividend.cache;
+
+import org.springframework.cache.support.NullValue;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.util.ByteUtils;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+
+// RedisCache 에 저장된 값과 남은 시간을 GET + PTTL pipeline 으로 한 번에 읽음
+// (key, 값은 @Cacheable 과 같은 prefix, 직렬화 방식) -> L2 hit 마다 Redis 요청은 한 번
+// Redis 를 건너뛰거나 실패하면 RedisCacheGuard 가 miss 로 처리
+public class RedisTtlReader implements TtlReader {
+
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final RedisCacheConfiguration redisCacheConfiguration;
+    private final RedisCacheGuard redisCacheGuard;
+
+    public RedisTtlReader(RedisConnectionFactory redisConnectionFactory, RedisCacheConfiguration redisCacheConfiguration,
+                          RedisCacheGuard redisCacheGuard) {
+        this.redisConnectionFactory = redisConnectionFactory;
+        this.redisCacheConfiguration = redisCacheConfiguration;
+        this.redisCacheGuard = redisCacheGuard;
+    }
+
+    @Override
+    public TimedValue read(String cacheName, Object key) {
+        byte[] redisKey = ByteUtils.getBytes(this.redisCacheConfiguration.getKeySerializationPair()
+                .write(this.redisCacheConfiguration.getKeyPrefixFor(cacheName) + key));
+        return this.redisCacheGuard.execute(RedisCacheGuard.Operation.READ, () -> this.read(redisKey), () -> null);
+    }
+
+    private TimedValue read(byte[] redisKey) {
+        List<Object> results;
+        RedisConnection connection = this.redisConnectionFactory.getConnection();
+        try {
+            connection.openPipeline();
+            connection.get(redisKey);
+            connection.pTtl(redisKey);
+            results = connection.closePipeline();
+        } finally {
+            connection.close();
+        }
+
+        byte[] bytes = (byte[]) results.get(0);
+        if (bytes == null) {
+            return null;
+        }
+        Object value = this.redisCacheConfiguration.getValueSerializationPair().read(ByteBuffer.wrap(bytes));
+        Long millis = (Long) results.get(1);
+        // -1 : 만료 없음, -2 : 그 사이 만료된 key
+        return new TimedValue(new SimpleValueWrapper(value instanceof NullValue ? null : value),
+                millis == null || millis < 0 ? null : Duration.ofMillis(millis));
+    }
+}
@@ -0,0 +1,90 @@
+package zerobase.projectdividend.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 만료가 가까운 캐시 값을 조회할 때 비동기로 다시 읽어 L2 를 교체
+// 같은 key 는 다시 읽는 중이면 한 번만 실행, 실행할 스레드가 모두 바쁘면 건너뜀 (만료되면 조회할 때 읽음)
+@Slf4j
+public class RefreshAhead {
+
+    private final CacheTtlPolicy ttlPolicy;
+    private final TtlReader ttlReader;
+    private final Executor executor;
+
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    public RefreshAhead(CacheTtlPolicy ttlPolicy, TtlReader ttlReader, int threads, int queueCapacity) {
+        this(ttlPolicy, ttlReader, newExecutor(threads, queueCapacity));
+    }
+
+    RefreshAhead(CacheTtlPolicy ttlPolicy, TtlReader ttlReader, Executor executor) {
+        this.ttlPolicy = ttlPolicy;
+        this.ttlReader = ttlReader;
+        this.executor = executor;
+    }
+
+    // 대기열이 가득 차면 바로 거절 (조회하는 스레드가 기다리지 않도록)
+    private static Executor newExecutor(int threads, int queueCapacity) {
+        AtomicInteger seq = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "cache-refresh-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    public static RefreshAhead disabled() {
+        return new RefreshAhead(null, null, null);
+    }
+
+    public boolean isEnabled(String cacheName) {
+        return this.ttlPolicy != null && !this.ttlPolicy.refreshAheadFor(cacheName).isZero();
+    }
+
+    // L2 의 값과 남은 시간 (사용하는 캐시만 호출, 없는 key 거나 읽지 못하면 null)
+    public TtlReader.TimedValue read(String cacheName, Object key) {
+        return this.ttlReader.read(cacheName, key);
+    }
+
+    public boolean isDue(String cacheName, Duration remaining) {
+        return remaining != null && remaining.compareTo(this.ttlPolicy.refreshAheadFor(cacheName)) < 0;
+    }
+
+    // 다시 읽도록 예약했으면 true
+    public boolean submit(String id, Runnable reload) {
+        if (!this.refreshing.add(id)) {
+            return false;
+        }
+        try {
+            this.executor.execute(() -> {
+                try {
+                    reload.run();
+                } catch (RuntimeException e) {
+                    // 기존 값은 만료될 때까지 그대로 사용
+                    log.warn("fail to refresh cache ahead -> {}", id, e);
+                } finally {
+                    this.refreshing.remove(id);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            this.refreshing.remove(id);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package zerobase.projectdividend.cache;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import zerobase.projectdividend.model.Company;
+import zerobase.projectdividend.model.Dividend;
+import zerobase.projectdividend.model.ScrapedResult;
+
+import java.math.BigDecimal;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+// finance 캐시 값(ScrapedResult)을 JSON 대신 작은 바이너리로 저장하는 serializer
+// [header] marker(byte) version(byte) flags(byte, bit0 = deflate 압축)
+//          압축했으면 압축 전 body 크기(varint) 가 이어짐
+// [body]   ticker(string) name(string) count(varint)
+//          dividend : dateDelta(zigzag varlong) scale(varint) unscaled(zigzag varlong) -> count 개
+//          dateDelta = 이전 배당일과의 차이(일), 첫 배당일은 epochDay 그대로
+// string = UTF-8 byte 길이 + 1 (varint, 0 이면 null) + byte
+// -> @class 타입 정보, ISO 날짜 문자열 없이 배당금 한 건이 보통 4~5 byte
+// ScrapedResult 가 아닌 값이나 이 형식으로 나타낼 수 없는 값(0시가 아닌 배당일 등)은 JSON serializer 로 저장
+// 읽을 때는 첫 byte 로 구분하므로 기존에 JSON 으로 저장된 캐시도 그대로 읽음
+public class ScrapedResultRedisSerializer implements RedisSerializer<Object> {
+
+    // JSON 은 이 byte 로 시작하지 않음 ({, [, ", 숫자, 공백 등)
+    static final byte MARKER = (byte) 0xDC;
+    static final byte VERSION = 1;
+
+    private static final int FLAG_DEFLATE = 1;
+    private static final int HEADER_SIZE = 3;
+
+    private final RedisSerializer<Object> fallback;
+    // body 가 이 크기(byte) 이상이면 압축 (0 이하면 압축하지 않음)
+    private final int compressThreshold;
+
+    public ScrapedResultRedisSerializer(RedisSerializer<Object> fallback, int compressThreshold) {
+        this.fallback = fallback;
+        this.compressThreshold = compressThreshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value instanceof ScrapedResult) {
+            byte[] body = encodeBody((ScrapedResult) value);
+            if (body != null) {
+                return this.frame(body);
+            }
+        }
+        return this.fallback.serialize(value);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0 || bytes[0] != MARKER) {
+            return this.fallback.deserialize(bytes);
+        }
+        try {
+            ByteBuffer in = ByteBuffer.wrap(bytes);
+            in.get();
+            byte version = in.get();
+            if (version != VERSION) {
+                throw new SerializationException("unsupported cache format version -> " + version);
+            }
+            int flags = in.get();
+            if ((flags & FLAG_DEFLATE) != 0) {
+                int size = Math.toIntExact(readVarLong(in));
+                in = ByteBuffer.wrap(inflate(bytes, in.position(), size));
+            }
+            ScrapedResult result = decodeBody(in);
+            if (in.hasRemaining()) {
+                throw new SerializationException("unexpected data after cache value");
+            }
+            return result;
+        } catch (BufferUnderflowException | IllegalArgumentException | ArithmeticException | DataFormatException e) {
+            throw new SerializationException("invalid cache value", e);
+        }
+    }
+
+    private byte[] frame(byte[] body) {
+        if (this.compressThreshold <= 0 || body.length < this.compressThreshold) {
+            Output out = new Output(HEADER_SIZE + body.length);
+            out.writeHeader(0);
+            out.write(body);
+            return out.toByteArray();
+        }
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setInput(body);
+            deflater.finish();
+            Output out = new Output(HEADER_SIZE + 5 + body.length / 2);
+            out.writeHeader(FLAG_DEFLATE);
+            out.writeVarLong(body.length);
+            byte[] chunk = new byte[4096];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(chunk);
+                out.write(chunk, n);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] bytes, int offset, int size) throws DataFormatException {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(bytes, offset, bytes.length - offset);
+            byte[] body = new byte[size];
+            int n = 0;
+            while (n < size) {
+                int read = inflater.inflate(body, n, size - n);
+                // 입력을 다 읽었거나 압축 데이터가 끝남
+                if (read == 0) {
+                    break;
+                }
+                n += read;
+            }
+            if (n != size) {
+                throw new DataFormatException("compressed cache value is truncated");
+            }
+            return body;
+        } finally {
+            inflater.end();
+        }
+    }
+
+    // 이 형식으로 나타낼 수 없으면 null
+    private static byte[] encodeBody(ScrapedResult result) {
+        List<Dividend> dividends = result.getDividends();
+        if (dividends == null) {
+            return null;
+        }
+        Company company = result.getCompany();
+        if (company == null) {
+            return null;
+        }
+
+        Output out = new Output(32 + dividends.size() * 5);
+        out.writeString(company.getTicker());
+        out.writeString(company.getName());
+        out.writeVarLong(dividends.size());
+        long lastDay = 0;
+        for (Dividend dividend : dividends) {
+            LocalDateTime date = dividend.getDate();
+            if (date == null || !date.toLocalTime().equals(LocalTime.MIDNIGHT) || dividend.getDividend() == null) {
+                return null;
+            }
+            BigDecimal amount;
+            try {
+                amount = new BigDecimal(dividend.getDividend());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+            // 읽을 때 toPlainString() 으로 같은 문자열이 나오는 경우만
+            if (amount.scale() < 0 || amount.unscaledValue().bitLength() > 63
+                    || !amount.toPlainString().equals(dividend.getDividend())) {
+                return null;
+            }
+            long day = date.toLocalDate().toEpochDay();
+            out.writeVarLong(zigzag(day - lastDay));
+            out.writeVarLong(amount.scale());
+            out.writeVarLong(zigzag(amount.unscaledValue().longValue()));
+            lastDay = day;
+        }
+        return out.toByteArray();
+    }
+
+    private static ScrapedResult decodeBody(ByteBuffer in) {
+        Company company = new Company(readString(in), readString(in));
+        int count = Math.toIntExact(readVarLong(in));
+        if (count > in.remaining()) {
+            throw new IllegalArgumentException("invalid dividend count -> " + count);
+        }
+        List<Dividend> dividends = new ArrayList<>(count);
+        long day = 0;
+        for (int i = 0; i < count; i++) {
+            day += unzigzag(readVarLong(in));
+            int scale = Math.toIntExact(readVarLong(in));
+            long unscaled = unzigzag(readVarLong(in));
+            dividends.add(new Dividend(LocalDate.ofEpochDay(day).atStartOfDay(),
+                    BigDecimal.valueOf(unscaled, scale).toPlainString()));
+        }
+        return new ScrapedResult(company, dividends);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("malformed varlong");
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = Math.toIntExact(readVarLong(in));
+        if (length == 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length - 1];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long zigzag(long v) {
+        return (v << 1) ^ (v >> 63);
+    }
+
+    private static long unzigzag(long v) {
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    // 크기가 늘어나는 byte 배열
+    private static class Output {
+        private byte[] buf;
+        private int size;
+
+        Output(int capacity) {
+            this.buf = new byte[Math.max(16, capacity)];
+        }
+
+        void writeHeader(int flags) {
+            this.writeByte(MARKER);
+            this.writeByte(VERSION);
+            this.writeByte(flags);
+        }
+
+        void writeByte(int b) {
+            this.ensure(1);
+            this.buf[this.size++] = (byte) b;
+        }
+
+        void write(byte[] bytes) {
+            this.write(bytes, bytes.length);
+        }
+
+        void write(byte[] bytes, int length) {
+            this.ensure(length);
+            System.arraycopy(bytes, 0, this.buf, this.size, length);
+            this.size += length;
+        }
+
+        void writeVarLong(long v) {
+            while ((v & ~0x7FL) != 0) {
+                this.writeByte((int) ((v & 0x7F) | 0x80));
+                v >>>= 7;
+            }
+            this.writeByte((int) v);
+        }
+
+        void writeString(String s) {
+            if (s == null) {
+                this.writeVarLong(0);
+                return;
+            }
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            this.writeVarLong(bytes.length + 1L);
+            this.write(bytes);
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(this.buf, this.size);
+        }
+
+        private void ensure(int n) {
+            if (this.size + n > this.buf.length) {
+                this.buf = Arrays.copyOf(this.buf, Math.max(this.buf.length * 2, this.size + n));
+            }
+        }
+    }
+}
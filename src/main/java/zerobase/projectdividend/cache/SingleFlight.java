@@ -0,0 +1,66 @@
+package zerobase.projectdividend.cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+// 같은 key 를 동시에 읽으면 처음 요청한 스레드만 loader 를 실행하고 나머지는 그 결과를 같이 사용
+// -> 인기 회사의 캐시가 지워진 직후 몰린 요청이 각자 DB 를 조회하지 않음 (cache stampede 방지)
+// 결과를 보관하지는 않으므로 loader 가 끝난 뒤에 들어온 요청은 다시 실행 (보관은 캐시가 담당)
+public class SingleFlight {
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    // 다른 스레드가 이미 실행 중이면 true 를 전달
+    public interface Listener {
+        void onExecute(boolean coalesced);
+    }
+
+    private final Listener listener;
+
+    public SingleFlight() {
+        this(coalesced -> {
+        });
+    }
+
+    public SingleFlight(Listener listener) {
+        this.listener = listener;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Callable<T> loader) throws Exception {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = this.inFlight.putIfAbsent(key, mine);
+        this.listener.onExecute(running != null);
+        if (running != null) {
+            try {
+                return (T) running.get();
+            } catch (ExecutionException e) {
+                // loader 를 실행한 스레드와 같은 예외를 던짐
+                Throwable cause = e.getCause();
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw (Exception) cause;
+            }
+        }
+
+        try {
+            T value = loader.call();
+            mine.complete(value);
+            return value;
+        } catch (Throwable e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.inFlight.remove(key, mine);
+        }
+    }
+
+    // 실행 중인 key 수
+    public int size() {
+        return this.inFlight.size();
+    }
+}
@@ -0,0 +1,22 @@
+package zerobase.projectdividend.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+
+// L2 에 저장된 값과 남은 보관 시간을 한 번에 읽음
+public interface TtlReader {
+
+    // 없는 key 거나 읽지 못하면 null
+    TimedValue read(String cacheName, Object key);
+
+    @Getter
+    @AllArgsConstructor
+    class TimedValue {
+        private final Cache.ValueWrapper value;
+        // 만료가 없거나 확인하지 못하면 null
+        private final Duration remaining;
+    }
+}
@@ -0,0 +1,236 @@
+package zerobase.projectdividend.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+
+// JVM 안의 L1(LocalCache) 뒤에 Redis 캐시(L2)를 두는 캐시
+// 조회 : L1 -> L2 -> 원본 순서로 찾고, L2 나 원본에서 읽은 값은 L1 에도 저장
+// 변경 : L2 를 먼저 바꾸고 L1 에서 지운 뒤, 다른 노드도 L1 에서 지우도록 무효화 메시지를 보냄
+// -> 자주 조회되는 회사는 Redis 까지 가지 않고 응답, 다른 노드의 변경은 메시지(놓치면 L1 ttl) 이후 반영
+// @Cacheable(sync = true) 의 miss 는 key 마다 한 번만 원본을 읽음 (노드 안은 SingleFlight, 노드 간은 LoadLock)
+// @Cacheable(sync = true) 로 만료가 가까운 L2 값을 조회하면 그 값으로 응답하고 비동기로 다시 읽음 (RefreshAhead)
+public class TwoLevelCache implements Cache {
+
+    // 다른 노드가 원본을 읽는 동안 L2 를 확인하는 간격
+    private static final long LOCK_POLL_MILLIS = 20;
+
+    private final String name;
+    private final Cache l2;
+    private final LocalCache l1;
+    private final CacheStats stats = new CacheStats();
+    private final SingleFlight singleFlight = new SingleFlight(this.stats::recordLoad);
+    private final LoadLock loadLock;
+    private final RefreshAhead refreshAhead;
+
+    private final String nodeId;
+    private final Consumer<CacheInvalidation> publisher;
+
+    public TwoLevelCache(Cache l2, LocalCache l1, LoadLock loadLock, RefreshAhead refreshAhead, String nodeId,
+                         Consumer<CacheInvalidation> publisher) {
+        this.name = l2.getName();
+        this.l2 = l2;
+        this.l1 = l1;
+        this.loadLock = loadLock;
+        this.refreshAhead = refreshAhead;
+        this.nodeId = nodeId;
+        this.publisher = publisher;
+    }
+
+    public CacheStats getStats() {
+        return this.stats;
+    }
+
+    public LocalCache getLocalCache() {
+        return this.l1;
+    }
+
+    @Override
+    public String getName() {
+        return this.name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this.l2.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return this.lookup(key, null);
+    }
+
+    // valueLoader 가 있으면 만료가 가까운 L2 값을 비동기로 다시 읽음
+    private ValueWrapper lookup(Object key, Callable<?> valueLoader) {
+        String localKey = localKey(key);
+        ValueWrapper value = this.l1.get(localKey);
+        this.stats.recordL1(value != null);
+        if (value != null) {
+            return value;
+        }
+
+        // refresh-ahead 를 사용하는 캐시는 값과 남은 시간을 한 번에 읽음 (L2 요청 한 번)
+        Duration remaining = null;
+        if (this.refreshAhead.isEnabled(this.name)) {
+            TtlReader.TimedValue timed = this.refreshAhead.read(this.name, localKey);
+            value = timed == null ? null : timed.getValue();
+            remaining = timed == null ? null : timed.getRemaining();
+        } else {
+            value = this.l2.get(key);
+        }
+        this.stats.recordL2(value != null);
+        if (value != null) {
+            // L1 은 L2 보다 늦게 만료되지 않도록 남은 시간 이내로 보관
+            this.l1.put(localKey, value, remaining);
+            if (valueLoader != null && this.refreshAhead.isDue(this.name, remaining)
+                    && this.refreshAhead.submit(this.name + "::" + localKey, () -> this.reload(key, localKey, valueLoader))) {
+                this.stats.recordRefresh();
+            }
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = this.get(key);
+        if (value == null || value.get() == null) {
+            return null;
+        }
+        if (type != null && !type.isInstance(value.get())) {
+            throw new IllegalStateException("cached value is not of required type [" + type.getName() + "]: " + value.get());
+        }
+        return (T) value.get();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper value = this.lookup(key, valueLoader);
+        if (value != null) {
+            return (T) value.get();
+        }
+        String localKey = localKey(key);
+        try {
+            return this.singleFlight.execute(localKey, () -> this.load(key, localKey, valueLoader));
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    // key 마다 노드 안에서 한 스레드만 실행
+    @SuppressWarnings("unchecked")
+    private <T> T load(Object key, String localKey, Callable<T> valueLoader) throws Exception {
+        // 앞서 실행한 스레드가 방금 끝낸 경우
+        ValueWrapper local = this.l1.get(localKey);
+        if (local != null) {
+            return (T) local.get();
+        }
+
+        String lockKey = this.name + "::" + localKey;
+        String token = this.loadLock.tryLock(lockKey);
+        if (token == null) {
+            // 다른 노드가 읽는 중이면 L2 에 저장될 때까지 기다림
+            ValueWrapper stored = this.awaitL2(key);
+            if (stored != null) {
+                this.l1.put(localKey, stored);
+                return (T) stored.get();
+            }
+        }
+        try {
+            T loaded = valueLoader.call();
+            this.l2.put(key, loaded);
+            this.l1.put(localKey, new SimpleValueWrapper(loaded));
+            return loaded;
+        } finally {
+            if (token != null) {
+                this.loadLock.unlock(lockKey, token);
+            }
+        }
+    }
+
+    // 새 값으로 L2 를 교체하고 다른 노드의 L1 에서 기존 값을 지움
+    private void reload(Object key, String localKey, Callable<?> valueLoader) {
+        try {
+            this.singleFlight.execute(localKey, () -> {
+                Object loaded = valueLoader.call();
+                this.l2.put(key, loaded);
+                this.l1.put(localKey, new SimpleValueWrapper(loaded));
+                this.publish(CacheInvalidation.Type.EVICT, localKey);
+                return loaded;
+            });
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    private ValueWrapper awaitL2(Object key) throws InterruptedException {
+        long deadline = System.nanoTime() + this.loadLock.getWaitTimeout().toNanos();
+        while (System.nanoTime() < deadline) {
+            Thread.sleep(LOCK_POLL_MILLIS);
+            ValueWrapper value = this.l2.get(key);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        this.l2.put(key, value);
+        this.l1.evict(localKey(key));
+        this.publish(CacheInvalidation.Type.EVICT, localKey(key));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = this.l2.putIfAbsent(key, value);
+        if (existing == null) {
+            this.l1.evict(localKey(key));
+            this.publish(CacheInvalidation.Type.EVICT, localKey(key));
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        this.l2.evict(key);
+        this.l1.evict(localKey(key));
+        this.publish(CacheInvalidation.Type.EVICT, localKey(key));
+    }
+
+    @Override
+    public void clear() {
+        this.l2.clear();
+        this.l1.clear();
+        this.publish(CacheInvalidation.Type.CLEAR, null);
+    }
+
+    // 무효화 메시지를 이 노드의 L1 에만 반영 (L2 는 보낸 쪽에서 이미 바뀜)
+    void applyLocal(CacheInvalidation invalidation) {
+        switch (invalidation.getType()) {
+            case EVICT:
+                this.l1.evict(invalidation.getKey());
+                break;
+            case EVICT_PREFIX:
+                this.l1.evictPrefix(invalidation.getKey());
+                break;
+            case CLEAR:
+                this.l1.clear();
+                break;
+        }
+    }
+
+    void publish(CacheInvalidation.Type type, String key) {
+        this.publisher.accept(new CacheInvalidation(this.nodeId, this.name, type, key));
+    }
+
+    // 캐시 key 는 문자열 (@Cacheable 의 key 식), 메시지로 주고받을 수 있도록 문자열로 통일
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
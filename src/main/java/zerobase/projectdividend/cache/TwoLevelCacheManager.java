@@ -0,0 +1,140 @@
+package zerobase.projectdividend.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// Redis CacheManager(L2) 의 캐시마다 L1 을 붙인 TwoLevelCache 를 만들어 주는 CacheManager
+// 노드마다 임의의 id 를 두고, 무효화 메시지는 보낸 노드를 제외한 노드의 L1 에만 반영
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final CacheManager l2;
+    private final int localMaxSize;
+    private final Duration localTtl;
+    private final Consumer<CacheInvalidation> publisher;
+    private final LoadLock loadLock;
+    private final RefreshAhead refreshAhead;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+    // 다른 노드의 무효화 메시지를 L1 외의 노드 메모리(ex. 배당금 series)에도 반영
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    public TwoLevelCacheManager(CacheManager l2, int localMaxSize, Duration localTtl,
+                                Consumer<CacheInvalidation> publisher) {
+        this(l2, localMaxSize, localTtl, publisher, LoadLock.none(), RefreshAhead.disabled());
+    }
+
+    public TwoLevelCacheManager(CacheManager l2, int localMaxSize, Duration localTtl,
+                                Consumer<CacheInvalidation> publisher, LoadLock loadLock, RefreshAhead refreshAhead) {
+        this.l2 = l2;
+        this.localMaxSize = localMaxSize;
+        this.localTtl = localTtl;
+        this.publisher = publisher;
+        this.loadLock = loadLock;
+        this.refreshAhead = refreshAhead;
+    }
+
+    public String getNodeId() {
+        return this.nodeId;
+    }
+
+    public void addInvalidationListener(Consumer<CacheInvalidation> listener) {
+        this.listeners.add(listener);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoLevelCache cache = this.caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache l2Cache = this.l2.getCache(name);
+        if (l2Cache == null) {
+            return null;
+        }
+        return this.caches.computeIfAbsent(name, n -> new TwoLevelCache(l2Cache,
+                new LocalCache(this.localMaxSize, this.localTtl), this.loadLock, this.refreshAhead,
+                this.nodeId, this::publish));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return this.l2.getCacheNames();
+    }
+
+    // 다른 노드가 보낸 무효화 메시지 (Redis pub/sub)
+    public void onInvalidation(CacheInvalidation invalidation) {
+        if (this.nodeId.equals(invalidation.getOrigin())) {
+            return;
+        }
+        TwoLevelCache cache = this.caches.get(invalidation.getCacheName());
+        // 이 노드에서 아직 쓰지 않은 캐시면 L1 에도 없음
+        if (cache != null) {
+            cache.applyLocal(invalidation);
+        }
+        for (Consumer<CacheInvalidation> listener : this.listeners) {
+            try {
+                listener.accept(invalidation);
+            } catch (RuntimeException e) {
+                log.warn("fail to handle cache invalidation -> {}", invalidation, e);
+            }
+        }
+    }
+
+    // 캐시를 거치지 않고 Redis 를 직접 바꾼 경우 (FinanceCacheRefresher) 모든 노드의 L1 에서 지움
+    public void invalidate(String cacheName, String key) {
+        this.invalidateAll(new CacheInvalidation(this.nodeId, cacheName, CacheInvalidation.Type.EVICT, key));
+    }
+
+    public void invalidatePrefix(String cacheName, String prefix) {
+        this.invalidateAll(new CacheInvalidation(this.nodeId, cacheName, CacheInvalidation.Type.EVICT_PREFIX, prefix));
+    }
+
+    // 캐시별 단계(L1, L2) hit / miss
+    public Map<String, CacheStats> getStats() {
+        Map<String, CacheStats> stats = new TreeMap<>();
+        this.caches.forEach((name, cache) -> stats.put(name, cache.getStats()));
+        return stats;
+    }
+
+    public String summary() {
+        StringBuilder sb = new StringBuilder();
+        this.getStats().forEach((name, stats) -> {
+            if (sb.length() > 0) {
+                sb.append(" | ");
+            }
+            sb.append(name).append(" (").append(stats).append(')');
+        });
+        return sb.toString();
+    }
+
+    private void invalidateAll(CacheInvalidation invalidation) {
+        TwoLevelCache cache = this.caches.get(invalidation.getCacheName());
+        if (cache != null) {
+            cache.applyLocal(invalidation);
+        }
+        this.publish(invalidation);
+    }
+
+    private void publish(CacheInvalidation invalidation) {
+        try {
+            this.publisher.accept(invalidation);
+        } catch (RuntimeException e) {
+            // 메시지를 보내지 못해도 다른 노드의 L1 은 ttl 이 지나면 L2 에서 다시 읽음
+            log.warn("fail to publish cache invalidation -> {}", invalidation, e);
+        }
+    }
+}
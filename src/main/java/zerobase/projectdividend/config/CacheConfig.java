@@ -1,22 +1,53 @@
 package zerobase.projectdividend.config;
 
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurerSupport;
+import org.springframework.cache.interceptor.CacheErrorHandler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import zerobase.projectdividend.cache.BypassCacheErrorHandler;
+import zerobase.projectdividend.cache.CacheFormat;
+import zerobase.projectdividend.cache.CacheInvalidation;
+import zerobase.projectdividend.cache.CacheKeyIndex;
+import zerobase.projectdividend.cache.CacheTtlPolicy;
+import zerobase.projectdividend.cache.GuardedCacheManager;
+import zerobase.projectdividend.cache.IndexedCacheManager;
+import zerobase.projectdividend.cache.LoadLock;
+import zerobase.projectdividend.cache.RedisCacheGuard;
+import zerobase.projectdividend.cache.RedisLoadLock;
+import zerobase.projectdividend.cache.RedisTtlReader;
+import zerobase.projectdividend.cache.RefreshAhead;
+import zerobase.projectdividend.cache.ScrapedResultRedisSerializer;
+import zerobase.projectdividend.cache.TwoLevelCacheManager;
+import zerobase.projectdividend.model.constants.CacheKey;
+import zerobase.projectdividend.scraper.CircuitBreaker;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Configuration
 @RequiredArgsConstructor
-public class CacheConfig {
+public class CacheConfig extends CachingConfigurerSupport {
 
     @Value("${spring.redis.host}")
     private String host;
@@ -24,24 +55,168 @@ public class CacheConfig {
     @Value("${spring.redis.port}")
     private int port;
 
+    @Value("${cache.redis.command-timeout}")
+    private Duration commandTimeout;
+
+    @Value("${cache.redis.connect-timeout}")
+    private Duration connectTimeout;
+
+    @Value("${cache.redis.circuit-breaker.failure-threshold}")
+    private int failureThreshold;
+
+    @Value("${cache.redis.circuit-breaker.open-duration}")
+    private Duration openDuration;
+
+    @Value("${cache.redis.circuit-breaker.max-open-duration}")
+    private Duration maxOpenDuration;
+
+    @Value("${cache.local.max-size}")
+    private int localMaxSize;
+
+    @Value("${cache.local.ttl}")
+    private Duration localTtl;
+
+    @Value("${cache.invalidation-channel}")
+    private String invalidationChannel;
+
+    @Value("${cache.load-lock.enabled}")
+    private boolean loadLockEnabled;
+
+    @Value("${cache.load-lock.ttl}")
+    private Duration loadLockTtl;
+
+    @Value("${cache.load-lock.wait-timeout}")
+    private Duration loadLockWaitTimeout;
+
+    @Value("${cache.ttl.default}")
+    private Duration defaultTtl;
+
+    @Value("${cache.ttl.finance}")
+    private Duration financeTtl;
+
+    @Value("${cache.ttl.finance-range}")
+    private Duration financeRangeTtl;
+
+    @Value("${cache.refresh-ahead.ratio}")
+    private double refreshAheadRatio;
+
+    @Value("${cache.refresh-ahead.threads}")
+    private int refreshAheadThreads;
+
+    @Value("${cache.refresh-ahead.queue}")
+    private int refreshAheadQueue;
+
+    @Value("${cache.serializer.format}")
+    private CacheFormat cacheFormat;
+
+    @Value("${cache.serializer.compress-threshold}")
+    private int compressThreshold;
+
+    // Redis 가 응답하지 않으면 한동안 캐시 없이 조회 (L1 은 계속 사용)
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
-        RedisCacheConfiguration conf = RedisCacheConfiguration.defaultCacheConfig()
+    public RedisCacheGuard redisCacheGuard() {
+        return new RedisCacheGuard(new CircuitBreaker("redis-cache", this.failureThreshold, this.openDuration, this.maxOpenDuration));
+    }
+
+    // 캐시 작업이 실패해도 요청은 실패하지 않도록 원본 메서드로 처리
+    @Override
+    public CacheErrorHandler errorHandler() {
+        return new BypassCacheErrorHandler(this.redisCacheGuard());
+    }
+
+    // 캐시 값 직렬화 방식, 어느 형식이든 기존에 JSON 으로 저장된 값은 읽을 수 있음
+    @Bean
+    public RedisSerializer<Object> cacheValueSerializer() {
+        RedisSerializer<Object> json = new GenericJackson2JsonRedisSerializer();
+        if (this.cacheFormat == CacheFormat.JSON) {
+            return json;
+        }
+        return new ScrapedResultRedisSerializer(json, this.compressThreshold);
+    }
+
+    // 캐시 key prefix, 직렬화 방식
+    // 캐시를 직접 갱신하는 곳(FinanceCacheRefresher)도 같은 설정을 사용해야 @Cacheable 에서 읽을 수 있음
+    @Bean
+    public RedisCacheConfiguration redisCacheConfiguration(RedisSerializer<Object> cacheValueSerializer) {
+        return RedisCacheConfiguration.defaultCacheConfig()
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()));
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(cacheValueSerializer));
+    }
+
+    // 캐시별 Redis 보관 시간 (finance 는 스크래핑 후 갱신되므로 길게, 기간 조회는 지우기만 하므로 짧게)
+    @Bean
+    public CacheTtlPolicy cacheTtlPolicy() {
+        return new CacheTtlPolicy(this.defaultTtl,
+                Map.of(CacheKey.KEY_FINANCE, this.financeTtl, CacheKey.KEY_FINANCE_RANGE, this.financeRangeTtl),
+                this.refreshAheadRatio);
+    }
+
+    // 회사마다 기간 조회 캐시 key 를 기록 -> 배당금이 바뀐 회사의 기간 조회 캐시만 SCAN 없이 지움
+    @Bean
+    public CacheKeyIndex financeRangeKeyIndex(RedisConnectionFactory redisConnectionFactory, RedisCacheConfiguration redisCacheConfiguration,
+                                              CacheTtlPolicy cacheTtlPolicy) {
+        return new CacheKeyIndex(redisConnectionFactory, redisCacheConfiguration, CacheKey.KEY_FINANCE_RANGE,
+                CacheKey.KEY_FINANCE_RANGE_KEYS, cacheTtlPolicy.ttlFor(CacheKey.KEY_FINANCE_RANGE));
+    }
 
-        return RedisCacheManager.RedisCacheManagerBuilder
+    // L1(노드마다 메모리) + L2(Redis) 캐시, 변경은 pub/sub 으로 다른 노드의 L1 에서 지움
+    @Bean
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory, RedisCacheConfiguration redisCacheConfiguration,
+                                             CacheTtlPolicy cacheTtlPolicy, RedisCacheGuard redisCacheGuard,
+                                             CacheKeyIndex financeRangeKeyIndex) {
+        Map<String, RedisCacheConfiguration> configurations = new HashMap<>();
+        cacheTtlPolicy.getTtls().forEach((name, ttl) -> configurations.put(name, redisCacheConfiguration.entryTtl(ttl)));
+        CacheManager redisCacheManager = RedisCacheManager.RedisCacheManagerBuilder
                 .fromConnectionFactory(redisConnectionFactory)
-                .cacheDefaults(conf)
+                .cacheDefaults(redisCacheConfiguration.entryTtl(cacheTtlPolicy.getDefaultTtl()))
+                .withInitialCacheConfigurations(configurations)
                 .build();
+        CacheManager indexedCacheManager = new IndexedCacheManager(redisCacheManager, List.of(financeRangeKeyIndex));
+        CacheManager guardedCacheManager = new GuardedCacheManager(indexedCacheManager, redisCacheGuard);
+        byte[] channel = this.invalidationChannel.getBytes(StandardCharsets.UTF_8);
+        LoadLock loadLock = this.loadLockEnabled
+                ? new RedisLoadLock(redisConnectionFactory, redisCacheGuard, this.loadLockTtl, this.loadLockWaitTimeout)
+                : LoadLock.none();
+        RefreshAhead refreshAhead = new RefreshAhead(cacheTtlPolicy,
+                new RedisTtlReader(redisConnectionFactory, redisCacheConfiguration, redisCacheGuard),
+                this.refreshAheadThreads, this.refreshAheadQueue);
+        return new TwoLevelCacheManager(guardedCacheManager, this.localMaxSize, this.localTtl,
+                invalidation -> redisCacheGuard.run(RedisCacheGuard.Operation.EVICT, () -> {
+                    RedisConnection connection = redisConnectionFactory.getConnection();
+                    try {
+                        connection.publish(channel, invalidation.encode());
+                    } finally {
+                        connection.close();
+                    }
+                }), loadLock, refreshAhead);
     }
 
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListener(RedisConnectionFactory redisConnectionFactory,
+                                                                   TwoLevelCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener((message, pattern) -> cacheManager.onInvalidation(CacheInvalidation.decode(message.getBody())),
+                new ChannelTopic(this.invalidationChannel));
+        return container;
+    }
+
+    // 명령은 짧은 timeout 안에 끝나지 않으면 실패, 연결이 끊긴 동안의 명령은 쌓아두지 않고 바로 실패
+    // -> Redis 장애가 요청 지연으로 이어지지 않고 RedisCacheGuard 가 바로 캐시를 건너뜀
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
         RedisStandaloneConfiguration conf = new RedisStandaloneConfiguration();
         conf.setHostName(this.host);
         conf.setPort(this.port);
-        return new LettuceConnectionFactory(conf);
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+                .commandTimeout(this.commandTimeout)
+                .clientOptions(ClientOptions.builder()
+                        .socketOptions(SocketOptions.builder().connectTimeout(this.connectTimeout).build())
+                        .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                        .autoReconnect(true)
+                        .build())
+                .build();
+        return new LettuceConnectionFactory(conf, clientConfiguration);
     }
 
 }
@@ -0,0 +1,85 @@
+package zerobase.projectdividend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+import zerobase.projectdividend.scraper.CircuitBreaker;
+import zerobase.projectdividend.scraper.PageFetcher;
+import zerobase.projectdividend.scraper.PageSource;
+import zerobase.projectdividend.scraper.TokenBucketRateLimiter;
+import zerobase.projectdividend.scraper.archive.ArchiveMode;
+import zerobase.projectdividend.scraper.archive.ArchivePageSource;
+import zerobase.projectdividend.scraper.archive.PageArchive;
+
+import java.net.http.HttpClient;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+
+@Slf4j
+@Configuration
+public class ScrapConfig {
+
+    @Value("${scraper.http.connect-timeout}")
+    private Duration connectTimeout;
+
+    @Value("${scraper.http.request-timeout}")
+    private Duration requestTimeout;
+
+    @Value("${scraper.circuit-breaker.failure-threshold}")
+    private int failureThreshold;
+
+    @Value("${scraper.circuit-breaker.open-duration}")
+    private Duration openDuration;
+
+    @Value("${scraper.circuit-breaker.max-open-duration}")
+    private Duration maxOpenDuration;
+
+    @Value("${scraper.archive.mode}")
+    private ArchiveMode archiveMode;
+
+    @Value("${scraper.archive.dir}")
+    private String archiveDir;
+
+    @Value("${scraper.archive.replay-at:}")
+    private String replayAt;
+
+    // 모든 스크래퍼가 공유하는 HTTP 클라이언트
+    // -> 커넥션을 재사용(keep-alive, HTTP/2 multiplexing)해 회사마다 새로 연결하지 않음
+    @Bean
+    public HttpClient scrapHttpClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(this.connectTimeout)
+                .build();
+    }
+
+    // 스크래핑 대상 서버가 계속 실패하면 잠시 요청을 멈춤
+    @Bean
+    public CircuitBreaker scrapCircuitBreaker() {
+        return new CircuitBreaker("yahoo-finance", this.failureThreshold, this.openDuration, this.maxOpenDuration);
+    }
+
+    @Bean
+    public PageArchive pageArchive() {
+        return new PageArchive(Paths.get(this.archiveDir));
+    }
+
+    // 보관소 설정에 따라 네트워크 / 네트워크 + 기록 / 재생 중 하나로 페이지를 가져옴
+    @Bean
+    public PageSource pageSource(HttpClient scrapHttpClient, TokenBucketRateLimiter rateLimiter, PageArchive pageArchive) {
+        log.info("page archive mode -> {} ({})", this.archiveMode, this.archiveDir);
+        switch (this.archiveMode) {
+            case REPLAY:
+                Instant at = StringUtils.hasText(this.replayAt) ? Instant.parse(this.replayAt) : null;
+                return new ArchivePageSource(pageArchive, at);
+            case RECORD:
+                return new PageFetcher(scrapHttpClient, rateLimiter, this.requestTimeout, pageArchive);
+            default:
+                return new PageFetcher(scrapHttpClient, rateLimiter, this.requestTimeout, null);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package zerobase.projectdividend.exception.impl;
+
+import org.springframework.http.HttpStatus;
+import zerobase.projectdividend.exception.AbstractException;
+
+public class CircuitOpenException extends AbstractException {
+    @Override
+    public int getStatusCode() {
+        return HttpStatus.SERVICE_UNAVAILABLE.value();
+    }
+
+    @Override
+    public String getMessage() {
+        return "Scrap 대상 서버가 응답하지 않아 잠시 후 다시 시도해야 합니다.";
+    }
+}
@@ -0,0 +1,16 @@
+package zerobase.projectdividend.exception.impl;
+
+import org.springframework.http.HttpStatus;
+import zerobase.projectdividend.exception.AbstractException;
+
+public class InvalidDividendRangeException extends AbstractException {
+    @Override
+    public String getMessage() {
+        return "조회 기간 또는 개수가 올바르지 않습니다.";
+    }
+
+    @Override
+    public int getStatusCode() {
+        return HttpStatus.BAD_REQUEST.value();
+    }
+}
@@ -0,0 +1,6 @@
+package zerobase.projectdividend.exception.impl;
+
+// 스크래핑할 페이지가 없는 경우 (404, 잘못 입력한 ticker 등)
+// 사용자에게는 스크랩 실패로 응답하지만 서버 장애가 아니므로 circuit breaker 에 실패로 기록하지 않음
+public class PageNotFoundException extends FailToScrapException {
+}
@@ -0,0 +1,21 @@
+package zerobase.projectdividend.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+// 연도별 배당금 합계
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class AnnualDividend {
+
+    private int year;
+    private BigDecimal total;
+    private long count;
+
+}
@@ -0,0 +1,27 @@
+package zerobase.projectdividend.model;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 여러 회사를 한 번에 추가한 결과 (추가된 회사 목록과 실패한 ticker 별 사유)
+// 스크래핑 결과가 여러 스레드에서 동시에 기록되므로 synchronized 로 추가
+@Getter
+@ToString
+public class BulkRegistration {
+
+    private final List<Company> registered = new ArrayList<>();
+    private final Map<String, String> failed = new LinkedHashMap<>();
+
+    public synchronized void addRegistered(Company company) {
+        this.registered.add(company);
+    }
+
+    public synchronized void addFailed(String ticker, String reason) {
+        this.failed.put(ticker, reason);
+    }
+}
@@ -9,6 +9,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Data
@@ -22,4 +24,10 @@ public class Dividend {
     private LocalDateTime date;
     private String dividend;
 
+    // 저장된 배당일, 배당금을 응답 형식(배당일 0시, 소수점 아래 최소 2자리 문자열)으로 변환
+    public static Dividend of(LocalDate date, BigDecimal amount) {
+        BigDecimal stripped = amount.stripTrailingZeros();
+        return new Dividend(date.atStartOfDay(), stripped.setScale(Math.max(2, stripped.scale())).toPlainString());
+    }
+
 }
@@ -0,0 +1,61 @@
+package zerobase.projectdividend.model;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import zerobase.projectdividend.exception.impl.InvalidDividendRangeException;
+
+import java.time.LocalDate;
+
+// 배당금 조회 범위 (from ~ to 기간 안에서 최근 limit 개), 값이 없으면 제한 없음
+@Getter
+@ToString
+@EqualsAndHashCode
+public class DividendRange {
+
+    public static final int MAX_LIMIT = 500;
+
+    // 기간이 비어 있을 때 쿼리에 넘기는 경계값
+    private static final LocalDate MIN_DATE = LocalDate.of(1900, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
+    private final LocalDate from;
+    private final LocalDate to;
+    private final Integer limit;
+
+    private DividendRange(LocalDate from, LocalDate to, Integer limit) {
+        this.from = from;
+        this.to = to;
+        this.limit = limit;
+    }
+
+    public static DividendRange of(LocalDate from, LocalDate to, Integer limit) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new InvalidDividendRangeException();
+        }
+        if (limit != null && (limit <= 0 || limit > MAX_LIMIT)) {
+            throw new InvalidDividendRangeException();
+        }
+        return new DividendRange(from, to, limit);
+    }
+
+    // 범위 조건이 하나도 없으면 전체 이력 조회
+    public boolean isAll() {
+        return this.from == null && this.to == null && this.limit == null;
+    }
+
+    public LocalDate fromOrMin() {
+        return this.from == null ? MIN_DATE : this.from;
+    }
+
+    public LocalDate toOrMax() {
+        return this.to == null ? MAX_DATE : this.to;
+    }
+
+    // 캐시 key 의 범위 부분 (ex. 2020-01-01:2024-12-31:5, 없는 값은 빈 문자열)
+    public String cacheKey() {
+        return (this.from == null ? "" : this.from.toString()) + ":"
+                + (this.to == null ? "" : this.to.toString()) + ":"
+                + (this.limit == null ? "" : this.limit.toString());
+    }
+}
@@ -0,0 +1,22 @@
+package zerobase.projectdividend.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 마지막으로 스크래핑한 배당금 페이지 정보
+// -> 다음 요청에 조건부 헤더(ETag / Last-Modified)로 보내고, 표 내용이 같으면 파싱을 생략
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PageFingerprint {
+
+    private String url;
+    private String etag;
+    private String lastModified;
+
+    // 배당금 표(tbody) 내용의 SHA-256
+    private String hash;
+}
@@ -1,8 +1,10 @@
 package zerobase.projectdividend.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import zerobase.projectdividend.model.constants.ScrapMode;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -15,7 +17,24 @@ public class ScrapedResult {
     private Company company;
     private List<Dividend> dividends;
 
+    // 스크래핑에 사용한 페이지 종류 (응답/캐시에는 포함하지 않음)
+    @JsonIgnore
+    private ScrapMode mode;
+
+    // 이전 스크래핑과 배당금 표가 같아 파싱을 생략한 경우 (dividends 는 비어 있음)
+    @JsonIgnore
+    private boolean unchanged;
+
+    // 다음 스크래핑에서 비교할 페이지 정보
+    @JsonIgnore
+    private PageFingerprint fingerprint;
+
     public ScrapedResult() {
         this.dividends = new ArrayList<>();
     }
+
+    public ScrapedResult(Company company, List<Dividend> dividends) {
+        this.company = company;
+        this.dividends = dividends;
+    }
 }
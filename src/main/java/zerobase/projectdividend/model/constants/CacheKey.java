@@ -2,4 +2,10 @@ package zerobase.projectdividend.model.constants;
 
 public class CacheKey {
     public static final String KEY_FINANCE = "finance";
+    // 기간, 개수를 지정한 배당금 조회 (key : 회사 id:from:to:limit)
+    public static final String KEY_FINANCE_RANGE = "finance-range";
+    // 회사마다 저장된 기간 조회 캐시 key 목록 (key : 회사 id)
+    public static final String KEY_FINANCE_RANGE_KEYS = "finance-range-keys";
+    // 삭제한 회사 (key : 회사 id) - 캐시는 없고, 다른 노드의 메모리 색인, series 에서 지우는 무효화 메시지에만 사용
+    public static final String KEY_COMPANY = "company";
 }
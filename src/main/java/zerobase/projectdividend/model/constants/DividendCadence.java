@@ -0,0 +1,58 @@
+package zerobase.projectdividend.model.constants;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+
+// 저장된 배당일 간격으로 추정한 배당 주기
+public enum DividendCadence {
+    MONTHLY(30),
+    QUARTERLY(91),
+    SEMI_ANNUAL(182),
+    ANNUAL(365),
+    UNKNOWN(0);  // 배당 이력이 2건 미만인 경우
+
+    private final int days;
+
+    DividendCadence(int days) {
+        this.days = days;
+    }
+
+    public int getDays() {
+        return days;
+    }
+
+    // 날짜순으로 정렬된 배당일의 간격 중앙값과 가장 가까운 주기 (특별 배당처럼 튀는 간격의 영향을 줄임)
+    public static DividendCadence infer(List<LocalDate> sortedDates) {
+        if (sortedDates.size() < 2) {
+            return UNKNOWN;
+        }
+
+        long[] gaps = new long[sortedDates.size() - 1];
+        for (int i = 1; i < sortedDates.size(); i++) {
+            gaps[i - 1] = ChronoUnit.DAYS.between(sortedDates.get(i - 1), sortedDates.get(i));
+        }
+        Arrays.sort(gaps);
+        long median = gaps[gaps.length / 2];
+
+        DividendCadence nearest = UNKNOWN;
+        long nearestDiff = Long.MAX_VALUE;
+        for (DividendCadence cadence : values()) {
+            if (cadence == UNKNOWN) {
+                continue;
+            }
+            long diff = Math.abs(cadence.days - median);
+            if (diff < nearestDiff) {
+                nearest = cadence;
+                nearestDiff = diff;
+            }
+        }
+        return nearest;
+    }
+
+    // 마지막 배당일 다음으로 예상되는 배당일 (주기를 모르면 null)
+    public LocalDate nextAfter(LocalDate last) {
+        return this == UNKNOWN ? null : last.plusDays(this.days);
+    }
+}
@@ -15,6 +15,15 @@ public enum Month {
     NOV("Nov", 11),
     DEC("Dec", 12);
 
+    // 약어 세 글자를 5bit 씩 묶은 값 -> 월 번호 (대소문자 구분 없이 O(1) 조회)
+    private static final byte[] LOOKUP = new byte[1 << 15];
+
+    static {
+        for (Month m : Month.values()) {
+            LOOKUP[key(m.s.charAt(0), m.s.charAt(1), m.s.charAt(2))] = (byte) m.number;
+        }
+    }
+
     private String s;
     private int number;
 
@@ -24,12 +33,33 @@ public enum Month {
     }
 
     public static int stringToNumber(String s) {
-        for (var m : Month.values()) {
-            if (m.s.equals(s)) {
-                return m.number;
-            }
+        if (s == null || s.length() != 3) {
+            return -1;
+        }
+        return numberOf(s, 0);
+    }
+
+    // seq 의 offset 위치부터 세 글자를 월 약어로 읽어 번호를 반환 (없으면 -1)
+    public static int numberOf(CharSequence seq, int offset) {
+        if (offset < 0 || offset + 3 > seq.length()) {
+            return -1;
+        }
+        char c0 = seq.charAt(offset);
+        char c1 = seq.charAt(offset + 1);
+        char c2 = seq.charAt(offset + 2);
+        if (!isAsciiLetter(c0) || !isAsciiLetter(c1) || !isAsciiLetter(c2)) {
+            return -1;
         }
 
-        return -1;
+        int number = LOOKUP[key(c0, c1, c2)];
+        return number == 0 ? -1 : number;
+    }
+
+    private static int key(char c0, char c1, char c2) {
+        return ((c0 & 0x1F) << 10) | ((c1 & 0x1F) << 5) | (c2 & 0x1F);
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
     }
 }
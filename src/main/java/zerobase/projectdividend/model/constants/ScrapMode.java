@@ -0,0 +1,7 @@
+package zerobase.projectdividend.model.constants;
+
+// 배당금 정보를 어떤 페이지에서 스크래핑했는지
+public enum ScrapMode {
+    DIVIDEND_ONLY, // 배당금 이벤트만 있는 페이지
+    FULL_HISTORY   // 월별 주가 + 배당금이 섞인 전체 이력 페이지
+}
@@ -0,0 +1,134 @@
+package zerobase.projectdividend.persist.alias;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import zerobase.projectdividend.exception.impl.NoCompanyException;
+import zerobase.projectdividend.persist.entity.CompanyEntity;
+import zerobase.projectdividend.persist.repository.CompanyRepository;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// 회사명, ticker (앞뒤 공백, 대소문자 무관)로 회사를 찾는 메모리 색인
+// -> "Coca-Cola", "coca-cola", "KO" 모두 같은 회사 id 가 되어 finance 캐시를 회사 id 하나로 공유
+// 같은 문자열이 어떤 회사의 이름이면서 다른 회사의 ticker 이면 이름을 우선
+// 색인에 없으면 DB 에서 찾아 추가 (로딩 전이거나 다른 노드가 추가한 회사)
+// 다른 노드가 삭제한 회사는 무효화 메시지로 지움 (CompanyAliasSync)
+@Slf4j
+@Component
+public class CompanyAliasIndex implements SmartLifecycle {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CompanyRepository companyRepository;
+
+    private final ConcurrentMap<String, CompanyEntity> byName = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, CompanyEntity> byTicker = new ConcurrentHashMap<>();
+
+    private volatile boolean running;
+
+    public CompanyAliasIndex(JdbcTemplate jdbcTemplate, CompanyRepository companyRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.companyRepository = companyRepository;
+    }
+
+    public Optional<CompanyEntity> resolve(String alias) {
+        if (alias == null) {
+            return Optional.empty();
+        }
+        String key = normalize(alias);
+        CompanyEntity company = this.byName.get(key);
+        if (company == null) {
+            company = this.byTicker.get(key);
+        }
+        // 색인의 값을 호출한 쪽에서 바꾸지 않도록 복사해서 반환
+        if (company != null) {
+            return Optional.of(copy(company));
+        }
+
+        Optional<CompanyEntity> found = this.companyRepository.findFirstByNameIgnoreCase(alias.trim())
+                .or(() -> this.companyRepository.findFirstByTickerIgnoreCase(alias.trim()));
+        found.ifPresent(this::put);
+        return found.map(CompanyAliasIndex::copy);
+    }
+
+    // finance 캐시 key (@Cacheable 의 key 식에서 사용), 없는 회사면 NoCompanyException
+    public String cacheKey(String alias) {
+        return this.resolve(alias)
+                .map(company -> String.valueOf(company.getId()))
+                .orElseThrow(() -> new NoCompanyException());
+    }
+
+    public void put(CompanyEntity company) {
+        CompanyEntity copy = copy(company);
+        this.byName.put(normalize(company.getName()), copy);
+        this.byTicker.put(normalize(company.getTicker()), copy);
+    }
+
+    // 같은 이름, ticker 로 다시 추가된 회사는 지우지 않음
+    public void remove(CompanyEntity company) {
+        this.byName.computeIfPresent(normalize(company.getName()),
+                (k, v) -> v.getId().equals(company.getId()) ? null : v);
+        this.byTicker.computeIfPresent(normalize(company.getTicker()),
+                (k, v) -> v.getId().equals(company.getId()) ? null : v);
+    }
+
+    // 다른 노드에서 삭제한 회사 (회사 id 만 전달됨)
+    public void remove(Long companyId) {
+        this.byName.values().removeIf(company -> company.getId().equals(companyId));
+        this.byTicker.values().removeIf(company -> company.getId().equals(companyId));
+    }
+
+    public int size() {
+        return this.byTicker.size();
+    }
+
+    public synchronized void load() {
+        List<CompanyEntity> companies = this.jdbcTemplate.query("select id, ticker, name from company",
+                (rs, i) -> new CompanyEntity(rs.getLong("id"), rs.getString("ticker"), rs.getString("name")));
+        for (CompanyEntity company : companies) {
+            this.put(company);
+        }
+        log.info("company alias index loaded -> companies: {}", companies.size());
+    }
+
+    // snapshot 복원 이후, web server 가 시작되기 전에 로딩
+    @Override
+    public void start() {
+        try {
+            this.load();
+        } catch (RuntimeException e) {
+            // 로딩하지 못해도 조회할 때 DB 에서 찾음
+            log.error("fail to load company alias index", e);
+        }
+        this.running = true;
+    }
+
+    @Override
+    public void stop() {
+        this.running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return this.running;
+    }
+
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    private static String normalize(String alias) {
+        return alias.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // JPA 가 관리하는 entity 를 보관하지 않도록 값만 복사
+    private static CompanyEntity copy(CompanyEntity company) {
+        return new CompanyEntity(company.getId(), company.getTicker(), company.getName());
+    }
+}
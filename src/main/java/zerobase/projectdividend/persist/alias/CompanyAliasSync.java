@@ -0,0 +1,36 @@
+package zerobase.projectdividend.persist.alias;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import zerobase.projectdividend.cache.CacheInvalidation;
+import zerobase.projectdividend.cache.TwoLevelCacheManager;
+import zerobase.projectdividend.model.constants.CacheKey;
+
+import java.util.function.Consumer;
+
+// 다른 노드가 회사를 삭제하면 (company 무효화 메시지, key 는 회사 id) 이 노드의 별칭 색인에서도 지움
+// -> 삭제된 회사의 회사명, ticker 로 조회하면 다른 노드와 같이 없는 회사로 응답
+@Slf4j
+@Component
+public class CompanyAliasSync implements Consumer<CacheInvalidation> {
+
+    private final CompanyAliasIndex companyAliasIndex;
+
+    public CompanyAliasSync(TwoLevelCacheManager cacheManager, CompanyAliasIndex companyAliasIndex) {
+        this.companyAliasIndex = companyAliasIndex;
+        cacheManager.addInvalidationListener(this);
+    }
+
+    @Override
+    public void accept(CacheInvalidation invalidation) {
+        if (!CacheKey.KEY_COMPANY.equals(invalidation.getCacheName())
+                || invalidation.getType() != CacheInvalidation.Type.EVICT) {
+            return;
+        }
+        try {
+            this.companyAliasIndex.remove(Long.parseLong(invalidation.getKey()));
+        } catch (NumberFormatException e) {
+            log.warn("unknown company id -> {}", invalidation);
+        }
+    }
+}
@@ -4,7 +4,8 @@ import lombok.*;
 import zerobase.projectdividend.model.Dividend;
 
 import javax.persistence.*;
-import java.time.LocalDateTime;
+import java.math.BigDecimal;
+import java.time.LocalDate;
 
 @Entity(name = "DIVIDEND")
 @Getter
@@ -17,23 +18,41 @@ import java.time.LocalDateTime;
                 @UniqueConstraint(
                         columnNames = {"companyId", "date"}
                 )
+        },
+        // 회사별 기간 조회를 index 만 읽고 끝낼 수 있도록 배당금까지 포함
+        indexes = {
+                @Index(name = "ix_dividend_company_date", columnList = "companyId, date, dividend")
         }
 )
 public class DividendEntity {
 
+    // sequence 에서 한 번에 할당받는 id 수
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // IDENTITY 는 insert 마다 id 를 받아와야 해서 JDBC batch 가 불가능
+    // -> sequence 에서 50개씩 미리 할당받아 batch insert
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "dividend_seq")
+    @SequenceGenerator(name = "dividend_seq", sequenceName = "DIVIDEND_SEQ", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     private Long companyId;
 
-    private LocalDateTime date;
+    // 배당일 (시각 없이 날짜만 저장)
+    private LocalDate date;
 
-    private String dividend;
+    // 배당금 (문자열 대신 고정 소수점 숫자로 저장해 DB 에서 합계, 정렬 가능)
+    @Column(precision = 19, scale = 6)
+    private BigDecimal dividend;
 
     public DividendEntity(Long companyId, Dividend dividend) {
         this.companyId = companyId;
-        this.date = dividend.getDate();
-        this.dividend = dividend.getDividend();
+        this.date = dividend.getDate().toLocalDate();
+        this.dividend = new BigDecimal(dividend.getDividend().trim());
+    }
+
+    // 응답 형식(배당일 0시, 소수점 아래 최소 2자리 문자열)은 기존과 같게 유지
+    public Dividend toDividend() {
+        return Dividend.of(this.date, this.dividend);
     }
 }
@@ -0,0 +1,30 @@
+package zerobase.projectdividend.persist.entity;
+
+import lombok.*;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.LocalDateTime;
+
+// 스크래핑 파티션(회사 id % 파티션 수)의 소유 노드와 만료 시각
+// 만료 시각이 지나면 다른 노드가 가져갈 수 있음
+@Entity(name = "SCRAP_LEASE")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Builder
+public class ScrapLeaseEntity {
+
+    // 파티션 번호
+    @Id
+    private Long id;
+
+    private String owner;
+
+    private LocalDateTime expiresAt;
+
+    public ScrapLeaseEntity(Long id) {
+        this.id = id;
+    }
+}
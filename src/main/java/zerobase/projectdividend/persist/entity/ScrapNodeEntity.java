@@ -0,0 +1,22 @@
+package zerobase.projectdividend.persist.entity;
+
+import lombok.*;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.LocalDateTime;
+
+// 스크래핑에 참여하는 노드와 마지막 heartbeat 시각 (파티션을 몇 개씩 나눌지 계산)
+@Entity(name = "SCRAP_NODE")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Builder
+public class ScrapNodeEntity {
+
+    @Id
+    private String id;
+
+    private LocalDateTime heartbeatAt;
+}
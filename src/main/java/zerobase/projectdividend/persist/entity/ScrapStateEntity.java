@@ -0,0 +1,51 @@
+package zerobase.projectdividend.persist.entity;
+
+import lombok.*;
+import zerobase.projectdividend.model.PageFingerprint;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity(name = "SCRAP_STATE")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Builder
+public class ScrapStateEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(unique = true)
+    private String ticker;
+
+    @Column(length = 1024)
+    private String url;
+
+    private String etag;
+
+    private String lastModified;
+
+    private String hash;
+
+    private LocalDateTime updatedAt;
+
+    public ScrapStateEntity(String ticker, PageFingerprint fingerprint) {
+        this.ticker = ticker;
+        this.update(fingerprint);
+    }
+
+    public void update(PageFingerprint fingerprint) {
+        this.url = fingerprint.getUrl();
+        this.etag = fingerprint.getEtag();
+        this.lastModified = fingerprint.getLastModified();
+        this.hash = fingerprint.getHash();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public PageFingerprint toFingerprint() {
+        return new PageFingerprint(this.url, this.etag, this.lastModified, this.hash);
+    }
+}
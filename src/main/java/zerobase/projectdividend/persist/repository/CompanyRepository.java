@@ -3,9 +3,14 @@ package zerobase.projectdividend.persist.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import zerobase.projectdividend.persist.entity.CompanyEntity;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -16,5 +21,27 @@ public interface CompanyRepository extends JpaRepository<CompanyEntity, Long> {
 
     Optional<CompanyEntity> findByName(String name);
 
+    // 회사 별칭 색인에 없을 때 (대소문자 무관)
+    Optional<CompanyEntity> findFirstByNameIgnoreCase(String name);
+
+    Optional<CompanyEntity> findFirstByTickerIgnoreCase(String ticker);
+
     Page<CompanyEntity> findByNameStartingWithIgnoreCase(String s, Pageable pageable);
+
+    // 회사 정보와 배당금을 한 번의 join 으로 조회 (entity 대신 필요한 컬럼만)
+    // 배당금이 없는 회사도 회사 정보는 반환하도록 left join -> date, dividend 가 null 인 row 하나
+    @Query("select c.ticker as ticker, c.name as name, d.date as date, d.dividend as dividend " +
+            "from COMPANY c left join DIVIDEND d on d.companyId = c.id " +
+            "where c.id = :id order by d.date")
+    List<FinanceRow> findFinanceById(@Param("id") Long id);
+
+    interface FinanceRow {
+        String getTicker();
+
+        String getName();
+
+        LocalDate getDate();
+
+        BigDecimal getDividend();
+    }
 }
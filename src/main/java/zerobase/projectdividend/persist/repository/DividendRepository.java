@@ -1,19 +1,55 @@
 package zerobase.projectdividend.persist.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import zerobase.projectdividend.persist.entity.DividendEntity;
 
 import javax.transaction.Transactional;
-import java.time.LocalDateTime;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface DividendRepository extends JpaRepository<DividendEntity, Long> {
-    List<DividendEntity> findAllByCompanyId(Long companyId);
+public interface DividendRepository extends JpaRepository<DividendEntity, Long>, DividendRepositoryCustom {
+    // 기간 안의 배당금을 최근 날짜부터 (companyId, date) 인덱스 범위로 조회, 개수는 pageable 로 제한
+    @Query("select d from DIVIDEND d where d.companyId = :companyId and d.date between :from and :to order by d.date desc")
+    List<DividendEntity> findRecentInRange(@Param("companyId") Long companyId, @Param("from") LocalDate from,
+                                           @Param("to") LocalDate to, Pageable pageable);
 
-    boolean existsByCompanyIdAndDate(Long companyId, LocalDateTime date);
+    // 여러 회사의 마지막 배당일을 한 번에 조회 (증분 스크래핑 시작 시점, 배당금이 없는 회사는 결과에 없음)
+    @Query("select d.companyId as companyId, max(d.date) as date from DIVIDEND d " +
+            "where d.companyId in :companyIds group by d.companyId")
+    List<DividendDate> findLastDates(@Param("companyIds") Collection<Long> companyIds);
+
+    // 기준일 이후의 배당일 (배당 주기 추정용), 회사별 날짜순
+    @Query("select d.companyId as companyId, d.date as date from DIVIDEND d where d.date >= :since order by d.companyId, d.date")
+    List<DividendDate> findAllDatesSince(@Param("since") LocalDate since);
+
+    boolean existsByCompanyIdAndDate(Long companyId, LocalDate date);
+
+    // 회사의 연도별 배당금 합계 (DB 에서 집계)
+    @Query("select year(d.date) as year, sum(d.dividend) as total, count(d) as count from DIVIDEND d " +
+            "where d.companyId = :companyId group by year(d.date) order by year(d.date)")
+    List<YearlyDividend> sumByYear(@Param("companyId") Long companyId);
 
     @Transactional
     void deleteAllByCompanyId(Long companyId);
+
+    interface DividendDate {
+        Long getCompanyId();
+
+        LocalDate getDate();
+    }
+
+    interface YearlyDividend {
+        Integer getYear();
+
+        BigDecimal getTotal();
+
+        Long getCount();
+    }
 }
@@ -0,0 +1,11 @@
+package zerobase.projectdividend.persist.repository;
+
+import zerobase.projectdividend.model.Dividend;
+
+import java.util.List;
+
+public interface DividendRepositoryCustom {
+
+    // 저장되지 않은 날짜의 배당금만 batch insert 하고 저장한 개수를 반환
+    int saveNewDividends(Long companyId, List<Dividend> dividends);
+}
@@ -0,0 +1,58 @@
+package zerobase.projectdividend.persist.repository;
+
+import zerobase.projectdividend.model.Dividend;
+import zerobase.projectdividend.persist.entity.DividendEntity;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.transaction.Transactional;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// 배당금을 row 마다 exists + save 하지 않고
+// 저장된 날짜를 한 번에 조회해 메모리에서 비교한 뒤, 새로운 row 만 JDBC batch 로 insert
+public class DividendRepositoryImpl implements DividendRepositoryCustom {
+
+    // spring.jpa.properties.hibernate.jdbc.batch_size 와 같은 크기로 flush
+    private static final int BATCH_SIZE = 50;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int saveNewDividends(Long companyId, List<Dividend> dividends) {
+        if (dividends.isEmpty()) {
+            return 0;
+        }
+
+        // 스크래핑한 가장 이른 날짜 이후만 비교하면 됨
+        LocalDate from = dividends.get(0).getDate().toLocalDate();
+        for (Dividend dividend : dividends) {
+            if (dividend.getDate().toLocalDate().isBefore(from)) {
+                from = dividend.getDate().toLocalDate();
+            }
+        }
+        Set<LocalDate> existing = new HashSet<>(this.entityManager.createQuery(
+                        "select d.date from DIVIDEND d where d.companyId = :companyId and d.date >= :from", LocalDate.class)
+                .setParameter("companyId", companyId)
+                .setParameter("from", from)
+                .getResultList());
+
+        int inserted = 0;
+        for (Dividend dividend : dividends) {
+            // 이미 저장된 날짜이거나 같은 날짜가 중복으로 스크래핑된 경우 제외
+            if (!existing.add(dividend.getDate().toLocalDate())) {
+                continue;
+            }
+            this.entityManager.persist(new DividendEntity(companyId, dividend));
+            if (++inserted % BATCH_SIZE == 0) {
+                this.entityManager.flush();
+                this.entityManager.clear();
+            }
+        }
+        return inserted;
+    }
+}
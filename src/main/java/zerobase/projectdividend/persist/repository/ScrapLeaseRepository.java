@@ -0,0 +1,47 @@
+package zerobase.projectdividend.persist.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import zerobase.projectdividend.persist.entity.ScrapLeaseEntity;
+
+import javax.transaction.Transactional;
+import java.time.LocalDateTime;
+
+// 조건부 update 로 lease 를 가져오므로 여러 노드가 동시에 시도해도 한 노드만 성공 (update 된 row 수로 판단)
+@Repository
+public interface ScrapLeaseRepository extends JpaRepository<ScrapLeaseEntity, Long> {
+
+    // 파티션 row 가 없을 때만 생성 (이미 있으면 owner 를 건드리지 않고 0 을 반환)
+    // save() 는 id 가 있는 entity 를 merge(select 후 insert/update) 하므로 그 사이 다른 노드가 가져간 owner 를 지울 수 있음
+    @Transactional
+    @Modifying
+    @Query(value = "insert into scrap_lease (id) select :id from dual " +
+            "where not exists (select 1 from scrap_lease where id = :id)", nativeQuery = true)
+    int insertIfAbsent(@Param("id") Long id);
+
+    // 비어 있거나 만료된 파티션을 가져옴
+    @Transactional
+    @Modifying
+    @Query("update SCRAP_LEASE l set l.owner = :owner, l.expiresAt = :expiresAt " +
+            "where l.id = :id and (l.owner is null or l.owner = :owner or l.expiresAt < :now)")
+    int claim(@Param("id") Long id, @Param("owner") String owner,
+              @Param("now") LocalDateTime now, @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Transactional
+    @Modifying
+    @Query("update SCRAP_LEASE l set l.expiresAt = :expiresAt where l.owner = :owner")
+    int renew(@Param("owner") String owner, @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Transactional
+    @Modifying
+    @Query("update SCRAP_LEASE l set l.owner = null, l.expiresAt = null where l.id = :id and l.owner = :owner")
+    int release(@Param("id") Long id, @Param("owner") String owner);
+
+    @Transactional
+    @Modifying
+    @Query("update SCRAP_LEASE l set l.owner = null, l.expiresAt = null where l.owner = :owner")
+    int releaseAll(@Param("owner") String owner);
+}
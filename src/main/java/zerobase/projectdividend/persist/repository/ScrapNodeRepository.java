@@ -0,0 +1,12 @@
+package zerobase.projectdividend.persist.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import zerobase.projectdividend.persist.entity.ScrapNodeEntity;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ScrapNodeRepository extends JpaRepository<ScrapNodeEntity, String> {
+    long countByHeartbeatAtAfter(LocalDateTime since);
+}
@@ -0,0 +1,20 @@
+package zerobase.projectdividend.persist.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import zerobase.projectdividend.persist.entity.ScrapStateEntity;
+
+import javax.transaction.Transactional;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ScrapStateRepository extends JpaRepository<ScrapStateEntity, Long> {
+    Optional<ScrapStateEntity> findByTicker(String ticker);
+
+    List<ScrapStateEntity> findAllByTickerIn(Collection<String> tickers);
+
+    @Transactional
+    void deleteByTicker(String ticker);
+}
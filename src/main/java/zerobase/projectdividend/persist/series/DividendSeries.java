@@ -0,0 +1,165 @@
+package zerobase.projectdividend.persist.series;
+
+import zerobase.projectdividend.model.Dividend;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// 한 회사의 배당금 이력을 primitive 배열 두 개로 보관 (배당일 순)
+// epochDays[i] : 배당일 (1970-01-01 부터의 일 수)
+// amounts[i]   : 배당금 * 10^AMOUNT_SCALE
+// -> row 마다 LocalDateTime, String 객체를 두지 않아 row 당 12 byte, 기간 조회는 이진 탐색 + 연속된 배열 읽기
+// 만든 뒤에는 바꾸지 않고, 새 배당금이 생기면 합친 새 series 로 교체 (읽는 쪽은 lock 없이 조회)
+public final class DividendSeries {
+
+    // DIVIDEND.dividend 컬럼의 scale 과 같음
+    public static final int AMOUNT_SCALE = 6;
+
+    private static final DividendSeries EMPTY = new DividendSeries(new int[0], new long[0]);
+
+    private final int[] epochDays;
+    private final long[] amounts;
+
+    private DividendSeries(int[] epochDays, long[] amounts) {
+        this.epochDays = epochDays;
+        this.amounts = amounts;
+    }
+
+    public static DividendSeries empty() {
+        return EMPTY;
+    }
+
+    // 배당일 순으로 정렬된 배열로 생성, 같은 날짜가 있으면 처음 값만 남김
+    public static DividendSeries of(int[] epochDays, long[] amounts) {
+        if (epochDays.length != amounts.length) {
+            throw new IllegalArgumentException("epochDays and amounts must have the same length");
+        }
+        for (int i = 1; i < epochDays.length; i++) {
+            if (epochDays[i] < epochDays[i - 1]) {
+                throw new IllegalArgumentException("epochDays must be sorted");
+            }
+        }
+        return dedup(epochDays.clone(), amounts.clone(), epochDays.length);
+    }
+
+    // 컬럼 scale 보다 긴 소수(스크래핑한 문자열 그대로)는 DB 에 저장될 때와 같이 반올림
+    public static long toScaled(BigDecimal amount) {
+        return amount.setScale(AMOUNT_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public int size() {
+        return this.epochDays.length;
+    }
+
+    public LocalDate dateAt(int i) {
+        return LocalDate.ofEpochDay(this.epochDays[i]);
+    }
+
+    public BigDecimal amountAt(int i) {
+        return BigDecimal.valueOf(this.amounts[i], AMOUNT_SCALE);
+    }
+
+    // 마지막 배당일 (없으면 null)
+    public LocalDate lastDate() {
+        return this.epochDays.length == 0 ? null : this.dateAt(this.epochDays.length - 1);
+    }
+
+    // 전체 이력 (날짜순)
+    public List<Dividend> toDividends() {
+        return this.toDividends(0, this.epochDays.length);
+    }
+
+    // from ~ to 기간(양 끝 포함) 중 최근 limit 개를 날짜순으로 (limit 이 null 이면 전체)
+    public List<Dividend> toDividends(LocalDate from, LocalDate to, Integer limit) {
+        int start = from == null ? 0 : lowerBound((int) from.toEpochDay());
+        int end = to == null ? this.epochDays.length : upperBound((int) to.toEpochDay());
+        if (limit != null) {
+            start = Math.max(start, end - limit);
+        }
+        return this.toDividends(start, end);
+    }
+
+    // 기존 이력에 새 배당금을 합친 series
+    // 저장할 때와 같이 이미 있는 날짜는 기존 값을 유지 (saveNewDividends 는 새 날짜만 insert)
+    public DividendSeries merge(int[] newDays, long[] newAmounts) {
+        DividendSeries added = of(newDays, newAmounts);
+        if (added.size() == 0) {
+            return this;
+        }
+
+        int n = this.epochDays.length;
+        int m = added.epochDays.length;
+        int[] days = new int[n + m];
+        long[] values = new long[n + m];
+        int i = 0, j = 0, k = 0;
+        while (i < n || j < m) {
+            // 같은 날짜면 기존 값을 먼저 두어 dedup 에서 기존 값이 남도록 함
+            if (j == m || (i < n && this.epochDays[i] <= added.epochDays[j])) {
+                days[k] = this.epochDays[i];
+                values[k++] = this.amounts[i++];
+            } else {
+                days[k] = added.epochDays[j];
+                values[k++] = added.amounts[j++];
+            }
+        }
+        return dedup(days, values, k);
+    }
+
+    private List<Dividend> toDividends(int start, int end) {
+        List<Dividend> dividends = new ArrayList<>(Math.max(0, end - start));
+        for (int i = start; i < end; i++) {
+            dividends.add(Dividend.of(this.dateAt(i), this.amountAt(i)));
+        }
+        return dividends;
+    }
+
+    // day 이상인 첫 위치
+    private int lowerBound(int day) {
+        int lo = 0, hi = this.epochDays.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (this.epochDays[mid] < day) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // day 보다 큰 첫 위치
+    private int upperBound(int day) {
+        int lo = 0, hi = this.epochDays.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (this.epochDays[mid] <= day) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static DividendSeries dedup(int[] days, long[] values, int length) {
+        if (length == 0) {
+            return EMPTY;
+        }
+        int k = 0;
+        for (int i = 0; i < length; i++) {
+            if (k > 0 && days[k - 1] == days[i]) {
+                continue;
+            }
+            days[k] = days[i];
+            values[k++] = values[i];
+        }
+        if (k == days.length) {
+            return new DividendSeries(days, values);
+        }
+        return new DividendSeries(Arrays.copyOf(days, k), Arrays.copyOf(values, k));
+    }
+}
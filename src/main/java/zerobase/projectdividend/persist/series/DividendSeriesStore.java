@@ -0,0 +1,269 @@
+package zerobase.projectdividend.persist.series;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import zerobase.projectdividend.model.Company;
+import zerobase.projectdividend.model.Dividend;
+import zerobase.projectdividend.persist.entity.CompanyEntity;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+// 회사별 배당금 이력을 DividendSeries(primitive 배열)로 메모리에 보관하는 조회용 저장소
+// - 시작할 때 DB 전체를 한 번 읽어서 만들고 (web server 가 요청을 받기 전, snapshot 복원 이후)
+// - 이후에는 새로 저장된 배당금만 합쳐서 회사 단위로 교체
+// 조회는 DB, entity 없이 메모리에서 응답 (로딩 전이거나 없는 회사면 호출한 쪽에서 DB 로 조회)
+@Slf4j
+@Component
+public class DividendSeriesStore implements SmartLifecycle {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ConcurrentMap<Long, Entry> byId = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Long> idsByName = new ConcurrentHashMap<>();
+
+    private volatile boolean loaded;
+
+    public DividendSeriesStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public boolean isLoaded() {
+        return this.loaded;
+    }
+
+    public Optional<Entry> findByName(String companyName) {
+        if (!this.loaded) {
+            return Optional.empty();
+        }
+        Long id = this.idsByName.get(companyName);
+        return id == null ? Optional.empty() : Optional.ofNullable(this.byId.get(id));
+    }
+
+    public Optional<Entry> findById(Long companyId) {
+        if (!this.loaded) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(this.byId.get(companyId));
+    }
+
+    // 새로 등록한 회사의 배당금을 series 로 추가 (커밋된 뒤에 호출, 이미 있으면 합침)
+    // reload 와 같은 lock -> DB 를 읽는 동안 합친 배당금을 reload 가 덮어쓰지 않음
+    public synchronized void append(CompanyEntity company, List<Dividend> dividends) {
+        this.merge(company, dividends, true);
+    }
+
+    // 스크래핑으로 새로 저장된 배당금을 이미 있는 회사의 series 에만 합침 (커밋된 뒤에 호출)
+    // -> 커밋과 합치는 사이에 삭제된 회사를 다시 만들지 않음 (없는 회사는 조회할 때 DB 에서 읽음)
+    public synchronized void merge(CompanyEntity company, List<Dividend> dividends) {
+        this.merge(company, dividends, false);
+    }
+
+    // 삭제와 합치기가 섞이지 않도록 append, merge, reload 와 같은 lock
+    public synchronized void remove(CompanyEntity company) {
+        this.idsByName.remove(company.getName(), company.getId());
+        this.byId.remove(company.getId());
+    }
+
+    // 다른 노드에서 삭제한 회사 (회사 id 만 전달됨)
+    public synchronized void remove(Long companyId) {
+        Entry removed = this.byId.remove(companyId);
+        if (removed != null) {
+            this.idsByName.remove(removed.name, companyId);
+        }
+    }
+
+    // 다른 노드가 바꾼 회사의 series 를 DB 에서 다시 읽어 교체 (삭제된 회사면 제거)
+    public synchronized void reload(Long companyId) {
+        // 로딩 전이면 load 가 최신 값을 읽음
+        if (!this.loaded) {
+            return;
+        }
+        List<Entry> companies = this.jdbcTemplate.query("select id, ticker, name from company where id = ?",
+                (rs, i) -> new Entry(rs.getLong("id"), rs.getString("ticker"), rs.getString("name"),
+                        DividendSeries.empty()), companyId);
+        if (companies.isEmpty()) {
+            this.remove(companyId);
+            return;
+        }
+
+        ConcurrentMap<Long, Entry> entries = new ConcurrentHashMap<>();
+        Entry company = companies.get(0);
+        entries.put(companyId, company);
+        SeriesBuilder builder = new SeriesBuilder(entries);
+        this.jdbcTemplate.query("select company_id, date, dividend from dividend where company_id = ? order by date",
+                (RowCallbackHandler) rs -> builder.add(rs.getLong("company_id"),
+                        rs.getObject("date", LocalDate.class), DividendSeries.toScaled(rs.getBigDecimal("dividend"))),
+                companyId);
+        builder.finish();
+
+        Entry previous = this.byId.put(companyId, entries.get(companyId));
+        if (previous != null && !previous.name.equals(company.name)) {
+            this.idsByName.remove(previous.name, companyId);
+        }
+        this.idsByName.put(company.name, companyId);
+    }
+
+    // 회사 목록과 배당금 전체를 회사 id, 날짜순으로 한 번씩 읽어 배열로 만듦
+    public synchronized void load() {
+        long started = System.nanoTime();
+        this.loaded = false;
+
+        List<Entry> companies = this.jdbcTemplate.query("select id, ticker, name from company",
+                (rs, i) -> new Entry(rs.getLong("id"), rs.getString("ticker"), rs.getString("name"),
+                        DividendSeries.empty()));
+        ConcurrentMap<Long, Entry> entries = new ConcurrentHashMap<>();
+        for (Entry company : companies) {
+            entries.put(company.companyId, company);
+        }
+
+        SeriesBuilder builder = new SeriesBuilder(entries);
+        this.jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                    "select company_id, date, dividend from dividend order by company_id, date",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> builder.add(rs.getLong("company_id"),
+                rs.getObject("date", LocalDate.class), DividendSeries.toScaled(rs.getBigDecimal("dividend"))));
+        builder.finish();
+
+        this.byId.clear();
+        this.byId.putAll(entries);
+        this.idsByName.clear();
+        for (Entry entry : entries.values()) {
+            this.idsByName.put(entry.name, entry.companyId);
+        }
+        this.loaded = true;
+
+        log.info("dividend series loaded -> companies: {}, dividends: {}, {}ms", entries.size(), builder.total,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    // bean 이 모두 만들어진 뒤(snapshot 복원 포함), web server 가 시작되기 전에 로딩
+    @Override
+    public void start() {
+        try {
+            this.load();
+        } catch (RuntimeException e) {
+            // 로딩하지 못하면 DB 에서 조회
+            log.error("fail to load dividend series", e);
+        }
+    }
+
+    @Override
+    public void stop() {
+        this.loaded = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return this.loaded;
+    }
+
+    // web server 의 phase(Integer.MAX_VALUE - 1) 보다 먼저 시작
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    private void merge(CompanyEntity company, List<Dividend> dividends, boolean create) {
+        if (!create && !this.byId.containsKey(company.getId())) {
+            return;
+        }
+        List<Dividend> sorted = new ArrayList<>(dividends);
+        // 정렬 후에도 같은 날짜는 먼저 나온 값이 앞에 남음 (stable sort)
+        sorted.sort(Comparator.comparing(Dividend::getDate));
+        int[] days = new int[sorted.size()];
+        long[] amounts = new long[sorted.size()];
+        for (int i = 0; i < sorted.size(); i++) {
+            Dividend dividend = sorted.get(i);
+            days[i] = (int) dividend.getDate().toLocalDate().toEpochDay();
+            amounts[i] = DividendSeries.toScaled(new BigDecimal(dividend.getDividend().trim()));
+        }
+
+        this.byId.compute(company.getId(), (id, entry) -> {
+            DividendSeries series = entry == null ? DividendSeries.of(days, amounts) : entry.series.merge(days, amounts);
+            return new Entry(id, company.getTicker(), company.getName(), series);
+        });
+        this.idsByName.put(company.getName(), company.getId());
+    }
+
+    // 회사 정보와 배당금 series (바꾸지 않고 통째로 교체)
+    @Getter
+    public static class Entry {
+        private final long companyId;
+        private final String ticker;
+        private final String name;
+        private final DividendSeries series;
+
+        public Entry(long companyId, String ticker, String name, DividendSeries series) {
+            this.companyId = companyId;
+            this.ticker = ticker;
+            this.name = name;
+            this.series = series;
+        }
+
+        public Company toCompany() {
+            return new Company(this.ticker, this.name);
+        }
+    }
+
+    // 회사 id 순으로 들어오는 row 를 회사마다 배열에 모았다가 회사가 바뀌면 series 로 만듦
+    private static class SeriesBuilder {
+        private final ConcurrentMap<Long, Entry> entries;
+
+        private long companyId = -1;
+        private int[] days = new int[64];
+        private long[] amounts = new long[64];
+        private int size;
+        private long total;
+
+        SeriesBuilder(ConcurrentMap<Long, Entry> entries) {
+            this.entries = entries;
+        }
+
+        void add(long companyId, LocalDate date, long amount) {
+            if (companyId != this.companyId) {
+                this.finish();
+                this.companyId = companyId;
+            }
+            if (this.size == this.days.length) {
+                this.days = Arrays.copyOf(this.days, this.size * 2);
+                this.amounts = Arrays.copyOf(this.amounts, this.size * 2);
+            }
+            this.days[this.size] = (int) date.toEpochDay();
+            this.amounts[this.size++] = amount;
+            this.total++;
+        }
+
+        void finish() {
+            if (this.size == 0) {
+                return;
+            }
+            Entry company = this.entries.get(this.companyId);
+            // 회사 목록을 읽은 뒤에 추가된 회사는 저장할 때 append 로 추가됨
+            if (company != null) {
+                this.entries.put(this.companyId, new Entry(company.companyId, company.ticker, company.name,
+                        DividendSeries.of(Arrays.copyOf(this.days, this.size), Arrays.copyOf(this.amounts, this.size))));
+            }
+            this.size = 0;
+        }
+    }
+}
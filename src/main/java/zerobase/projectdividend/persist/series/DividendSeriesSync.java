@@ -0,0 +1,48 @@
+package zerobase.projectdividend.persist.series;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import zerobase.projectdividend.cache.CacheInvalidation;
+import zerobase.projectdividend.cache.TwoLevelCacheManager;
+import zerobase.projectdividend.model.constants.CacheKey;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+// 다른 노드가 회사의 finance 캐시를 무효화하면 (배당금 저장, 회사 삭제) 이 노드의 series 도 DB 에서 다시 읽고
+// 회사를 삭제하면 (company 무효화 메시지) 이 노드의 series 에서도 지움
+// -> 노드마다 메모리에 둔 series 가 다른 노드에서 저장한 배당금을 놓치지 않고,
+//    refresh-ahead 가 지난 series 로 Redis 를 덮어쓰지 않음 (메시지를 놓치면 다음 전체 로딩까지 지난 값)
+@Slf4j
+@Component
+public class DividendSeriesSync implements Consumer<CacheInvalidation> {
+
+    private final DividendSeriesStore dividendSeriesStore;
+
+    public DividendSeriesSync(TwoLevelCacheManager cacheManager, DividendSeriesStore dividendSeriesStore) {
+        this.dividendSeriesStore = dividendSeriesStore;
+        cacheManager.addInvalidationListener(this);
+    }
+
+    @Override
+    public void accept(CacheInvalidation invalidation) {
+        if (invalidation.getType() != CacheInvalidation.Type.EVICT) {
+            return;
+        }
+        // finance 캐시 key 는 회사 id
+        if (CacheKey.KEY_FINANCE.equals(invalidation.getCacheName())) {
+            companyId(invalidation).ifPresent(this.dividendSeriesStore::reload);
+        } else if (CacheKey.KEY_COMPANY.equals(invalidation.getCacheName())) {
+            companyId(invalidation).ifPresent(this.dividendSeriesStore::remove);
+        }
+    }
+
+    private static Optional<Long> companyId(CacheInvalidation invalidation) {
+        try {
+            return Optional.of(Long.parseLong(invalidation.getKey()));
+        } catch (NumberFormatException e) {
+            log.warn("unknown company id -> {}", invalidation);
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package zerobase.projectdividend.persist.snapshot;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+// 회사와 배당금을 압축된 바이너리 파일 하나로 저장하고 읽음 (재시작 시 스크래핑 없이 DB 복원용)
+// [header]   magic(int) version(byte) createdAt(long, epoch ms) companyCount(int)
+// [company]  id(varlong) ticker(string) name(string)              -> companyCount 개
+// [dividend] tag(varlong) dateDelta(zigzag varlong) amount(zigzag varlong) -> tag 가 0 이면 끝
+//            tag = 이전 row 와의 회사 id 차이 + 1 (회사 id, 날짜순으로 기록)
+//            dateDelta = 같은 회사의 이전 배당일과의 차이(일), 회사가 바뀌면 epochDay 그대로
+//            amount = 소수점 아래 AMOUNT_SCALE 자리로 고정한 정수
+// [trailer]  CRC32(int, header 부터 마지막 tag 까지)
+// string = UTF-8 byte 길이(varlong) + byte
+// -> 배당금 한 row 가 보통 5~6 byte 라 수백만 row 도 수십 MB 이하
+public final class DividendSnapshot {
+
+    static final int MAGIC = 0x44564E53; // "DVNS"
+    static final byte VERSION = 1;
+
+    // DIVIDEND.dividend 컬럼의 scale 과 같음
+    public static final int AMOUNT_SCALE = 6;
+
+    private static final int HEADER_SIZE = 4 + 1 + 8 + 4;
+    private static final int TRAILER_SIZE = 4;
+
+    private DividendSnapshot() {
+    }
+
+    // 파일을 읽으면서 회사 -> 배당금 순서로 전달받음
+    public interface Sink {
+        void company(long id, String ticker, String name);
+
+        void dividend(long companyId, LocalDate date, BigDecimal amount);
+    }
+
+    // 파일을 memory-mapped 로 읽어 checksum 을 먼저 확인한 뒤 sink 로 전달
+    // 반환값은 파일을 만든 시각
+    public static Instant read(Path file, Sink sink) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE + 1 + TRAILER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("invalid snapshot size -> " + size);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+            // 쓰다 만 파일이나 손상된 파일은 DB 에 넣기 전에 걸러냄
+            int bodySize = (int) size - TRAILER_SIZE;
+            CRC32 crc = new CRC32();
+            crc.update(buffer.duplicate().limit(bodySize));
+            if ((int) crc.getValue() != buffer.getInt(bodySize)) {
+                throw new IOException("snapshot checksum mismatch -> " + file);
+            }
+
+            ByteBuffer body = buffer.duplicate().limit(bodySize);
+            try {
+                return readBody(body, sink);
+            } catch (BufferUnderflowException | IllegalArgumentException e) {
+                throw new IOException("invalid snapshot -> " + file, e);
+            }
+        }
+    }
+
+    private static Instant readBody(ByteBuffer in, Sink sink) throws IOException {
+        if (in.getInt() != MAGIC) {
+            throw new IOException("not a dividend snapshot");
+        }
+        byte version = in.get();
+        if (version != VERSION) {
+            throw new IOException("unsupported snapshot version -> " + version);
+        }
+        Instant createdAt = Instant.ofEpochMilli(in.getLong());
+
+        int companyCount = in.getInt();
+        for (int i = 0; i < companyCount; i++) {
+            sink.company(readVarLong(in), readString(in), readString(in));
+        }
+
+        long companyId = 0;
+        long epochDay = 0;
+        long tag;
+        while ((tag = readVarLong(in)) != 0) {
+            if (tag > 1) {
+                companyId += tag - 1;
+                epochDay = 0;
+            }
+            epochDay += unzigzag(readVarLong(in));
+            long amount = unzigzag(readVarLong(in));
+            sink.dividend(companyId, LocalDate.ofEpochDay(epochDay), BigDecimal.valueOf(amount, AMOUNT_SCALE));
+        }
+        if (in.hasRemaining()) {
+            throw new IOException("unexpected data after snapshot end");
+        }
+        return createdAt;
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("malformed varlong");
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = Math.toIntExact(readVarLong(in));
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long unzigzag(long v) {
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    // 임시 파일에 기록하고 finish() 에서 대상 파일로 옮김
+    // -> 저장 중 종료되어도 이전 snapshot 은 그대로 남음
+    public static class Writer implements Closeable {
+        private final Path target;
+        private final Path tmp;
+        private final CRC32 crc = new CRC32();
+        private final DataOutputStream out;
+
+        private final int companyCount;
+        private int companies;
+        private long dividends;
+        private long lastCompanyId;
+        private long lastEpochDay;
+        private boolean finished;
+
+        public Writer(Path target, int companyCount, Instant createdAt) throws IOException {
+            this.target = target.toAbsolutePath();
+            Files.createDirectories(this.target.getParent());
+            this.tmp = Files.createTempFile(this.target.getParent(), "snapshot", ".tmp");
+            this.out = new DataOutputStream(new BufferedOutputStream(
+                    new CheckedOutputStream(Files.newOutputStream(this.tmp), this.crc), 64 * 1024));
+            this.companyCount = companyCount;
+
+            this.out.writeInt(MAGIC);
+            this.out.writeByte(VERSION);
+            this.out.writeLong(createdAt.toEpochMilli());
+            this.out.writeInt(companyCount);
+        }
+
+        public void writeCompany(long id, String ticker, String name) throws IOException {
+            if (this.companies == this.companyCount) {
+                throw new IllegalStateException("more companies than declared -> " + this.companyCount);
+            }
+            this.companies++;
+            this.writeVarLong(id);
+            this.writeString(ticker);
+            this.writeString(name);
+        }
+
+        // 회사 id, 날짜 오름차순으로 호출해야 함
+        public void writeDividend(long companyId, LocalDate date, BigDecimal amount) throws IOException {
+            if (this.companies != this.companyCount) {
+                throw new IllegalStateException("companies must be written before dividends");
+            }
+            if (companyId < this.lastCompanyId || (this.dividends > 0 && companyId == this.lastCompanyId
+                    && date.toEpochDay() < this.lastEpochDay)) {
+                throw new IllegalArgumentException("dividends must be ordered by company id and date");
+            }
+
+            long epochDay = date.toEpochDay();
+            if (this.dividends == 0 || companyId != this.lastCompanyId) {
+                this.writeVarLong(companyId - this.lastCompanyId + 1);
+                this.writeVarLong(zigzag(epochDay));
+            } else {
+                this.writeVarLong(1);
+                this.writeVarLong(zigzag(epochDay - this.lastEpochDay));
+            }
+            // scale 이 더 긴 값은 DB 에 저장될 때와 같이 반올림 (스냅샷을 만들다 실패하지 않도록)
+            this.writeVarLong(zigzag(amount.setScale(AMOUNT_SCALE, RoundingMode.HALF_UP)
+                    .unscaledValue().longValueExact()));
+
+            this.lastCompanyId = companyId;
+            this.lastEpochDay = epochDay;
+            this.dividends++;
+        }
+
+        // 끝 표시와 checksum 을 쓰고 대상 파일로 교체, 파일 크기(byte)를 반환
+        public long finish() throws IOException {
+            if (this.companies != this.companyCount) {
+                throw new IllegalStateException("companies must be written before finish");
+            }
+            this.writeVarLong(0);
+            this.out.flush();
+            this.out.writeInt((int) this.crc.getValue());
+            this.out.close();
+
+            Files.move(this.tmp, this.target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            this.finished = true;
+            return Files.size(this.target);
+        }
+
+        public long getDividendCount() {
+            return this.dividends;
+        }
+
+        // finish() 없이 닫으면 임시 파일 삭제
+        @Override
+        public void close() throws IOException {
+            if (this.finished) {
+                return;
+            }
+            try {
+                this.out.close();
+            } finally {
+                Files.deleteIfExists(this.tmp);
+            }
+        }
+
+        private void writeVarLong(long v) throws IOException {
+            while ((v & ~0x7FL) != 0) {
+                this.out.writeByte((int) ((v & 0x7F) | 0x80));
+                v >>>= 7;
+            }
+            this.out.writeByte((int) v);
+        }
+
+        private void writeString(String s) throws IOException {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            this.writeVarLong(bytes.length);
+            this.out.write(bytes);
+        }
+
+        private static long zigzag(long v) {
+            return (v << 1) ^ (v >> 63);
+        }
+    }
+}
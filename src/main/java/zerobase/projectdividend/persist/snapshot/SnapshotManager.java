@@ -0,0 +1,236 @@
+package zerobase.projectdividend.persist.snapshot;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.Trie;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import zerobase.projectdividend.persist.entity.DividendEntity;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// 회사와 배당금을 주기적으로 snapshot 파일에 저장하고, 시작할 때 DB 가 비어 있으면 파일에서 한 번에 복원
+// -> in-memory DB 라 재시작하면 데이터가 사라져도 전체를 다시 스크래핑하지 않음
+// 복원은 모든 bean 이 만들어진 뒤, web server 가 요청을 받기 전에 끝남 (SmartInitializingSingleton)
+@Slf4j
+@Component
+public class SnapshotManager implements SmartInitializingSingleton, DisposableBean {
+
+    // 한 번의 JDBC batch 로 insert 하는 row 수
+    private static final int INSERT_BATCH = 1000;
+    private static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Trie<String, String> trie;
+
+    private final boolean enabled;
+    private final Path path;
+
+    public SnapshotManager(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, Trie<String, String> trie,
+                           @Value("${snapshot.enabled}") boolean enabled,
+                           @Value("${snapshot.path}") String path) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.trie = trie;
+        this.enabled = enabled;
+        this.path = Paths.get(path);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!this.enabled || !Files.exists(this.path)) {
+            return;
+        }
+        try {
+            this.restore();
+        } catch (IOException | RuntimeException e) {
+            // 복원하지 못하면 빈 DB 로 시작 (스케줄러가 다시 스크래핑)
+            log.error("fail to restore snapshot -> {}", this.path, e);
+        }
+    }
+
+    @Scheduled(cron = "${snapshot.cron}")
+    public void snapshotScheduling() {
+        if (!this.enabled) {
+            return;
+        }
+        try {
+            this.save();
+        } catch (IOException | RuntimeException e) {
+            log.error("fail to save snapshot -> {}", this.path, e);
+        }
+    }
+
+    // 종료할 때도 저장해 다음 시작 시 가장 최근 상태로 복원
+    @Override
+    public void destroy() {
+        this.snapshotScheduling();
+    }
+
+    // 회사, 배당금을 id, 날짜순으로 읽어 파일에 기록 (배당금은 한 번에 메모리에 올리지 않고 순서대로 기록)
+    public synchronized void save() throws IOException {
+        long started = System.nanoTime();
+        List<CompanyRow> companies = this.jdbcTemplate.query("select id, ticker, name from company order by id",
+                (rs, i) -> new CompanyRow(rs.getLong("id"), rs.getString("ticker"), rs.getString("name")));
+        // 복원에 실패했거나 아직 아무것도 없으면 기존 snapshot 을 빈 파일로 덮어쓰지 않음
+        if (companies.isEmpty()) {
+            log.info("no company to snapshot -> skip");
+            return;
+        }
+        Set<Long> companyIds = new HashSet<>();
+
+        try (DividendSnapshot.Writer writer = new DividendSnapshot.Writer(this.path, companies.size(), Instant.now())) {
+            for (CompanyRow company : companies) {
+                writer.writeCompany(company.id, company.ticker, company.name);
+                companyIds.add(company.id);
+            }
+
+            this.jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(
+                        "select company_id, date, dividend from dividend order by company_id, date",
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(FETCH_SIZE);
+                return ps;
+            }, (RowCallbackHandler) rs -> {
+                long companyId = rs.getLong("company_id");
+                // 회사 목록을 읽은 뒤에 추가된 회사의 배당금은 다음 snapshot 에 포함
+                if (!companyIds.contains(companyId)) {
+                    return;
+                }
+                try {
+                    writer.writeDividend(companyId, rs.getObject("date", LocalDate.class), rs.getBigDecimal("dividend"));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            long bytes = writer.finish();
+            log.info("snapshot saved -> companies: {}, dividends: {}, bytes: {}, {}ms", companies.size(),
+                    writer.getDividendCount(), bytes, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    // DB 가 비어 있을 때만 파일의 회사, 배당금을 JDBC batch 로 한 번에 insert
+    // 회사 id 는 그대로 유지 (배당금, 파티션 lease 가 회사 id 를 기준으로 함)
+    public synchronized void restore() throws IOException {
+        Long existing = this.jdbcTemplate.queryForObject("select count(*) from company", Long.class);
+        if (existing != null && existing > 0) {
+            log.info("database is not empty -> skip snapshot restore");
+            return;
+        }
+
+        long started = System.nanoTime();
+        BulkLoader loader = new BulkLoader();
+        Instant createdAt;
+        try {
+            createdAt = this.transactionTemplate.execute(status -> {
+                try {
+                    Instant at = DividendSnapshot.read(this.path, loader);
+                    loader.flush();
+                    return at;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        // 복원한 id 다음부터 새 id 를 발급하도록 identity, sequence 를 옮김 (H2)
+        this.jdbcTemplate.execute("alter table company alter column id restart with " + (loader.maxCompanyId + 1));
+        this.jdbcTemplate.execute("alter sequence dividend_seq restart with "
+                + (loader.dividends + DividendEntity.ID_ALLOCATION_SIZE + 1));
+
+        // 자동완성 trie 도 함께 복원
+        for (String name : loader.companyNames) {
+            this.trie.put(name, null);
+        }
+
+        log.info("snapshot restored -> companies: {}, dividends: {}, created at: {}, {}ms",
+                loader.companyNames.size(), loader.dividends, createdAt,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    private class BulkLoader implements DividendSnapshot.Sink {
+        private final List<Object[]> companyBatch = new ArrayList<>();
+        private final List<Object[]> dividendBatch = new ArrayList<>(INSERT_BATCH);
+        private final List<String> companyNames = new ArrayList<>();
+
+        private long maxCompanyId;
+        private long dividends;
+
+        @Override
+        public void company(long id, String ticker, String name) {
+            this.companyBatch.add(new Object[]{id, ticker, name});
+            this.companyNames.add(name);
+            this.maxCompanyId = Math.max(this.maxCompanyId, id);
+        }
+
+        @Override
+        public void dividend(long companyId, LocalDate date, BigDecimal amount) {
+            // 회사는 파일에서 배당금보다 먼저 나오므로 첫 배당금 전에 한 번에 insert
+            this.flushCompanies();
+            this.dividends++;
+            this.dividendBatch.add(new Object[]{this.dividends, companyId, date, amount});
+            if (this.dividendBatch.size() == INSERT_BATCH) {
+                this.flushDividends();
+            }
+        }
+
+        void flush() {
+            this.flushCompanies();
+            this.flushDividends();
+        }
+
+        private void flushCompanies() {
+            if (this.companyBatch.isEmpty()) {
+                return;
+            }
+            jdbcTemplate.batchUpdate("insert into company (id, ticker, name) values (?, ?, ?)", this.companyBatch);
+            this.companyBatch.clear();
+        }
+
+        private void flushDividends() {
+            if (this.dividendBatch.isEmpty()) {
+                return;
+            }
+            jdbcTemplate.batchUpdate("insert into dividend (id, company_id, date, dividend) values (?, ?, ?, ?)",
+                    this.dividendBatch);
+            this.dividendBatch.clear();
+        }
+    }
+
+    private static class CompanyRow {
+        private final long id;
+        private final String ticker;
+        private final String name;
+
+        CompanyRow(long id, String ticker, String name) {
+            this.id = id;
+            this.ticker = ticker;
+            this.name = name;
+        }
+    }
+}
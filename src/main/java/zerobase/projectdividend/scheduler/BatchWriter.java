@@ -0,0 +1,113 @@
+package zerobase.projectdividend.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+// 하나의 스레드가 대기열에 쌓인 항목을 batchSize 개씩 모아 저장
+// - 대기열이 가득 차면 put 하는 스레드가 대기하므로, 저장이 느리면 앞 단계도 느려짐 (backpressure)
+// - batch 저장이 실패하면 항목을 하나씩 다시 저장해 실패한 항목만 onError 로 전달
+@Slf4j
+public class BatchWriter<T> implements AutoCloseable {
+
+    private final BlockingQueue<T> queue;
+    private final int batchSize;
+    private final Consumer<List<T>> writer;
+    private final BiConsumer<T, Throwable> onError;
+    private final StageMetrics metrics;
+    private final Thread thread;
+
+    private volatile boolean closed;
+
+    public BatchWriter(String name, int queueCapacity, int batchSize,
+                       Consumer<List<T>> writer, BiConsumer<T, Throwable> onError) {
+        if (queueCapacity <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("queueCapacity and batchSize must be positive");
+        }
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.writer = writer;
+        this.onError = onError;
+        this.metrics = new StageMetrics(name, this.queue::size);
+
+        this.thread = new Thread(this::run, "scrap-" + name);
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    public void put(T item) throws InterruptedException {
+        if (this.closed) {
+            throw new IllegalStateException("writer is closed");
+        }
+        this.queue.put(item);
+    }
+
+    public StageMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    // 남은 항목을 모두 저장할 때까지 대기
+    @Override
+    public void close() throws InterruptedException {
+        this.closed = true;
+        this.thread.join();
+    }
+
+    private void run() {
+        List<T> batch = new ArrayList<>(this.batchSize);
+        while (!this.closed || !this.queue.isEmpty()) {
+            try {
+                T first = this.queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                this.queue.drainTo(batch, this.batchSize - 1);
+                this.write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<T> batch) {
+        try {
+            this.writer.accept(batch);
+            this.metrics.recordProcessed(batch.size());
+            return;
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                this.fail(batch.get(0), e);
+                return;
+            }
+            log.warn("batch write failed -> retry {} items one by one", batch.size(), e);
+        }
+
+        for (T item : batch) {
+            try {
+                this.writer.accept(List.of(item));
+                this.metrics.recordProcessed(1);
+            } catch (RuntimeException e) {
+                this.fail(item, e);
+            }
+        }
+    }
+
+    private void fail(T item, Throwable e) {
+        this.metrics.recordFailed();
+        try {
+            this.onError.accept(item, e);
+        } catch (RuntimeException ignored) {
+            log.warn("batch writer error handler failed", ignored);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package zerobase.projectdividend.scheduler;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 정해진 개수의 스레드와 크기가 제한된 대기열을 가진 파이프라인 단계
+// 대기열이 가득 차면 작업을 넘기는 스레드가 자리가 날 때까지 대기 (backpressure)
+public class BoundedStage implements Executor {
+
+    private final ThreadPoolExecutor executor;
+    private final StageMetrics metrics;
+
+    public BoundedStage(String name, int threads, int queueCapacity) {
+        if (threads <= 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException("threads and queueCapacity must be positive");
+        }
+
+        BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(queueCapacity);
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS, queue,
+                r -> {
+                    Thread t = new Thread(r, "scrap-" + name + "-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                (r, e) -> {
+                    if (e.isShutdown()) {
+                        throw new RejectedExecutionException(name + " stage is shut down");
+                    }
+                    try {
+                        e.getQueue().put(r);
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                        throw new RejectedExecutionException(ie);
+                    }
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+        this.metrics = new StageMetrics(name, queue::size);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        this.executor.execute(() -> {
+            try {
+                command.run();
+            } finally {
+                this.metrics.recordProcessed(1);
+            }
+        });
+    }
+
+    public StageMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    public void shutdown() {
+        this.executor.shutdownNow();
+    }
+}
@@ -0,0 +1,157 @@
+package zerobase.projectdividend.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import zerobase.projectdividend.persist.entity.ScrapLeaseEntity;
+import zerobase.projectdividend.persist.entity.ScrapNodeEntity;
+import zerobase.projectdividend.persist.repository.ScrapLeaseRepository;
+import zerobase.projectdividend.persist.repository.ScrapNodeRepository;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+// 여러 노드가 회사 목록을 파티션(회사 id % 파티션 수) 단위로 나눠서 스크래핑하도록 DB 의 lease 를 관리
+// - 살아 있는 노드 수로 나눈 만큼(fair share) 파티션을 가져오고, 많이 가진 노드는 남는 파티션을 반납
+// - 죽은 노드의 lease 는 만료된 뒤 다른 노드가 가져감
+// - lease-duration 은 스케줄링 주기보다 길어야 함 (주기마다 갱신)
+@Slf4j
+@Component
+public class PartitionLeaseManager implements DisposableBean {
+
+    private final ScrapLeaseRepository leaseRepository;
+    private final ScrapNodeRepository nodeRepository;
+
+    private final int partitions;
+    private final Duration leaseDuration;
+    private final String nodeId;
+
+    private LocalDateTime lastRenewed = LocalDateTime.MIN;
+
+    public PartitionLeaseManager(ScrapLeaseRepository leaseRepository,
+                                 ScrapNodeRepository nodeRepository,
+                                 @Value("${scheduler.lease.partitions}") int partitions,
+                                 @Value("${scheduler.lease.duration}") Duration leaseDuration,
+                                 @Value("${scheduler.lease.node-id:}") String nodeId) {
+        if (partitions <= 0 || leaseDuration.isZero() || leaseDuration.isNegative()) {
+            throw new IllegalArgumentException("partitions and lease duration must be positive");
+        }
+        this.leaseRepository = leaseRepository;
+        this.nodeRepository = nodeRepository;
+        this.partitions = partitions;
+        this.leaseDuration = leaseDuration;
+        this.nodeId = StringUtils.hasText(nodeId) ? nodeId : defaultNodeId();
+        log.info("scrap node id -> {} (partitions: {})", this.nodeId, this.partitions);
+    }
+
+    // 이번 주기에 이 노드가 스크래핑할 파티션 번호
+    public synchronized Set<Long> acquire() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(this.leaseDuration);
+
+        this.nodeRepository.save(new ScrapNodeEntity(this.nodeId, now));
+        this.ensurePartitions();
+
+        long liveNodes = Math.max(1, this.nodeRepository.countByHeartbeatAtAfter(now.minus(this.leaseDuration)));
+        long fairShare = (this.partitions + liveNodes - 1) / liveNodes;
+
+        this.leaseRepository.renew(this.nodeId, expiresAt);
+        this.lastRenewed = now;
+
+        Set<Long> owned = new TreeSet<>();
+        List<ScrapLeaseEntity> leases = this.leaseRepository.findAll();
+        for (ScrapLeaseEntity lease : leases) {
+            if (lease.getId() < this.partitions && this.nodeId.equals(lease.getOwner())) {
+                owned.add(lease.getId());
+            }
+        }
+
+        // 모자라면 비어 있거나 만료된 파티션을 가져옴
+        for (ScrapLeaseEntity lease : leases) {
+            if (owned.size() >= fairShare) {
+                break;
+            }
+            boolean free = lease.getOwner() == null || lease.getExpiresAt() == null || lease.getExpiresAt().isBefore(now);
+            if (lease.getId() < this.partitions && free
+                    && this.leaseRepository.claim(lease.getId(), this.nodeId, now, expiresAt) == 1) {
+                owned.add(lease.getId());
+            }
+        }
+
+        // 많으면 남는 파티션을 반납해 새로 들어온 노드가 가져갈 수 있도록 함
+        while (owned.size() > fairShare) {
+            Long extra = ((TreeSet<Long>) owned).pollLast();
+            this.leaseRepository.release(extra, this.nodeId);
+        }
+
+        log.info("scrap partitions -> {} of {} (live nodes: {})", owned, this.partitions, liveNodes);
+        return owned;
+    }
+
+    // 스크래핑이 오래 걸리는 경우 중간에 lease 가 만료되지 않도록 갱신 (lease 기간의 1/3 마다)
+    public synchronized void renewIfDue() {
+        LocalDateTime now = LocalDateTime.now();
+        if (Duration.between(this.lastRenewed, now).compareTo(this.leaseDuration.dividedBy(3)) < 0) {
+            return;
+        }
+        this.nodeRepository.save(new ScrapNodeEntity(this.nodeId, now));
+        this.leaseRepository.renew(this.nodeId, now.plus(this.leaseDuration));
+        this.lastRenewed = now;
+    }
+
+    public long partitionOf(Long companyId) {
+        return Math.floorMod(companyId, (long) this.partitions);
+    }
+
+    public String getNodeId() {
+        return this.nodeId;
+    }
+
+    // 종료할 때는 만료를 기다리지 않고 바로 다른 노드가 가져갈 수 있도록 반납
+    @Override
+    public void destroy() {
+        try {
+            this.leaseRepository.releaseAll(this.nodeId);
+            this.nodeRepository.deleteById(this.nodeId);
+        } catch (RuntimeException e) {
+            log.warn("fail to release scrap partitions -> {}", this.nodeId, e);
+        }
+    }
+
+    // 파티션 row 가 없으면 생성 (여러 노드가 동시에 생성하면 먼저 생성한 row 를 사용)
+    private void ensurePartitions() {
+        if (this.leaseRepository.count() >= this.partitions) {
+            return;
+        }
+        for (long id = 0; id < this.partitions; id++) {
+            if (this.leaseRepository.existsById(id)) {
+                continue;
+            }
+            try {
+                this.leaseRepository.insertIfAbsent(id);
+            } catch (DataIntegrityViolationException e) {
+                // 동시에 insert 한 노드가 있으면 primary key 충돌 -> 먼저 생성된 row 를 그대로 사용
+                log.debug("scrap partition is already created -> {}", id);
+            }
+        }
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "node";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
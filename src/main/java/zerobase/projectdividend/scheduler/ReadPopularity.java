@@ -0,0 +1,31 @@
+package zerobase.projectdividend.scheduler;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 회사별 배당금 조회 횟수
+// 캐시에서 응답한 조회도 세기 위해 서비스가 아닌 컨트롤러에서 기록
+@Component
+public class ReadPopularity {
+
+    private final Map<String, LongAdder> reads = new ConcurrentHashMap<>();
+
+    public void recordRead(String companyName) {
+        this.reads.computeIfAbsent(companyName, k -> new LongAdder()).increment();
+    }
+
+    // 지난번 호출 이후의 조회 횟수를 가져가고 초기화
+    public Map<String, Long> drain() {
+        Map<String, Long> drained = new ConcurrentHashMap<>();
+        this.reads.forEach((name, count) -> {
+            long sum = count.sumThenReset();
+            if (sum > 0) {
+                drained.put(name, sum);
+            }
+        });
+        return drained;
+    }
+}
@@ -0,0 +1,148 @@
+package zerobase.projectdividend.scheduler;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import zerobase.projectdividend.exception.impl.CircuitOpenException;
+import zerobase.projectdividend.model.ScrapedResult;
+import zerobase.projectdividend.scraper.ScrapListener;
+import zerobase.projectdividend.scraper.ScrapTarget;
+import zerobase.projectdividend.scraper.Scraper;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+// 스크래핑을 단계별로 나눠서 처리하는 파이프라인
+// fetch (네트워크, concurrency 개 동시 요청) -> parse (CPU, parse-threads 개 스레드) -> write (DB, 하나의 스레드가 write-batch 개씩 저장)
+// 단계 사이의 대기열은 크기가 제한되어 있어 저장이 느리면 파싱이, 파싱이 느리면 새 요청이 멈춤
+// 요청 속도 제한은 TokenBucketRateLimiter 에서 담당
+@Slf4j
+@Component
+public class ScrapEngine implements DisposableBean {
+
+    private final int concurrency;
+    private final BoundedStage parseStage;
+    private final int writeQueue;
+    private final int writeBatch;
+
+    // 아직 응답을 받지 못한 회사 수
+    private final AtomicInteger fetchRemaining = new AtomicInteger();
+    private final StageMetrics fetchMetrics = new StageMetrics("fetch", fetchRemaining::get);
+    private volatile StageMetrics writeMetrics = new StageMetrics("write", () -> 0);
+
+    public ScrapEngine(@Value("${scheduler.scrap.concurrency}") int concurrency,
+                       @Value("${scheduler.pipeline.parse-threads}") int parseThreads,
+                       @Value("${scheduler.pipeline.parse-queue}") int parseQueue,
+                       @Value("${scheduler.pipeline.write-queue}") int writeQueue,
+                       @Value("${scheduler.pipeline.write-batch}") int writeBatch) {
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("concurrency must be positive");
+        }
+        this.concurrency = concurrency;
+        this.parseStage = new BoundedStage("parse", parseThreads, parseQueue);
+        this.writeQueue = writeQueue;
+        this.writeBatch = writeBatch;
+    }
+
+    // 모든 대상을 스크래핑하고, 파싱된 결과를 batchWriter 로 모아서 저장한 뒤 전부 끝날 때까지 대기
+    // 한 대상에서 발생한 예외(스크래핑, 저장 모두)는 로그만 남기고 나머지 대상 처리는 계속 진행
+    public int runAll(Scraper scraper, Collection<ScrapTarget> targets,
+                      Consumer<List<Scraped>> batchWriter) throws InterruptedException {
+        AtomicInteger failed = new AtomicInteger();
+        AtomicInteger skipped = new AtomicInteger();
+
+        this.fetchRemaining.set(targets.size());
+        this.fetchMetrics.reset();
+        this.parseStage.getMetrics().reset();
+        BatchWriter<Scraped> writer = new BatchWriter<>("write", this.writeQueue, this.writeBatch, batchWriter,
+                (item, e) -> {
+                    failed.incrementAndGet();
+                    log.error("fail to save scraped result -> {}", item.getTarget().getCompany().getTicker(), e);
+                });
+        this.writeMetrics = writer.getMetrics();
+
+        try {
+            CompletableFuture<Void> done = scraper.scrapAll(targets, this.concurrency, this.parseStage, new ScrapListener() {
+                @Override
+                public void onSuccess(ScrapTarget target, ScrapedResult result) {
+                    fetchDone();
+                    fetchMetrics.recordProcessed(1);
+                    try {
+                        // 저장 대기열이 가득 차면 여기서 대기 -> 다음 요청도 보내지 않음
+                        writer.put(new Scraped(target, result));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("interrupted while waiting for writer", e);
+                    }
+                }
+
+                @Override
+                public void onFailure(ScrapTarget target, Throwable cause) {
+                    fetchDone();
+                    // circuit 이 열려 있는 동안 남은 대상은 요청 없이 바로 건너뜀
+                    if (cause instanceof CircuitOpenException) {
+                        skipped.incrementAndGet();
+                        return;
+                    }
+                    fetchMetrics.recordFailed();
+                    failed.incrementAndGet();
+                    log.error("scrap task failed -> {}", target.getCompany().getTicker(), cause);
+                }
+            });
+
+            try {
+                done.get();
+            } catch (ExecutionException e) {
+                // 대상별 예외는 onFailure 에서 처리되므로 여기까지 오지 않음
+                log.error("scrap batch failed", e.getCause());
+            }
+        } finally {
+            // 대기열에 남은 결과까지 저장
+            writer.close();
+        }
+
+        if (skipped.get() > 0) {
+            log.warn("scrap circuit is open -> skipped {} of {} targets", skipped.get(), targets.size());
+        }
+        return failed.get() + skipped.get();
+    }
+
+    private void fetchDone() {
+        this.fetchRemaining.updateAndGet(v -> Math.max(0, v - 1));
+    }
+
+    public int getConcurrency() {
+        return this.concurrency;
+    }
+
+    // 단계별 대기열 크기와 처리량 (fetch, parse, write 순서)
+    public List<StageMetrics> getStageMetrics() {
+        return Arrays.asList(this.fetchMetrics, this.parseStage.getMetrics(), this.writeMetrics);
+    }
+
+    public String summary() {
+        return this.getStageMetrics().stream().map(StageMetrics::toString).collect(Collectors.joining(" "));
+    }
+
+    @Override
+    public void destroy() {
+        this.parseStage.shutdown();
+    }
+
+    // 파싱이 끝나 저장을 기다리는 스크래핑 결과
+    @Getter
+    @AllArgsConstructor
+    public static class Scraped {
+        private final ScrapTarget target;
+        private final ScrapedResult result;
+    }
+}
@@ -0,0 +1,153 @@
+package zerobase.projectdividend.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import zerobase.projectdividend.model.constants.DividendCadence;
+import zerobase.projectdividend.persist.entity.CompanyEntity;
+import zerobase.projectdividend.persist.entity.ScrapStateEntity;
+import zerobase.projectdividend.persist.repository.DividendRepository;
+import zerobase.projectdividend.persist.repository.ScrapStateRepository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+// 한 번의 스케줄링에서 스크래핑할 회사를 우선순위 순서로 고름
+// 우선순위 = 다음 배당일 임박도 + 조회 인기도 + 마지막 스크래핑 이후 경과 시간
+// -> 자주 조회되고 배당일이 가까운 회사는 먼저, 조회도 없고 배당일도 먼 회사는 max-staleness 마다 한 번 정도만 스크래핑
+@Slf4j
+@Component
+public class ScrapPlanner {
+
+    // 배당 주기 추정에 사용하는 기간 (월 배당 24건, 분기 배당 8건 정도)
+    private static final int CADENCE_WINDOW_YEARS = 2;
+    private static final double SOON_DAYS = 7;
+
+    private final DividendRepository dividendRepository;
+    private final ScrapStateRepository scrapStateRepository;
+    private final ReadPopularity readPopularity;
+
+    private final int budget;
+    private final Duration maxStaleness;
+    private final Duration popularityHalfLife;
+
+    // 반감기마다 절반으로 줄어드는 회사별 조회 점수 (스케줄러 스레드에서만 접근)
+    private final Map<String, Double> popularity = new HashMap<>();
+    private LocalDateTime lastDecay = LocalDateTime.now();
+
+    public ScrapPlanner(DividendRepository dividendRepository,
+                        ScrapStateRepository scrapStateRepository,
+                        ReadPopularity readPopularity,
+                        @Value("${scheduler.scrap.budget}") int budget,
+                        @Value("${scheduler.scrap.max-staleness}") Duration maxStaleness,
+                        @Value("${scheduler.scrap.popularity-half-life}") Duration popularityHalfLife) {
+        if (maxStaleness.isZero() || maxStaleness.isNegative() || popularityHalfLife.isZero() || popularityHalfLife.isNegative()) {
+            throw new IllegalArgumentException("max-staleness and popularity-half-life must be positive");
+        }
+        this.dividendRepository = dividendRepository;
+        this.scrapStateRepository = scrapStateRepository;
+        this.readPopularity = readPopularity;
+        this.budget = budget;
+        this.maxStaleness = maxStaleness;
+        this.popularityHalfLife = popularityHalfLife;
+    }
+
+    // 우선순위가 높은 순서로 최대 budget 개의 회사를 반환 (budget 이 0 이하면 전체를 우선순위 순서로 반환)
+    public List<CompanyEntity> plan(List<CompanyEntity> companies) {
+        LocalDateTime now = LocalDateTime.now();
+        this.updatePopularity(now);
+        if (companies.isEmpty()) {
+            return companies;
+        }
+
+        // 회사별 최근 배당일 (한 번의 쿼리로 조회)
+        Map<Long, List<LocalDate>> dividendDates = new HashMap<>();
+        for (DividendRepository.DividendDate d : this.dividendRepository.findAllDatesSince(now.toLocalDate().minusYears(CADENCE_WINDOW_YEARS))) {
+            dividendDates.computeIfAbsent(d.getCompanyId(), k -> new ArrayList<>()).add(d.getDate());
+        }
+
+        // 회사별 마지막 스크래핑 시각
+        Map<String, LocalDateTime> lastScraped = new HashMap<>();
+        for (ScrapStateEntity state : this.scrapStateRepository.findAll()) {
+            lastScraped.put(state.getTicker(), state.getUpdatedAt());
+        }
+
+        PriorityQueue<ScoredCompany> queue = new PriorityQueue<>(
+                Comparator.comparingDouble((ScoredCompany c) -> c.score).reversed());
+        for (CompanyEntity company : companies) {
+            double score = this.urgency(dividendDates.getOrDefault(company.getId(), List.of()), now.toLocalDate())
+                    + Math.log1p(this.popularity.getOrDefault(company.getName(), 0.0))
+                    + this.staleness(lastScraped.get(company.getTicker()), now);
+            queue.add(new ScoredCompany(company, score));
+        }
+
+        int limit = this.budget <= 0 ? companies.size() : Math.min(this.budget, companies.size());
+        List<CompanyEntity> planned = new ArrayList<>(limit);
+        while (planned.size() < limit) {
+            ScoredCompany next = queue.poll();
+            if (planned.isEmpty()) {
+                log.info("scrap plan -> {} of {} companies (top: {}, score: {})",
+                        limit, companies.size(), next.company.getName(), String.format("%.2f", next.score));
+            }
+            planned.add(next.company);
+        }
+        return planned;
+    }
+
+    // 다음 배당일이 가까울수록 1 에 가까움
+    // 주기를 모르면 0.5, 예상일이 한 주기 이상 지났으면(배당 중단 등) 0.1
+    double urgency(List<LocalDate> sortedDates, LocalDate today) {
+        DividendCadence cadence = DividendCadence.infer(sortedDates);
+        if (cadence == DividendCadence.UNKNOWN) {
+            return 0.5;
+        }
+
+        LocalDate next = cadence.nextAfter(sortedDates.get(sortedDates.size() - 1));
+        long days = ChronoUnit.DAYS.between(today, next);
+        if (days < -cadence.getDays()) {
+            return 0.1;
+        }
+        if (days <= 0) {
+            return 1.0;
+        }
+        return SOON_DAYS / (SOON_DAYS + days);
+    }
+
+    // 마지막 스크래핑 이후 경과 시간 / max-staleness (한 번도 스크래핑하지 않았으면 1)
+    // 제한 없이 커지므로 오래된 회사도 결국 예산 안에 들어옴
+    double staleness(LocalDateTime lastScraped, LocalDateTime now) {
+        if (lastScraped == null) {
+            return 1.0;
+        }
+        return (double) Duration.between(lastScraped, now).toMillis() / this.maxStaleness.toMillis();
+    }
+
+    // 기존 점수를 경과 시간만큼 감쇠시키고 새 조회 횟수를 더함
+    private void updatePopularity(LocalDateTime now) {
+        double halfLives = (double) Duration.between(this.lastDecay, now).toMillis() / this.popularityHalfLife.toMillis();
+        double factor = Math.pow(0.5, halfLives);
+        this.lastDecay = now;
+
+        this.popularity.replaceAll((name, score) -> score * factor);
+        this.readPopularity.drain().forEach((name, reads) -> this.popularity.merge(name, (double) reads, Double::sum));
+        this.popularity.values().removeIf(score -> score < 0.01);
+    }
+
+    private static class ScoredCompany {
+        private final CompanyEntity company;
+        private final double score;
+
+        ScoredCompany(CompanyEntity company, double score) {
+            this.company = company;
+            this.score = score;
+        }
+    }
+}
@@ -1,69 +1,208 @@
 package zerobase.projectdividend.scheduler;
 
-import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import zerobase.projectdividend.cache.RedisCacheGuard;
+import zerobase.projectdividend.cache.TwoLevelCacheManager;
 import zerobase.projectdividend.model.Company;
+import zerobase.projectdividend.model.Dividend;
+import zerobase.projectdividend.model.PageFingerprint;
 import zerobase.projectdividend.model.ScrapedResult;
-import zerobase.projectdividend.model.constants.CacheKey;
 import zerobase.projectdividend.persist.entity.CompanyEntity;
-import zerobase.projectdividend.persist.entity.DividendEntity;
+import zerobase.projectdividend.persist.entity.ScrapStateEntity;
 import zerobase.projectdividend.persist.repository.CompanyRepository;
 import zerobase.projectdividend.persist.repository.DividendRepository;
+import zerobase.projectdividend.persist.repository.ScrapStateRepository;
+import zerobase.projectdividend.persist.series.DividendSeriesStore;
+import zerobase.projectdividend.scraper.ScrapMetrics;
+import zerobase.projectdividend.scraper.ScrapTarget;
 import zerobase.projectdividend.scraper.Scraper;
+import zerobase.projectdividend.service.FinanceCacheRefresher;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 @Component
-@AllArgsConstructor
+@RequiredArgsConstructor
 @Slf4j
 @EnableCaching
 public class ScraperScheduler {
 
     private final CompanyRepository companyRepository;
     private final DividendRepository dividendRepository;
+    private final ScrapStateRepository scrapStateRepository;
     private final Scraper yahooFinanceScraper;
+    private final ScrapEngine scrapEngine;
+    private final ScrapPlanner scrapPlanner;
+    private final PartitionLeaseManager leaseManager;
+    private final FinanceCacheRefresher financeCacheRefresher;
+    private final DividendSeriesStore dividendSeriesStore;
+    private final TransactionTemplate transactionTemplate;
+    private final ScrapMetrics scrapMetrics;
+    private final TwoLevelCacheManager cacheManager;
+    private final RedisCacheGuard redisCacheGuard;
 
-    // 일정 주기마다 수행
-    @CacheEvict(value = CacheKey.KEY_FINANCE, allEntries = true)
-    // value : key의 prefix allEntries : finance에 해당하는 캐시 전부 삭제
+    // 이전 스크래핑이 끝나지 않았으면 다음 주기는 건너뜀
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    // 실행 중이라 건너뛴 전체 스크래핑은 다음 주기에 수행
+    private final AtomicBoolean fullPending = new AtomicBoolean(false);
+
+    // 일정 주기마다 수행 - 마지막으로 저장된 배당일 이후만 스크래핑
+    // 캐시는 전부 지우지 않고 배당금이 바뀐 회사만 갱신
     @Scheduled(cron = "${scheduler.scrap.yahoo}")
     public void yahooFinanceScheduling() {
-        log.info("Scraping scheduler is started");
-        // 저장된 회사 목록 조회
-        List<CompanyEntity> companies = companyRepository.findAll();
-
-        // 회사마다 배당금 정보 새로 스크래핑
-        for (CompanyEntity company : companies) {
-            log.info("Scraping scheduler is started -> {}", company.getName());
-            ScrapedResult scrapedResult = this.yahooFinanceScraper.scrap(new Company(company.getTicker(), company.getName()));
-
-            // 스크래핑한 대방금 정보 중 데이터베이스에 없는 값은 저장
-            scrapedResult.getDividends().stream()
-                    // 디비든 모델을 디비든 엔티티로 매핑
-                    .map(e -> new DividendEntity((company.getId()), e))
-                    // 엘리먼트를 없으면 하나씩 디비든 레파지토리에 삽입
-                    .forEach(e -> {
-                        boolean exists = this.dividendRepository.existsByCompanyIdAndDate(e.getCompanyId(), e.getDate());
-                        if (!exists) {
-                            this.dividendRepository.save(e);
-                            log.info("insert new dividend -> " + e.toString());
-                        }
-                    });
+        this.runScraping(false);
+    }
+
+    // 더 긴 주기로 전체 기간을 다시 스크래핑 (누락되거나 수정된 배당금 보정)
+    @Scheduled(cron = "${scheduler.scrap.yahoo-full}")
+    public void yahooFinanceFullScheduling() {
+        this.runScraping(true);
+    }
 
-            // 연속적으로 스크래핑 대상 사이트 서버에 요청을 날리지 않도록 일시 정지
-            try {
-                Thread.sleep(3000);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+    private void runScraping(boolean full) {
+        if (!this.running.compareAndSet(false, true)) {
+            log.info("Scraping scheduler is still running -> skip");
+            if (full) {
+                this.fullPending.set(true);
             }
+            return;
+        }
 
+        try {
+            full = this.fullPending.getAndSet(false) || full;
+            log.info("Scraping scheduler is started (full: {}, concurrency: {})", full, this.scrapEngine.getConcurrency());
+            // 저장된 회사 중 이 노드가 lease 를 가진 파티션의 회사만 스크래핑
+            // 전체 스크래핑이 아니면 우선순위가 높은 회사만 스크래핑 예산만큼 고름
+            Set<Long> partitions = this.leaseManager.acquire();
+            List<CompanyEntity> companies = companyRepository.findAll().stream()
+                    .filter(company -> partitions.contains(this.leaseManager.partitionOf(company.getId())))
+                    .collect(Collectors.toList());
+            if (!full) {
+                companies = this.scrapPlanner.plan(companies);
+            }
 
+            // 회사마다 마지막 배당일과 지난번 페이지 정보를 붙여 스크래핑 대상 생성 (회사 수와 관계없이 쿼리 두 번)
+            Map<String, CompanyEntity> byTicker = new HashMap<>();
+            for (CompanyEntity company : companies) {
+                byTicker.put(company.getTicker(), company);
+            }
+            Map<Long, LocalDate> lastDates = full || companies.isEmpty() ? Map.of() : this.findLastDates(companies);
+            Map<String, ScrapStateEntity> states = companies.isEmpty() ? new HashMap<>()
+                    : this.scrapStateRepository.findAllByTickerIn(byTicker.keySet()).stream()
+                    .collect(Collectors.toMap(ScrapStateEntity::getTicker, state -> state, (a, b) -> a, HashMap::new));
+            List<ScrapTarget> targets = new ArrayList<>(companies.size());
+            for (CompanyEntity company : companies) {
+                targets.add(this.toTarget(company, lastDates.get(company.getId()), states.get(company.getTicker())));
+            }
+
+            // 요청 간격은 rate limiter 가 조절하므로 여러 회사를 동시에 스크래핑하고
+            // 파싱이 끝난 결과는 저장 스레드가 여러 회사씩 모아 하나의 트랜잭션으로 저장
+            Set<CompanyEntity> changed = ConcurrentHashMap.newKeySet();
+            int failed = this.scrapEngine.runAll(this.yahooFinanceScraper, targets, batch -> {
+                this.leaseManager.renewIfDue();
+                Map<CompanyEntity, List<Dividend>> inserted = this.transactionTemplate.execute(status -> {
+                    Map<CompanyEntity, List<Dividend>> map = new LinkedHashMap<>();
+                    for (ScrapEngine.Scraped scraped : batch) {
+                        CompanyEntity company = byTicker.get(scraped.getTarget().getCompany().getTicker());
+                        Optional<ScrapStateEntity> state = Optional.ofNullable(states.get(company.getTicker()));
+                        if (this.saveScrapedResult(company, state, scraped.getResult()) > 0) {
+                            map.put(company, scraped.getResult().getDividends());
+                        }
+                    }
+                    return map;
+                });
+                // 커밋된 뒤에만 메모리의 배당금 series 에 합치고 캐시 갱신 대상에 추가
+                // (이미 저장된 batch 가 다시 저장되지 않도록 series 갱신 실패는 batch 실패로 넘기지 않음)
+                inserted.forEach(this::mergeSeries);
+                changed.addAll(inserted.keySet());
+            });
+
+            // 새 배당금이 저장된 회사의 캐시만 pipeline 으로 갱신
+            int refreshed = this.financeCacheRefresher.refresh(changed);
+            log.info("Scraping scheduler is finished -> total: {}, failed: {}, cache refreshed: {}",
+                    companies.size(), failed, refreshed);
+            log.info("Scraping metrics -> {}", this.scrapMetrics.summary());
+            log.info("Scraping pipeline -> {}", this.scrapEngine.summary());
+            log.info("Cache metrics -> {}", this.cacheManager.summary());
+            log.info("Redis cache bypass -> {}", this.redisCacheGuard.summary());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            this.running.set(false);
         }
+    }
 
+    // 이미 series 가 있는 회사에만 합침 (스크래핑 중 삭제된 회사를 다시 추가하지 않음)
+    private void mergeSeries(CompanyEntity company, List<Dividend> dividends) {
+        try {
+            this.dividendSeriesStore.merge(company, dividends);
+        } catch (RuntimeException e) {
+            // 합치지 못한 series 로 응답하지 않도록 버리고 DB 에서 조회
+            log.error("fail to merge dividend series -> {}", company.getTicker(), e);
+            this.dividendSeriesStore.remove(company);
+        }
+    }
+
+    private Map<Long, LocalDate> findLastDates(List<CompanyEntity> companies) {
+        List<Long> ids = companies.stream().map(CompanyEntity::getId).collect(Collectors.toList());
+        Map<Long, LocalDate> lastDates = new HashMap<>();
+        for (DividendRepository.DividendDate row : this.dividendRepository.findLastDates(ids)) {
+            lastDates.put(row.getCompanyId(), row.getDate());
+        }
+        return lastDates;
+    }
+
+    // 마지막 배당일이 없으면 (전체 스크래핑이거나 배당금이 없는 회사) 전체 기간
+    private ScrapTarget toTarget(CompanyEntity company, LocalDate lastDate, ScrapStateEntity state) {
+        LocalDateTime since = lastDate == null ? null : lastDate.atStartOfDay();
+        PageFingerprint previous = state == null ? null : state.toFingerprint();
+        return new ScrapTarget(new Company(company.getTicker(), company.getName()), since, previous);
+    }
+
+    // 새로 저장한 배당금 개수를 반환
+    private int saveScrapedResult(CompanyEntity company, Optional<ScrapStateEntity> state, ScrapedResult scrapedResult) {
+        log.info("Scraping scheduler is finished -> {}", company.getName());
+
+        // 지난번과 같은 페이지면 DB 비교 생략
+        if (scrapedResult.isUnchanged()) {
+            log.info("dividends are unchanged -> {}", company.getName());
+            this.saveScrapState(company.getTicker(), state, scrapedResult.getFingerprint());
+            return 0;
+        }
+
+        // 스크래핑한 배당금 정보 중 데이터베이스에 없는 값만 한 번에 저장
+        int inserted = this.dividendRepository.saveNewDividends(company.getId(), scrapedResult.getDividends());
+        if (inserted > 0) {
+            log.info("insert {} new dividends -> {}", inserted, company.getName());
+        }
+
+        // 저장이 끝난 뒤에 페이지 정보를 기록 (저장 중 실패하면 다음 주기에 다시 비교)
+        this.saveScrapState(company.getTicker(), state, scrapedResult.getFingerprint());
+        return inserted;
+    }
+
+    private void saveScrapState(String ticker, Optional<ScrapStateEntity> state, PageFingerprint fingerprint) {
+        if (fingerprint == null) {
+            return;
+        }
+        ScrapStateEntity entity = state.orElseGet(() -> new ScrapStateEntity(ticker, fingerprint));
+        entity.update(fingerprint);
+        this.scrapStateRepository.save(entity);
     }
 
 }
@@ -0,0 +1,63 @@
+package zerobase.projectdividend.scheduler;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+// 스크래핑 파이프라인 단계별 대기열 크기와 처리량
+public class StageMetrics {
+
+    private final String name;
+    private final IntSupplier queueDepth;
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private volatile long startedAt = System.nanoTime();
+
+    public StageMetrics(String name, IntSupplier queueDepth) {
+        this.name = name;
+        this.queueDepth = queueDepth;
+    }
+
+    public void recordProcessed(long count) {
+        this.processed.add(count);
+    }
+
+    public void recordFailed() {
+        this.failed.increment();
+    }
+
+    // 스케줄링 주기마다 처리량을 새로 계산
+    public void reset() {
+        this.processed.reset();
+        this.failed.reset();
+        this.startedAt = System.nanoTime();
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public int getQueueDepth() {
+        return this.queueDepth.getAsInt();
+    }
+
+    public long getProcessed() {
+        return this.processed.sum();
+    }
+
+    public long getFailed() {
+        return this.failed.sum();
+    }
+
+    // 초당 처리 개수
+    public double getThroughput() {
+        double seconds = (double) (System.nanoTime() - this.startedAt) / TimeUnit.SECONDS.toNanos(1);
+        return seconds <= 0 ? 0 : getProcessed() / seconds;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[queue=%d, processed=%d, failed=%d, throughput=%.1f/s]",
+                this.name, getQueueDepth(), getProcessed(), getFailed(), getThroughput());
+    }
+}
@@ -0,0 +1,149 @@
+package zerobase.projectdividend.scraper;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+// 연속으로 실패하면 일정 시간 동안 요청을 막아(OPEN) 응답하지 않는 서버를 기다리지 않도록 함
+// - OPEN 시간은 다시 열릴 때마다 2배씩 늘어나고(최대 maxOpenDuration), 여러 인스턴스가 동시에 재시도하지 않도록 jitter 를 더함
+// - OPEN 시간이 지나면 HALF_OPEN 으로 바뀌어 한 번의 요청(probe)만 허용하고, 성공하면 CLOSED / 실패하면 다시 OPEN
+// - 요청 결과는 허가(Permit)를 받은 상태에서만 반영 (OPEN 되기 전에 보낸 요청이 늦게 성공해도 circuit 을 닫지 않음)
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    // tryAcquire 로 받은 요청 허가 (상태가 바뀔 때마다 늘어나는 generation 을 기록)
+    public static final class Permit {
+        private final long generation;
+
+        private Permit(long generation) {
+            this.generation = generation;
+        }
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long baseOpenNanos;
+    private final long maxOpenNanos;
+    private final LongSupplier clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    // 연속으로 OPEN 된 횟수 (backoff 계산용, 성공하면 초기화)
+    private int consecutiveOpens;
+    private long openUntil;
+    private boolean probing;
+    // 상태가 바뀔 때마다 증가, 이전 상태에서 받은 허가의 결과는 무시
+    private long generation;
+
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration, Duration maxOpenDuration) {
+        this(name, failureThreshold, openDuration, maxOpenDuration, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, int failureThreshold, Duration openDuration, Duration maxOpenDuration, LongSupplier clock) {
+        if (failureThreshold <= 0 || openDuration.isNegative() || maxOpenDuration.compareTo(openDuration) < 0) {
+            throw new IllegalArgumentException("invalid circuit breaker settings");
+        }
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.baseOpenNanos = openDuration.toNanos();
+        this.maxOpenNanos = maxOpenDuration.toNanos();
+        this.clock = clock;
+    }
+
+    // 열리지 않는 circuit breaker (재생 모드처럼 외부 서버를 호출하지 않는 경우)
+    public static CircuitBreaker disabled() {
+        return new CircuitBreaker("disabled", Integer.MAX_VALUE, Duration.ZERO, Duration.ZERO);
+    }
+
+    // 요청을 보내도 되면 허가를 반환
+    // 허가를 받은 호출자는 반드시 onSuccess / onFailure 중 하나를 호출해야 함
+    public synchronized Optional<Permit> tryAcquire() {
+        switch (this.state) {
+            case CLOSED:
+                return Optional.of(new Permit(this.generation));
+            case OPEN:
+                if (this.clock.getAsLong() - this.openUntil < 0) {
+                    return Optional.empty();
+                }
+                this.transition(State.HALF_OPEN);
+                this.probing = true;
+                log.info("circuit half-open -> {} (probing)", this.name);
+                return Optional.of(new Permit(this.generation));
+            default:
+                // HALF_OPEN 에서는 probe 결과가 나올 때까지 다른 요청을 막음
+                if (this.probing) {
+                    return Optional.empty();
+                }
+                this.probing = true;
+                return Optional.of(new Permit(this.generation));
+        }
+    }
+
+    // CLOSED 에서 받은 허가는 연속 실패 횟수만 초기화하고, HALF_OPEN 의 probe 만 circuit 을 닫음
+    public synchronized void onSuccess(Permit permit) {
+        if (permit.generation != this.generation) {
+            return;
+        }
+        this.consecutiveFailures = 0;
+        if (this.state == State.HALF_OPEN) {
+            log.info("circuit closed -> {}", this.name);
+            this.transition(State.CLOSED);
+            this.consecutiveOpens = 0;
+            this.probing = false;
+        }
+    }
+
+    public synchronized void onFailure(Permit permit) {
+        if (permit.generation != this.generation) {
+            return;
+        }
+        if (this.state == State.HALF_OPEN) {
+            this.probing = false;
+            this.open();
+            return;
+        }
+        if (++this.consecutiveFailures >= this.failureThreshold) {
+            this.open();
+        }
+    }
+
+    private void transition(State state) {
+        this.state = state;
+        this.generation++;
+    }
+
+    private void open() {
+        long backoff = this.baseOpenNanos << Math.min(this.consecutiveOpens, 30);
+        if (backoff <= 0 || backoff > this.maxOpenNanos) {
+            backoff = this.maxOpenNanos;
+        }
+        // 절반은 고정, 나머지 절반은 무작위
+        long half = backoff / 2;
+        long openNanos = half + (half > 0 ? ThreadLocalRandom.current().nextLong(half + 1) : 0);
+
+        this.transition(State.OPEN);
+        this.consecutiveOpens++;
+        this.consecutiveFailures = 0;
+        this.openUntil = this.clock.getAsLong() + openNanos;
+        log.warn("circuit opened -> {} for {} ms (opens: {})", this.name, openNanos / 1_000_000, this.consecutiveOpens);
+    }
+
+    public synchronized State getState() {
+        return this.state;
+    }
+
+    // OPEN 상태에서 다음 probe 까지 남은 시간
+    public synchronized Duration getRemainingOpenDuration() {
+        if (this.state != State.OPEN) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(Math.max(0, this.openUntil - this.clock.getAsLong()));
+    }
+}
@@ -0,0 +1,99 @@
+package zerobase.projectdividend.scraper;
+
+import zerobase.projectdividend.model.Dividend;
+import zerobase.projectdividend.model.constants.Month;
+
+import java.time.LocalDateTime;
+
+// 배당금 표의 한 줄("May 23, 2024 0.70 Dividend")을 읽어 Dividend 로 변환
+// split / replace / Integer.valueOf 없이 문자열을 한 번만 훑으며 날짜와 금액을 읽음
+public final class DividendRowParser {
+
+    private static final String DIVIDEND_SUFFIX = "Dividend";
+
+    private DividendRowParser() {
+    }
+
+    // 배당금 row 가 아니면 null 반환
+    public static Dividend parse(CharSequence row) {
+        int end = row.length();
+        if (!endsWith(row, end, DIVIDEND_SUFFIX)) {
+            return null;
+        }
+
+        int i = skipSpaces(row, 0, end);
+
+        // 월 (Jan ~ Dec)
+        int month = Month.numberOf(row, i);
+        if (month < 0) {
+            throw new IllegalArgumentException("Unexpected Month Value: " + row);
+        }
+        i = skipSpaces(row, i + 3, end);
+
+        // 일 (뒤에 붙은 ',' 는 건너뜀)
+        int dayStart = i;
+        int day = 0;
+        while (i < end && isDigit(row.charAt(i))) {
+            day = day * 10 + (row.charAt(i++) - '0');
+        }
+        if (i == dayStart) {
+            throw new IllegalArgumentException("Unexpected Day Value: " + row);
+        }
+        if (i < end && row.charAt(i) == ',') {
+            i++;
+        }
+        i = skipSpaces(row, i, end);
+
+        // 연도
+        int yearStart = i;
+        int year = 0;
+        while (i < end && isDigit(row.charAt(i))) {
+            year = year * 10 + (row.charAt(i++) - '0');
+        }
+        if (i == yearStart) {
+            throw new IllegalArgumentException("Unexpected Year Value: " + row);
+        }
+        i = skipSpaces(row, i, end);
+
+        // 배당금 (다음 공백 전까지)
+        int amountStart = i;
+        while (i < end && !isSpace(row.charAt(i))) {
+            i++;
+        }
+        if (i == amountStart || i == end) {
+            throw new IllegalArgumentException("Unexpected Dividend Value: " + row);
+        }
+
+        return new Dividend(LocalDateTime.of(year, month, day, 0, 0),
+                row.subSequence(amountStart, i).toString());
+    }
+
+    private static boolean endsWith(CharSequence seq, int end, String suffix) {
+        int offset = end - suffix.length();
+        if (offset < 0) {
+            return false;
+        }
+        for (int i = 0; i < suffix.length(); i++) {
+            if (seq.charAt(offset + i) != suffix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int skipSpaces(CharSequence seq, int i, int end) {
+        while (i < end && isSpace(seq.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    // html 의 &nbsp; 도 공백으로 처리
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\u00A0' || Character.isWhitespace(c);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,33 @@
+package zerobase.projectdividend.scraper;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.net.HttpURLConnection;
+
+// HTTP 로 받아온 페이지 (파싱은 Jsoup 에 body 만 넘겨서 처리)
+@Getter
+@AllArgsConstructor
+public class FetchedPage {
+
+    private final String url;
+    private final int statusCode;
+    private final String body;
+
+    // 실제로 전송받은 byte 수 (압축된 경우 압축된 크기)
+    private final long contentLength;
+
+    // 서버가 내려준 검증값 (없으면 null)
+    private final String etag;
+    private final String lastModified;
+
+    // 조건부 요청에 304 로 응답한 경우 (body 없음)
+    public boolean isNotModified() {
+        return this.statusCode == HttpURLConnection.HTTP_NOT_MODIFIED;
+    }
+
+    // 페이지가 없는 경우 (body 없음)
+    public boolean isNotFound() {
+        return this.statusCode == HttpURLConnection.HTTP_NOT_FOUND;
+    }
+}
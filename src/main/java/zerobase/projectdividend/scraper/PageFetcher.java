@@ -0,0 +1,121 @@
+package zerobase.projectdividend.scraper;
+
+import lombok.extern.slf4j.Slf4j;
+import zerobase.projectdividend.model.PageFingerprint;
+import zerobase.projectdividend.scraper.archive.PageArchive;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+// 공유 HttpClient 로 페이지를 비동기 요청
+// rate limiter 대기도 스레드를 재우지 않고 지연 실행으로 처리
+@Slf4j
+public class PageFetcher implements PageSource {
+
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/126.0.0.0 Safari/537.36";
+    private static final Executor DIRECT = Runnable::run;
+
+    private final HttpClient scrapHttpClient;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final Duration requestTimeout;
+
+    // 받아온 페이지를 기록할 보관소 (기록하지 않으면 null)
+    private final PageArchive recordArchive;
+
+    public PageFetcher(HttpClient scrapHttpClient, TokenBucketRateLimiter rateLimiter, Duration requestTimeout,
+                       PageArchive recordArchive) {
+        this.scrapHttpClient = scrapHttpClient;
+        this.rateLimiter = rateLimiter;
+        this.requestTimeout = requestTimeout;
+        this.recordArchive = recordArchive;
+    }
+
+    // 같은 url 을 이전에 받은 적이 있으면 ETag / Last-Modified 로 조건부 요청
+    @Override
+    public CompletableFuture<FetchedPage> fetch(String ticker, PageKind kind, String url, PageFingerprint previous) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .timeout(this.requestTimeout)
+                .header("User-Agent", USER_AGENT)
+                .header("Accept-Encoding", "gzip")
+                .GET();
+        if (previous != null && url.equals(previous.getUrl())) {
+            if (previous.getEtag() != null) {
+                builder.header("If-None-Match", previous.getEtag());
+            }
+            if (previous.getLastModified() != null) {
+                builder.header("If-Modified-Since", previous.getLastModified());
+            }
+        }
+        HttpRequest request = builder.build();
+
+        long waitNanos = this.rateLimiter.reserve(url);
+        Executor executor = waitNanos > 0
+                ? CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS)
+                : DIRECT;
+
+        return CompletableFuture.supplyAsync(() -> request, executor)
+                .thenCompose(r -> this.scrapHttpClient.sendAsync(r, HttpResponse.BodyHandlers.ofByteArray()))
+                .thenApply(response -> this.toPage(url, response))
+                .thenApply(page -> this.record(ticker, kind, page));
+    }
+
+    private FetchedPage record(String ticker, PageKind kind, FetchedPage page) {
+        if (this.recordArchive == null || page.isNotModified() || page.isNotFound()) {
+            return page;
+        }
+
+        // 기록에 실패해도 스크래핑은 계속 진행
+        try {
+            this.recordArchive.record(ticker, kind, Instant.now(), page.getBody());
+        } catch (IOException e) {
+            log.warn("fail to record page -> {} {}", ticker, kind, e);
+        }
+        return page;
+    }
+
+    private FetchedPage toPage(String url, HttpResponse<byte[]> response) {
+        // 없는 페이지는 실패가 아닌 빈 페이지로 전달 (스크래퍼가 서버 장애와 구분해서 처리)
+        if (response.statusCode() == HttpURLConnection.HTTP_NOT_FOUND) {
+            return new FetchedPage(url, response.statusCode(), "", response.body().length, null, null);
+        }
+        // 429, 5xx 등 나머지 에러 응답은 서버 쪽 문제로 봄
+        if (response.statusCode() >= 400) {
+            throw new CompletionException(new IOException("HTTP " + response.statusCode() + " -> " + url));
+        }
+
+        String etag = response.headers().firstValue("ETag").orElse(null);
+        String lastModified = response.headers().firstValue("Last-Modified").orElse(null);
+
+        byte[] raw = response.body();
+        boolean gzip = response.headers().firstValue("Content-Encoding")
+                .map(v -> v.equalsIgnoreCase("gzip"))
+                .orElse(false);
+        try {
+            byte[] body = gzip && raw.length > 0 ? gunzip(raw) : raw;
+            return new FetchedPage(url, response.statusCode(), new String(body, StandardCharsets.UTF_8), raw.length,
+                    etag, lastModified);
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private static byte[] gunzip(byte[] raw) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(raw))) {
+            return in.readAllBytes();
+        }
+    }
+}
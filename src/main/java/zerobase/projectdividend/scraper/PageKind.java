@@ -0,0 +1,8 @@
+package zerobase.projectdividend.scraper;
+
+// 스크래퍼가 요청하는 페이지 종류 (페이지 보관소의 색인으로도 사용)
+public enum PageKind {
+    SUMMARY,          // 회사 요약 페이지
+    DIVIDEND_HISTORY, // 배당금 이벤트만 있는 이력 페이지
+    FULL_HISTORY      // 월별 주가 + 배당금 이력 페이지
+}
@@ -0,0 +1,16 @@
+package zerobase.projectdividend.scraper;
+
+import zerobase.projectdividend.model.PageFingerprint;
+
+import java.util.concurrent.CompletableFuture;
+
+// 스크래퍼가 페이지를 가져오는 곳 (네트워크 / 디스크에 보관된 페이지)
+public interface PageSource {
+
+    // previous 가 있으면 같은 url 에 대해 조건부 요청
+    CompletableFuture<FetchedPage> fetch(String ticker, PageKind kind, String url, PageFingerprint previous);
+
+    default CompletableFuture<FetchedPage> fetch(String ticker, PageKind kind, String url) {
+        return fetch(ticker, kind, url, null);
+    }
+}
@@ -0,0 +1,12 @@
+package zerobase.projectdividend.scraper;
+
+import zerobase.projectdividend.model.ScrapedResult;
+
+// 일괄 스크래핑 결과를 끝나는 순서대로 받음 (여러 스레드에서 동시에 호출될 수 있음)
+public interface ScrapListener {
+
+    void onSuccess(ScrapTarget target, ScrapedResult result);
+
+    // 스크래핑 실패 또는 onSuccess 에서 예외가 발생한 경우
+    void onFailure(ScrapTarget target, Throwable cause);
+}
@@ -0,0 +1,96 @@
+package zerobase.projectdividend.scraper;
+
+import org.springframework.stereotype.Component;
+import zerobase.projectdividend.model.constants.ScrapMode;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// 스크래핑 모드별 요청 수, 받아온 byte 수 집계
+@Component
+public class ScrapMetrics {
+
+    private final Map<ScrapMode, LongAdder> pages = new EnumMap<>(ScrapMode.class);
+    private final Map<ScrapMode, LongAdder> bytes = new EnumMap<>(ScrapMode.class);
+    private final LongAdder fallbacks = new LongAdder();
+
+    // 배당금 페이지 처리 결과 : 304 응답 / 표 내용이 같아 생략 / 파싱
+    private final LongAdder notModified = new LongAdder();
+    private final LongAdder unchanged = new LongAdder();
+    private final LongAdder parsed = new LongAdder();
+
+    public ScrapMetrics() {
+        for (ScrapMode mode : ScrapMode.values()) {
+            this.pages.put(mode, new LongAdder());
+            this.bytes.put(mode, new LongAdder());
+        }
+    }
+
+    public void recordPage(ScrapMode mode, long byteCount) {
+        this.pages.get(mode).increment();
+        this.bytes.get(mode).add(byteCount);
+    }
+
+    // 배당금 전용 페이지를 파싱하지 못해 전체 이력 페이지로 다시 요청한 경우
+    public void recordFallback() {
+        this.fallbacks.increment();
+    }
+
+    public void recordNotModified() {
+        this.notModified.increment();
+    }
+
+    public void recordUnchanged() {
+        this.unchanged.increment();
+    }
+
+    public void recordParsed() {
+        this.parsed.increment();
+    }
+
+    public long getPages(ScrapMode mode) {
+        return this.pages.get(mode).sum();
+    }
+
+    public long getBytes(ScrapMode mode) {
+        return this.bytes.get(mode).sum();
+    }
+
+    public long getFallbacks() {
+        return this.fallbacks.sum();
+    }
+
+    public long getNotModified() {
+        return this.notModified.sum();
+    }
+
+    public long getUnchanged() {
+        return this.unchanged.sum();
+    }
+
+    public long getParsed() {
+        return this.parsed.sum();
+    }
+
+    // 파싱과 DB 비교를 생략한 비율
+    public double getSkipRatio() {
+        long skipped = getNotModified() + getUnchanged();
+        long total = skipped + getParsed();
+        return total == 0 ? 0 : (double) skipped / total;
+    }
+
+    public String summary() {
+        StringBuilder sb = new StringBuilder();
+        for (ScrapMode mode : ScrapMode.values()) {
+            sb.append(mode).append("[pages=").append(getPages(mode))
+                    .append(", bytes=").append(getBytes(mode)).append("] ");
+        }
+        return sb.append("fallbacks=").append(getFallbacks())
+                .append(" notModified=").append(getNotModified())
+                .append(" unchanged=").append(getUnchanged())
+                .append(" parsed=").append(getParsed())
+                .append(String.format(" skipRatio=%.2f", getSkipRatio()))
+                .toString();
+    }
+}
@@ -0,0 +1,24 @@
+package zerobase.projectdividend.scraper;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import zerobase.projectdividend.model.Company;
+import zerobase.projectdividend.model.PageFingerprint;
+
+import java.time.LocalDateTime;
+
+// 일괄 스크래핑 대상 (since, previous 는 Scraper.scrap 과 같은 의미, 없으면 null)
+@Getter
+@ToString
+@AllArgsConstructor
+public class ScrapTarget {
+
+    private final Company company;
+    private final LocalDateTime since;
+    private final PageFingerprint previous;
+
+    public ScrapTarget(Company company) {
+        this(company, null, null);
+    }
+}
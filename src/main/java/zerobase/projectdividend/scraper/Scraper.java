@@ -1,9 +1,104 @@
 package zerobase.projectdividend.scraper;
 
+import org.slf4j.LoggerFactory;
 import zerobase.projectdividend.model.Company;
+import zerobase.projectdividend.model.PageFingerprint;
 import zerobase.projectdividend.model.ScrapedResult;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+
 public interface Scraper {
     Company scrapCompanyByTicker(String ticker);
-    ScrapedResult scrap(Company company);
+
+    // 전체 배당금 내역 스크래핑
+    default ScrapedResult scrap(Company company) {
+        return scrap(company, null);
+    }
+
+    // since 이후의 배당금 내역만 스크래핑 (since 가 null 이면 전체)
+    // 어떤 페이지에서 스크래핑했는지는 ScrapedResult.mode 로 반환
+    default ScrapedResult scrap(Company company, LocalDateTime since) {
+        return scrap(company, since, null);
+    }
+
+    // previous 와 비교해 배당금 페이지가 바뀌지 않았으면 파싱을 생략하고 unchanged 결과를 반환
+    ScrapedResult scrap(Company company, LocalDateTime since, PageFingerprint previous);
+
+    // 호출한 스레드를 막지 않는 비동기 버전 (실패는 future 의 예외로 전달)
+    CompletableFuture<Company> scrapCompanyByTickerAsync(String ticker);
+
+    default CompletableFuture<ScrapedResult> scrapAsync(Company company, LocalDateTime since) {
+        return scrapAsync(company, since, null);
+    }
+
+    // 응답을 받은 스레드에서 바로 파싱
+    default CompletableFuture<ScrapedResult> scrapAsync(Company company, LocalDateTime since, PageFingerprint previous) {
+        return scrapAsync(company, since, previous, Runnable::run);
+    }
+
+    // 페이지 파싱(HTML, row)은 parser 에서 실행 (네트워크 스레드와 CPU 작업 분리)
+    CompletableFuture<ScrapedResult> scrapAsync(Company company, LocalDateTime since, PageFingerprint previous, Executor parser);
+
+    default CompletableFuture<Void> scrapAll(Collection<ScrapTarget> targets, int maxInFlight, ScrapListener listener) {
+        return scrapAll(targets, maxInFlight, Runnable::run, listener);
+    }
+
+    // 여러 회사를 최대 maxInFlight 개씩 동시에 스크래핑하고 끝나는 순서대로 listener 에 전달
+    // 한 회사의 실패는 해당 회사의 onFailure 로만 전달되고 나머지 회사는 계속 진행
+    // listener 가 던진 예외도 onFailure 로 전달하고, onFailure 의 예외는 기록만 함 (결과 future 는 항상 정상 완료)
+    // 동시 요청 수가 가득 차면 호출한 스레드가 자리가 날 때까지 대기
+    // -> listener 가 끝나야 다음 회사를 요청하므로, listener 가 느리면(저장 대기) 새 요청을 보내지 않음
+    default CompletableFuture<Void> scrapAll(Collection<ScrapTarget> targets, int maxInFlight, Executor parser,
+                                             ScrapListener listener) {
+        Semaphore permits = new Semaphore(maxInFlight);
+        List<CompletableFuture<Void>> futures = new ArrayList<>(targets.size());
+
+        for (ScrapTarget target : targets) {
+            permits.acquireUninterruptibly();
+
+            CompletableFuture<ScrapedResult> future;
+            try {
+                future = scrapAsync(target.getCompany(), target.getSince(), target.getPrevious(), parser);
+            } catch (RuntimeException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+
+            futures.add(future.handle((result, error) -> {
+                try {
+                    if (error == null) {
+                        try {
+                            listener.onSuccess(target, result);
+                        } catch (RuntimeException e) {
+                            notifyFailure(listener, target, e);
+                        }
+                    } else {
+                        notifyFailure(listener, target, error instanceof CompletionException && error.getCause() != null
+                                ? error.getCause() : error);
+                    }
+                } finally {
+                    permits.release();
+                }
+                return null;
+            }));
+        }
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+    }
+
+    // listener 의 onFailure 예외는 기록만 하고 전체 결과(allOf)로 넘기지 않음 (다른 회사의 결과와 무관)
+    private static void notifyFailure(ScrapListener listener, ScrapTarget target, Throwable error) {
+        try {
+            listener.onFailure(target, error);
+        } catch (RuntimeException e) {
+            LoggerFactory.getLogger(Scraper.class)
+                    .error("scrap listener failed -> {}", target.getCompany().getTicker(), e);
+        }
+    }
 }
@@ -0,0 +1,66 @@
+package zerobase.projectdividend.scraper;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+// host 마다 token bucket 을 두어 스크래핑 대상 서버에 보내는 요청 속도를 제한
+// -> 고정된 sleep 대신 허용된 속도(permits-per-second) 만큼은 동시에 요청 가능
+@Component
+public class TokenBucketRateLimiter {
+
+    private final ConcurrentMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    private final double permitsPerSecond;
+    private final int burst;
+
+    public TokenBucketRateLimiter(@Value("${scraper.rate-limit.permits-per-second}") double permitsPerSecond,
+                                  @Value("${scraper.rate-limit.burst}") int burst) {
+        if (permitsPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond and burst must be positive");
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+    }
+
+    // url 의 host 에 해당하는 bucket 에서 token 을 하나 예약하고
+    // 요청을 보내기 전까지 기다려야 하는 시간(ns)을 반환
+    // -> 비동기 요청은 스레드를 재우지 않고 이 시간만큼 지연 실행
+    public long reserve(String url) {
+        String host = URI.create(url).getHost();
+        return this.buckets.computeIfAbsent(host, h -> new Bucket(this.permitsPerSecond, this.burst))
+                .reserve();
+    }
+
+    private static class Bucket {
+        private final double refillPerNano;
+        private final double capacity;
+
+        private double tokens;
+        private long lastRefill;
+
+        Bucket(double permitsPerSecond, int burst) {
+            this.refillPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+            this.capacity = burst;
+            this.tokens = burst;
+            this.lastRefill = System.nanoTime();
+        }
+
+        // 남은 token 이 없으면 음수로 빌려 쓰고, 다시 채워질 때까지의 시간을 반환
+        synchronized long reserve() {
+            long now = System.nanoTime();
+            this.tokens = Math.min(this.capacity, this.tokens + (now - this.lastRefill) * this.refillPerNano);
+            this.lastRefill = now;
+
+            this.tokens -= 1;
+            if (this.tokens >= 0) {
+                return 0;
+            }
+            return (long) Math.ceil(-this.tokens / this.refillPerNano);
+        }
+    }
+}
@@ -1,91 +1,251 @@
 package zerobase.projectdividend.scraper;
 
-import org.jsoup.Connection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
 import org.springframework.stereotype.Component;
+import zerobase.projectdividend.exception.AbstractException;
+import zerobase.projectdividend.exception.impl.CircuitOpenException;
+import zerobase.projectdividend.exception.impl.FailToScrapException;
 import zerobase.projectdividend.exception.impl.NotExistCompanyWithTickerException;
+import zerobase.projectdividend.exception.impl.PageNotFoundException;
 import zerobase.projectdividend.model.Company;
 import zerobase.projectdividend.model.Dividend;
+import zerobase.projectdividend.model.PageFingerprint;
 import zerobase.projectdividend.model.ScrapedResult;
-import zerobase.projectdividend.model.constants.Month;
+import zerobase.projectdividend.model.constants.ScrapMode;
 
-import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
+@Slf4j
 @Component
+@RequiredArgsConstructor
 public class YahooFinanceScraper implements Scraper{
+    // 배당금 이벤트만 보여주는 페이지 (월별 주가 row 가 없어 훨씬 가벼움)
+    private static final String DIVIDEND_URL = "https://finance.yahoo.com/quote/%s/history/?p=%s&filter=div&period1=%d&period2=%d";
     private static final String STATISTICS_URL = "https://finance.yahoo.com/quote/%s/history/?p=%s&frequency=1mo&period1=%d&period2=%d";
     private static final String SUMMARY_URL = "https://finance.yahoo.com/quote/%s/?p=%s";
 
     private static final long START_TIME = 86400; // 68*60*24
 
+    private final PageSource pageSource;
+    private final ScrapMetrics scrapMetrics;
+    private final CircuitBreaker circuitBreaker;
+
     @Override
-    public ScrapedResult scrap(Company company){
-        var scrapResult = new ScrapedResult();
-        scrapResult.setCompany(company);
+    public ScrapedResult scrap(Company company, LocalDateTime since, PageFingerprint previous){
         try {
-            long start = START_TIME;
-            long end = System.currentTimeMillis()/1000;
-            String url = String.format(STATISTICS_URL, company.getTicker(),company.getTicker(), start, end);
+            return this.scrapAsync(company, since, previous).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            log.error("fail to scrap dividends -> {}", company.getTicker(), e.getCause());
 
-            Connection connect = Jsoup.connect(url);
-            Document doc = connect.get();
+            var scrapResult = new ScrapedResult();
+            scrapResult.setCompany(company);
+            return scrapResult;
+        }
+    }
 
-            Elements parsingDivs = doc.getElementsByClass("table svelte-ewueuo");
-            Element tableEle = parsingDivs.get(0);
+    @Override
+    public CompletableFuture<ScrapedResult> scrapAsync(Company company, LocalDateTime since, PageFingerprint previous,
+                                                       Executor parser){
+        // 마지막으로 저장된 배당일 다음날부터만 요청 (없으면 전체 기간)
+        long start = since == null ? START_TIME
+                : since.toLocalDate().plusDays(1).atStartOfDay(ZoneOffset.UTC).toEpochSecond();
+        // 종료 시점을 다음날 0시로 맞춰 하루 동안은 같은 url 로 요청 (조건부 요청이 가능하도록)
+        long end = LocalDate.now(ZoneOffset.UTC).plusDays(1).atStartOfDay(ZoneOffset.UTC).toEpochSecond();
+        String ticker = company.getTicker();
+        String dividendUrl = String.format(DIVIDEND_URL, ticker, ticker, start, end);
+        String statisticsUrl = String.format(STATISTICS_URL, ticker, ticker, start, end);
+
+        // 배당금 전용 페이지를 먼저 요청하고, 표를 찾지 못하면 기존 전체 이력 페이지로 다시 요청
+        return this.guarded(() -> this.fetchHistoryTable(ticker, dividendUrl, ScrapMode.DIVIDEND_ONLY, previous, parser)
+                .thenCompose(table -> {
+                    // 표를 찾은 parser 스레드에서 이어서 row 파싱 (이미 끝난 future 면 호출한 스레드에서 실행)
+                    if (table.isFound()) {
+                        return CompletableFuture.completedFuture(this.toResult(company, table, previous));
+                    }
+
+                    this.scrapMetrics.recordFallback();
+                    return this.fetchHistoryTable(ticker, statisticsUrl, ScrapMode.FULL_HISTORY, previous, parser)
+                            .thenApply(fallback -> {
+                                if (fallback.page.isNotFound()) {
+                                    throw new PageNotFoundException();
+                                }
+                                if (!fallback.isFound()) {
+                                    throw new FailToScrapException();
+                                }
+                                return this.toResult(company, fallback, previous);
+                            });
+                }));
+    }
 
+    // circuit 이 열려 있으면 요청 없이 바로 실패시키고, 끝난 요청의 결과를 circuit breaker 에 기록
+    private <T> CompletableFuture<T> guarded(Supplier<CompletableFuture<T>> call) {
+        Optional<CircuitBreaker.Permit> acquired = this.circuitBreaker.tryAcquire();
+        if (acquired.isEmpty()) {
+            return CompletableFuture.failedFuture(new CircuitOpenException());
+        }
+        CircuitBreaker.Permit permit = acquired.get();
 
-            Element tbody = tableEle.children().get(1);
-            List<Dividend> dividends = new ArrayList<>();
-            for (Element e : tbody.children()) {
-                String txt = e.text();
-                if (!txt.endsWith("Dividend")) {
-                    continue;
-                }
-                String[] splits = txt.split(" ");
-                int  month = Month.stringToNumber(splits[0]);
-                int day = Integer.valueOf(splits[1].replace(",", ""));
-                int year = Integer.valueOf(splits[2]);
-                String dividend = splits[3];
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future.whenComplete((result, error) -> {
+            if (error == null || !isUpstreamFailure(error)) {
+                this.circuitBreaker.onSuccess(permit);
+            } else {
+                this.circuitBreaker.onFailure(permit);
+            }
+        });
+    }
 
-                if(month<0){
-                    throw new RuntimeException("Unexpected Month Value: " + splits[0]);
-                }
+    // 통신 실패, 타임아웃, 에러 응답(429, 5xx), 표를 찾지 못하거나 읽지 못한 경우(마크업 변경)를 서버 쪽 문제로 봄
+    // 없는 ticker, 없는 페이지(404)처럼 서버가 정상적으로 응답한 경우는 제외
+    private static boolean isUpstreamFailure(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof PageNotFoundException) {
+            return false;
+        }
+        return !(cause instanceof AbstractException) || cause instanceof FailToScrapException;
+    }
 
-                dividends.add(new Dividend(LocalDateTime.of(year, month, day, 0, 0), dividend));
+    // 이력 페이지를 받아 parser 에서 배당금 표의 tbody 를 찾음
+    private CompletableFuture<HistoryTable> fetchHistoryTable(String ticker, String url, ScrapMode mode,
+                                                              PageFingerprint previous, Executor parser) {
+        PageKind kind = mode == ScrapMode.DIVIDEND_ONLY ? PageKind.DIVIDEND_HISTORY : PageKind.FULL_HISTORY;
+        return this.pageSource.fetch(ticker, kind, url, previous).thenApplyAsync(page -> {
+            this.scrapMetrics.recordPage(mode, page.getContentLength());
+            if (page.isNotModified()) {
+                return new HistoryTable(mode, page, null);
+            }
 
+            Document doc = Jsoup.parse(page.getBody(), url);
+            Elements parsingDivs = doc.getElementsByClass("table svelte-ewueuo");
+            if (parsingDivs.isEmpty() || parsingDivs.get(0).children().size() < 2) {
+                return new HistoryTable(mode, page, null);
             }
-            scrapResult.setDividends(dividends);
+            return new HistoryTable(mode, page, parsingDivs.get(0).children().get(1));
+        }, parser);
+    }
 
-        } catch (IOException e) {
-            e.printStackTrace();
+    // 바뀐 내용이 없으면 row 파싱 없이 unchanged 결과를 반환
+    private ScrapedResult toResult(Company company, HistoryTable table, PageFingerprint previous) {
+        FetchedPage page = table.page;
+        ScrapedResult scrapResult = new ScrapedResult();
+        scrapResult.setCompany(company);
+        scrapResult.setMode(table.mode);
+
+        if (page.isNotModified()) {
+            this.scrapMetrics.recordNotModified();
+            scrapResult.setUnchanged(true);
+            scrapResult.setFingerprint(previous);
+            return scrapResult;
         }
 
+        String hash = sha256(table.tbody.html());
+        scrapResult.setFingerprint(new PageFingerprint(page.getUrl(), page.getEtag(), page.getLastModified(), hash));
+        if (previous != null && hash.equals(previous.getHash())) {
+            this.scrapMetrics.recordUnchanged();
+            scrapResult.setUnchanged(true);
+            return scrapResult;
+        }
+
+        this.scrapMetrics.recordParsed();
+        scrapResult.setDividends(this.parse(table.tbody));
         return scrapResult;
     }
 
+    private List<Dividend> parse(Element tbody) {
+        List<Dividend> dividends = new ArrayList<>();
+        for (Element e : tbody.children()) {
+            // 배당금 row 가 아니면 null
+            Dividend dividend = DividendRowParser.parse(e.text());
+            if (dividend != null) {
+                dividends.add(dividend);
+            }
+        }
+        return dividends;
+    }
+
+    private static String sha256(String s) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(s.getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     @Override
     public Company scrapCompanyByTicker(String ticker){
+        try {
+            return this.scrapCompanyByTickerAsync(ticker).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            log.error("fail to scrap company -> {}", ticker, e.getCause());
+        }
+        return null;
+
+    }
+
+    @Override
+    public CompletableFuture<Company> scrapCompanyByTickerAsync(String ticker){
         String url = String.format(SUMMARY_URL, ticker, ticker);
 
-        try{
-            Document document = Jsoup.connect(url).get();
-            Element titleElement = document.getElementsByClass("svelte-3a2v0c").get(1);
-            String title = titleElement.text().split("\\(")[0].trim();
+        return this.guarded(() -> this.pageSource.fetch(ticker, PageKind.SUMMARY, url).thenApply(page -> {
+            try {
+                Document document = Jsoup.parse(page.getBody(), url);
+                Element titleElement = document.getElementsByClass("svelte-3a2v0c").get(1);
+                String title = titleElement.text().split("\\(")[0].trim();
 
-            return new Company(ticker, title);
-        }catch (IOException e){
-            e.printStackTrace();
-        }
-        catch (IndexOutOfBoundsException e){
-            throw new NotExistCompanyWithTickerException();
+                return new Company(ticker, title);
+            } catch (IndexOutOfBoundsException e) {
+                throw new NotExistCompanyWithTickerException();
+            }
+        }));
+    }
+
+    private static class HistoryTable {
+        private final ScrapMode mode;
+        private final FetchedPage page;
+        private final Element tbody;
+
+        HistoryTable(ScrapMode mode, FetchedPage page, Element tbody) {
+            this.mode = mode;
+            this.page = page;
+            this.tbody = tbody;
         }
-        return null;
 
+        // 304 응답이거나 배당금 표를 찾은 경우
+        boolean isFound() {
+            return this.page.isNotModified() || this.tbody != null;
+        }
     }
 }
@@ -0,0 +1,7 @@
+package zerobase.projectdividend.scraper.archive;
+
+public enum ArchiveMode {
+    OFF,    // 보관소 사용 안 함
+    RECORD, // 네트워크로 받아온 페이지를 보관소에 기록
+    REPLAY  // 네트워크 대신 보관소의 페이지로 스크래핑
+}
@@ -0,0 +1,46 @@
+package zerobase.projectdividend.scraper.archive;
+
+import zerobase.projectdividend.model.PageFingerprint;
+import zerobase.projectdividend.scraper.FetchedPage;
+import zerobase.projectdividend.scraper.PageKind;
+import zerobase.projectdividend.scraper.PageSource;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+// 네트워크 대신 보관소에 기록된 페이지를 돌려줌
+// 기록된 페이지가 없으면 404 (빈 body) 로 응답해 표를 찾지 못한 경우와 같이 처리
+public class ArchivePageSource implements PageSource {
+
+    private final PageArchive archive;
+
+    // 이 시점 이전에 기록된 페이지를 재생 (null 이면 가장 최근 페이지)
+    private final Instant replayAt;
+
+    public ArchivePageSource(PageArchive archive, Instant replayAt) {
+        this.archive = archive;
+        this.replayAt = replayAt;
+    }
+
+    @Override
+    public CompletableFuture<FetchedPage> fetch(String ticker, PageKind kind, String url, PageFingerprint previous) {
+        Optional<Path> page = this.archive.find(ticker, kind, this.replayAt);
+        if (page.isEmpty()) {
+            return CompletableFuture.completedFuture(
+                    new FetchedPage(url, HttpURLConnection.HTTP_NOT_FOUND, "", 0, null, null));
+        }
+
+        try {
+            Path file = page.get();
+            return CompletableFuture.completedFuture(
+                    new FetchedPage(url, HttpURLConnection.HTTP_OK, this.archive.read(file), Files.size(file), null, null));
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package zerobase.projectdividend.scraper.archive;
+
+import zerobase.projectdividend.scraper.PageKind;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+// 스크래핑한 원본 페이지를 디스크에 gzip 으로 보관
+// {root}/{ticker}/{kind}/{fetchedAt(epoch ms)}.html.gz 형태로 저장하고 ticker, 종류, 시각으로 색인
+// -> 네트워크 없이 같은 페이지로 파싱/스케줄러를 반복 측정하거나 DB 를 다시 채울 때 사용
+public class PageArchive {
+
+    private static final String SUFFIX = ".html.gz";
+
+    private final Path root;
+
+    // ticker + 종류 -> (시각 -> 파일) 색인, 처음 조회할 때 디렉토리를 읽어서 만듦
+    private final Map<String, NavigableMap<Long, Path>> index = new ConcurrentHashMap<>();
+
+    public PageArchive(Path root) {
+        this.root = root;
+    }
+
+    public Path record(String ticker, PageKind kind, Instant fetchedAt, String body) throws IOException {
+        Path dir = this.directory(ticker, kind);
+        Files.createDirectories(dir);
+
+        // 임시 파일에 쓴 뒤 옮겨서 읽는 쪽에서 쓰다 만 파일을 보지 않도록 함
+        Path tmp = Files.createTempFile(dir, "page", ".tmp");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(tmp))) {
+            out.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        Path target = dir.resolve(fetchedAt.toEpochMilli() + SUFFIX);
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        this.pages(ticker, kind).put(fetchedAt.toEpochMilli(), target);
+        return target;
+    }
+
+    // at 시점 이전에 기록된 페이지 중 가장 최근 것 (at 이 null 이면 가장 최근 것)
+    public Optional<Path> find(String ticker, PageKind kind, Instant at) {
+        NavigableMap<Long, Path> pages = this.pages(ticker, kind);
+        Map.Entry<Long, Path> entry = at == null ? pages.lastEntry() : pages.floorEntry(at.toEpochMilli());
+        return Optional.ofNullable(entry).map(Map.Entry::getValue);
+    }
+
+    // 기록된 시각 목록
+    public List<Instant> list(String ticker, PageKind kind) {
+        List<Instant> result = new ArrayList<>();
+        for (Long millis : this.pages(ticker, kind).keySet()) {
+            result.add(Instant.ofEpochMilli(millis));
+        }
+        return result;
+    }
+
+    // 파일을 memory-mapped 로 읽어 압축 해제
+    public String read(Path page) throws IOException {
+        try (FileChannel channel = FileChannel.open(page, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            try (InputStream in = new GZIPInputStream(new ByteBufferInputStream(buffer), 64 * 1024)) {
+                return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        }
+    }
+
+    private NavigableMap<Long, Path> pages(String ticker, PageKind kind) {
+        return this.index.computeIfAbsent(key(ticker, kind), k -> this.scan(ticker, kind));
+    }
+
+    private NavigableMap<Long, Path> scan(String ticker, PageKind kind) {
+        NavigableMap<Long, Path> pages = new ConcurrentSkipListMap<>();
+        Path dir = this.directory(ticker, kind);
+        if (!Files.isDirectory(dir)) {
+            return pages;
+        }
+
+        try (Stream<Path> files = Files.list(dir)) {
+            files.forEach(file -> {
+                String name = file.getFileName().toString();
+                if (name.endsWith(SUFFIX)) {
+                    try {
+                        pages.put(Long.parseLong(name.substring(0, name.length() - SUFFIX.length())), file);
+                    } catch (NumberFormatException ignored) {
+                        // 보관소 형식이 아닌 파일은 무시
+                    }
+                }
+            });
+        } catch (IOException e) {
+            throw new IllegalStateException("fail to read page archive -> " + dir, e);
+        }
+        return pages;
+    }
+
+    private Path directory(String ticker, PageKind kind) {
+        // ^FCHI, KC=F 같은 ticker 도 디렉토리 이름으로 쓸 수 있도록 인코딩
+        return this.root.resolve(URLEncoder.encode(ticker, StandardCharsets.UTF_8)).resolve(kind.name());
+    }
+
+    private static String key(String ticker, PageKind kind) {
+        return ticker + '/' + kind;
+    }
+
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return this.buffer.hasRemaining() ? this.buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (!this.buffer.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(len, this.buffer.remaining());
+            this.buffer.get(b, off, n);
+            return n;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package zerobase.projectdividend.scraper.archive;
+
+import zerobase.projectdividend.scraper.CircuitBreaker;
+import zerobase.projectdividend.scraper.ScrapMetrics;
+import zerobase.projectdividend.scraper.YahooFinanceScraper;
+
+import java.time.Instant;
+
+// 보관소의 페이지로 동작하는 YahooFinanceScraper
+// 스프링 없이도 생성할 수 있어 벤치마크나 DB 재구성 도구에서 바로 사용
+public class ReplayScraper extends YahooFinanceScraper {
+
+    public ReplayScraper(PageArchive archive, Instant replayAt, ScrapMetrics scrapMetrics) {
+        super(new ArchivePageSource(archive, replayAt), scrapMetrics, CircuitBreaker.disabled());
+    }
+
+    public ReplayScraper(PageArchive archive) {
+        this(archive, null, new ScrapMetrics());
+    }
+}
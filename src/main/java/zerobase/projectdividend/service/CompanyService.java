@@ -7,26 +7,51 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.ObjectUtils;
+import zerobase.projectdividend.cache.TwoLevelCacheManager;
+import zerobase.projectdividend.exception.AbstractException;
 import zerobase.projectdividend.exception.impl.*;
+import zerobase.projectdividend.model.BulkRegistration;
 import zerobase.projectdividend.model.Company;
 import zerobase.projectdividend.model.ScrapedResult;
+import zerobase.projectdividend.model.constants.CacheKey;
+import zerobase.projectdividend.persist.alias.CompanyAliasIndex;
 import zerobase.projectdividend.persist.entity.CompanyEntity;
 import zerobase.projectdividend.persist.entity.DividendEntity;
 import zerobase.projectdividend.persist.repository.CompanyRepository;
 import zerobase.projectdividend.persist.repository.DividendRepository;
+import zerobase.projectdividend.persist.repository.ScrapStateRepository;
+import zerobase.projectdividend.persist.series.DividendSeriesStore;
+import zerobase.projectdividend.scraper.ScrapListener;
+import zerobase.projectdividend.scraper.ScrapTarget;
 import zerobase.projectdividend.scraper.Scraper;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 @Service
 @AllArgsConstructor
 @Slf4j
 public class CompanyService {
+    // 여러 회사를 한 번에 추가할 때 동시에 스크래핑하는 회사 수
+    private static final int BULK_MAX_IN_FLIGHT = 4;
+
     private final CompanyRepository companyRepository;
     private final DividendRepository dividendRepository;
+    private final ScrapStateRepository scrapStateRepository;
     private final Scraper yahooFinanceScraper;
+    private final DividendSeriesStore dividendSeriesStore;
+    private final CompanyAliasIndex companyAliasIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final TwoLevelCacheManager cacheManager;
 
     private final Trie trie;
 
@@ -52,16 +77,97 @@ public class CompanyService {
         // 해당 회사 존재할 경우 회사의 배당금 정보 스크래핑
         ScrapedResult scrapedResult = this.yahooFinanceScraper.scrap(company);
 
-        // 스크래핑 결과
-        CompanyEntity companyEntity = this.companyRepository.save(new CompanyEntity(company));
-        List<DividendEntity> dividendEntities = scrapedResult.getDividends().stream()
-                .map(e -> new DividendEntity(companyEntity.getId(), e))
-                .collect(Collectors.toList());
-
-        this.dividendRepository.saveAll(dividendEntities);
+        this.storeScrapedResult(company, scrapedResult);
         return company;
     }
 
+    // 여러 회사를 한 번에 추가
+    // 한 회사의 실패는 결과의 failed 에만 기록하고 나머지 회사는 계속 추가
+    public BulkRegistration saveAll(List<String> tickers) {
+        BulkRegistration registration = new BulkRegistration();
+
+        // 빈 ticker, 중복 ticker, 이미 보유하고 있는 회사는 제외
+        Set<String> newTickers = new LinkedHashSet<>();
+        for (String ticker : tickers) {
+            String trimmed = ticker == null ? "" : ticker.trim();
+            if (ObjectUtils.isEmpty(trimmed) || newTickers.contains(trimmed)) {
+                continue;
+            }
+            if (this.companyRepository.existsByTicker(trimmed)) {
+                registration.addFailed(trimmed, new AlreadyExistCompanyException().getMessage());
+                continue;
+            }
+            newTickers.add(trimmed);
+        }
+
+        // ticker 를 기준으로 회사 정보를 동시에 스크래핑
+        Map<String, CompletableFuture<Company>> companyFutures = new LinkedHashMap<>();
+        for (String ticker : newTickers) {
+            companyFutures.put(ticker, this.yahooFinanceScraper.scrapCompanyByTickerAsync(ticker));
+        }
+
+        List<ScrapTarget> targets = new ArrayList<>(companyFutures.size());
+        companyFutures.forEach((ticker, future) -> {
+            try {
+                Company company = future.join();
+                if (ObjectUtils.isEmpty(company)) {
+                    throw new FailToScrapException();
+                }
+                targets.add(new ScrapTarget(company));
+            } catch (CompletionException | AbstractException e) {
+                registration.addFailed(ticker, failureReason(e));
+            }
+        });
+
+        // 회사 정보를 찾은 회사들의 배당금 정보를 일괄 스크래핑하고 끝나는 순서대로 저장
+        this.yahooFinanceScraper.scrapAll(targets, BULK_MAX_IN_FLIGHT, new ScrapListener() {
+            @Override
+            public void onSuccess(ScrapTarget target, ScrapedResult result) {
+                storeScrapedResult(target.getCompany(), result);
+                registration.addRegistered(target.getCompany());
+            }
+
+            @Override
+            public void onFailure(ScrapTarget target, Throwable cause) {
+                log.error("fail to register company -> {}", target.getCompany().getTicker(), cause);
+                registration.addFailed(target.getCompany().getTicker(), failureReason(cause));
+            }
+        }).join();
+
+        return registration;
+    }
+
+    private void storeScrapedResult(Company company, ScrapedResult scrapedResult) {
+        // 스크래핑 결과 - 회사와 배당금을 하나의 트랜잭션으로 저장
+        // -> 배당금 저장이 실패하면 회사도 저장되지 않아 다시 추가할 수 있음
+        CompanyEntity companyEntity = this.transactionTemplate.execute(status -> {
+            CompanyEntity saved = this.companyRepository.save(new CompanyEntity(company));
+            List<DividendEntity> dividendEntities = scrapedResult.getDividends().stream()
+                    .map(e -> new DividendEntity(saved.getId(), e))
+                    .collect(Collectors.toList());
+            this.dividendRepository.saveAll(dividendEntities);
+            return saved;
+        });
+
+        // 커밋된 뒤에만 메모리의 별칭 색인, 배당금 series 에 반영
+        this.companyAliasIndex.put(companyEntity);
+        try {
+            this.dividendSeriesStore.append(companyEntity, scrapedResult.getDividends());
+        } catch (RuntimeException e) {
+            // 이미 저장된 회사를 실패로 응답하지 않음 (series 에 없는 회사는 DB 에서 조회)
+            log.error("fail to append dividend series -> {}", companyEntity.getTicker(), e);
+        }
+    }
+
+    // 사용자에게 보여줄 실패 사유 (정의된 예외가 아니면 스크랩 실패로 처리)
+    private static String failureReason(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof AbstractException) {
+            return cause.getMessage();
+        }
+        return new FailToScrapException().getMessage();
+    }
+
     // sql like & jpa 이용한 검색 & 자동완성
     // trie 에 회사 저장하는 로직 생략 가능
     public List<String> getCompanyNameByKeyword(String keyword) {
@@ -100,16 +206,22 @@ public class CompanyService {
         this.trie.put(keyword, null);
     }
 
-    public String deleteCompany(String ticker) {
+    // 삭제한 회사 (캐시 key 인 회사 id 로 캐시를 지울 수 있도록)
+    public CompanyEntity deleteCompany(String ticker) {
         CompanyEntity companyEntity = this.companyRepository.findByTicker(ticker)
                 .orElseThrow(() -> new NoCompanyException());
         this.dividendRepository.deleteAllByCompanyId(companyEntity.getId());
+        this.scrapStateRepository.deleteByTicker(companyEntity.getTicker());
         this.companyRepository.delete(companyEntity);
+        this.dividendSeriesStore.remove(companyEntity);
+        this.companyAliasIndex.remove(companyEntity);
+        // 다른 노드의 별칭 색인, 배당금 series 에서도 지움
+        this.cacheManager.invalidate(CacheKey.KEY_COMPANY, String.valueOf(companyEntity.getId()));
 
         // trie 검색 이용한경우 삭제
         this.deleteAutocompleteKeyword(companyEntity.getName());
 
-        return companyEntity.getName();
+        return companyEntity;
     }
 
     private void deleteAutocompleteKeyword(String keyword) {
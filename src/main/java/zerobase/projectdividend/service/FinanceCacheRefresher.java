@@ -0,0 +1,114 @@
+package zerobase.projectdividend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.util.ByteUtils;
+import org.springframework.stereotype.Component;
+import zerobase.projectdividend.cache.CacheKeyIndex;
+import zerobase.projectdividend.cache.CacheTtlPolicy;
+import zerobase.projectdividend.cache.RedisCacheGuard;
+import zerobase.projectdividend.cache.TwoLevelCacheManager;
+import zerobase.projectdividend.model.constants.CacheKey;
+import zerobase.projectdividend.persist.entity.CompanyEntity;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// 스크래핑 후 배당금이 바뀐 회사의 finance 캐시만 DB 의 최신 값으로 덮어씀 (write-through)
+// -> 캐시 전체를 지우지 않으므로 바뀌지 않은 회사의 조회는 계속 캐시에서 응답
+// 기간 조회 캐시(finance-range)는 범위마다 key 가 달라 다시 만들지 않고 해당 회사 것만 지움 (CacheKeyIndex 에 기록된 key)
+// Redis(L2)를 직접 바꾸므로 모든 노드의 L1 에서도 해당 회사의 캐시를 지움
+// 캐시 key 는 회사 id (CompanyAliasIndex) -> 회사명, ticker 어느 것으로 조회한 캐시든 정확히 갱신
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FinanceCacheRefresher {
+
+    // 한 번의 pipeline 으로 보내는 회사 수
+    private static final int BATCH_SIZE = 100;
+
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final RedisCacheConfiguration redisCacheConfiguration;
+    private final FinanceService financeService;
+    private final TwoLevelCacheManager cacheManager;
+    private final CacheTtlPolicy cacheTtlPolicy;
+    private final CacheKeyIndex financeRangeKeyIndex;
+    private final RedisCacheGuard redisCacheGuard;
+
+    // 갱신한 캐시 개수를 반환
+    public int refresh(Collection<CompanyEntity> companies) {
+        List<CompanyEntity> list = new ArrayList<>(companies);
+        int written = 0;
+        for (int from = 0; from < list.size(); from += BATCH_SIZE) {
+            List<CompanyEntity> batch = list.subList(from, Math.min(from + BATCH_SIZE, list.size()));
+            try {
+                written += this.writeBatch(batch);
+            } catch (RuntimeException e) {
+                // 캐시를 갱신하지 못해도 스크래핑 결과는 이미 저장되어 있음
+                log.warn("fail to refresh finance cache -> {} companies", batch.size(), e);
+            }
+        }
+        return written;
+    }
+
+    // 삭제한 회사의 기간 조회 캐시를 Redis 와 모든 노드의 L1 에서 지움
+    public void evictRanges(Long companyId) {
+        this.redisCacheGuard.run(RedisCacheGuard.Operation.EVICT,
+                () -> this.financeRangeKeyIndex.evict(List.of(String.valueOf(companyId))));
+        this.cacheManager.invalidatePrefix(CacheKey.KEY_FINANCE_RANGE, companyId + ":");
+    }
+
+    private int writeBatch(List<CompanyEntity> batch) {
+        // @Cacheable 과 같은 key prefix, 직렬화 방식으로 key / value 를 만듦 (DB 조회는 pipeline 을 열기 전에)
+        String prefix = this.redisCacheConfiguration.getKeyPrefixFor(CacheKey.KEY_FINANCE);
+        List<byte[]> keys = new ArrayList<>(batch.size());
+        List<byte[]> values = new ArrayList<>(batch.size());
+        List<String> ids = new ArrayList<>(batch.size());
+        for (CompanyEntity company : batch) {
+            ids.add(String.valueOf(company.getId()));
+            keys.add(ByteUtils.getBytes(this.redisCacheConfiguration.getKeySerializationPair()
+                    .write(prefix + company.getId())));
+            values.add(ByteUtils.getBytes(this.redisCacheConfiguration.getValueSerializationPair()
+                    .write(this.financeService.loadDividends(company))));
+        }
+
+        // Redis 를 건너뛰거나 실패하면 저장하지 않음 (L2 의 기존 값은 ttl 이 지나면 DB 에서 다시 읽음)
+        boolean written = this.redisCacheGuard.execute(RedisCacheGuard.Operation.WRITE,
+                () -> this.writePipelined(keys, values, ids), () -> false);
+
+        // 저장하지 못했어도 모든 노드의 L1 에서 지우고 배당금 series 를 다시 읽도록 알림
+        for (CompanyEntity company : batch) {
+            this.cacheManager.invalidate(CacheKey.KEY_FINANCE, String.valueOf(company.getId()));
+            // 기간 조회 캐시의 key 는 {회사 id}:{from}:{to}:{limit}
+            this.cacheManager.invalidatePrefix(CacheKey.KEY_FINANCE_RANGE, company.getId() + ":");
+        }
+        return written ? keys.size() : 0;
+    }
+
+    private boolean writePipelined(List<byte[]> keys, List<byte[]> values, List<String> ids) {
+        // @Cacheable 로 저장할 때와 같은 보관 시간
+        Duration ttl = this.cacheTtlPolicy.ttlFor(CacheKey.KEY_FINANCE);
+        RedisConnection connection = this.redisConnectionFactory.getConnection();
+        try {
+            connection.openPipeline();
+            for (int i = 0; i < keys.size(); i++) {
+                if (ttl.isZero() || ttl.isNegative()) {
+                    connection.set(keys.get(i), values.get(i));
+                } else {
+                    connection.pSetEx(keys.get(i), ttl.toMillis(), values.get(i));
+                }
+            }
+            connection.closePipeline();
+
+            this.financeRangeKeyIndex.evict(connection, ids);
+            return true;
+        } finally {
+            connection.close();
+        }
+    }
+}
@@ -2,55 +2,116 @@ package zerobase.projectdividend.service;
 
 import lombok.AllArgsConstructor;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import zerobase.projectdividend.exception.impl.NoCompanyException;
+import zerobase.projectdividend.model.AnnualDividend;
 import zerobase.projectdividend.model.Company;
 import zerobase.projectdividend.model.Dividend;
+import zerobase.projectdividend.model.DividendRange;
 import zerobase.projectdividend.model.ScrapedResult;
 import zerobase.projectdividend.model.constants.CacheKey;
+import zerobase.projectdividend.persist.alias.CompanyAliasIndex;
 import zerobase.projectdividend.persist.entity.CompanyEntity;
 import zerobase.projectdividend.persist.entity.DividendEntity;
 import zerobase.projectdividend.persist.repository.CompanyRepository;
 import zerobase.projectdividend.persist.repository.DividendRepository;
+import zerobase.projectdividend.persist.series.DividendSeriesStore;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
+// 조회만 하므로 읽기 전용 트랜잭션 (flush, dirty checking 생략)
 @Service
 @AllArgsConstructor
+@Transactional(readOnly = true)
 public class FinanceService {
 
     private final CompanyRepository companyRepository;
     private final DividendRepository dividendRepository;
+    private final DividendSeriesStore dividendSeriesStore;
+    private final CompanyAliasIndex companyAliasIndex;
 
     // 캐싱이 필요한가?
     // -> 요청이 자주 들어오는가? Y
     // -> 자주 변경되는 데이터 인가? N
     // redis 에 저장되면 repository를 이용해 가져오지않고 캐시서버에서 가져옴
-    @Cacheable(key = "#companyName", value = CacheKey.KEY_FINANCE)
+    // sync : 캐시가 없을 때 같은 회사의 동시 요청은 한 번만 조회하고 결과를 같이 사용
+    // key : 회사명, ticker (대소문자 무관) 어느 것으로 조회해도 회사 id 하나로 캐시
+    @Cacheable(key = "@companyAliasIndex.cacheKey(#companyName)", value = CacheKey.KEY_FINANCE, sync = true)
     public ScrapedResult getDividendByCompanyName(String companyName) {
+        // 메모리의 배당금 series 에서 바로 응답 (로딩 전이거나 없는 회사면 DB 조회)
+        return this.loadDividends(this.resolve(companyName));
+    }
 
-        // 1. 회사명을 기준으로 회사 정보 조회
-        CompanyEntity company = this.companyRepository.findByName(companyName)
-                .orElseThrow(() -> new NoCompanyException());
+    // 기간, 개수를 지정한 배당금 조회 - 범위마다 따로 캐시 (전체 이력을 주고받지 않도록)
+    @Cacheable(key = "@companyAliasIndex.cacheKey(#companyName) + ':' + #range.cacheKey()",
+            value = CacheKey.KEY_FINANCE_RANGE, sync = true)
+    public ScrapedResult getDividendByCompanyName(String companyName, DividendRange range) {
+        CompanyEntity company = this.resolve(companyName);
+
+        // series 는 날짜순 배열이라 이진 탐색으로 범위만 꺼냄
+        Optional<DividendSeriesStore.Entry> entry = this.dividendSeriesStore.findById(company.getId());
+        if (entry.isPresent()) {
+            return new ScrapedResult(entry.get().toCompany(),
+                    entry.get().getSeries().toDividends(range.getFrom(), range.getTo(), range.getLimit()));
+        }
+
+        // 최근 날짜부터 limit 개를 가져온 뒤 전체 조회와 같은 날짜순으로 뒤집음
+        Pageable pageable = range.getLimit() == null ? Pageable.unpaged() : PageRequest.of(0, range.getLimit());
+        List<Dividend> dividends = this.dividendRepository.findRecentInRange(company.getId(),
+                        range.fromOrMin(), range.toOrMax(), pageable).stream()
+                .map(DividendEntity::toDividend).collect(Collectors.toList());
+        Collections.reverse(dividends);
+
+        return new ScrapedResult(new Company(company.getTicker(), company.getName()), dividends);
+    }
+
+    // 회사의 연도별 배당금 합계 (row 를 가져오지 않고 DB 에서 집계)
+    public List<AnnualDividend> getAnnualDividends(String companyName) {
+        CompanyEntity company = this.resolve(companyName);
 
-        // 2. 조회된 회사 ID로 배당금 반환
-        List<DividendEntity> dividendEntities = this.dividendRepository.findAllByCompanyId(company.getId());
+        return this.dividendRepository.sumByYear(company.getId()).stream()
+                .map(e -> new AnnualDividend(e.getYear(), e.getTotal().stripTrailingZeros(), e.getCount()))
+                .collect(Collectors.toList());
+    }
+
+    // 캐시를 거치지 않고 메모리의 series 또는 DB 에서 회사의 배당금 정보를 조회 (스크래핑 후 캐시 갱신에도 사용)
+    public ScrapedResult loadDividends(CompanyEntity company) {
+        return this.dividendSeriesStore.findById(company.getId())
+                .map(entry -> new ScrapedResult(entry.toCompany(), entry.getSeries().toDividends()))
+                .orElseGet(() -> this.loadDividends(company.getId()));
+    }
+
+    // 회사명 또는 ticker 로 회사를 찾음
+    private CompanyEntity resolve(String alias) {
+        return this.companyAliasIndex.resolve(alias)
+                .orElseThrow(() -> new NoCompanyException());
+    }
 
-        // 3. 결과 조합 후 변환
-        //        List<Dividend> dividends = new ArrayList<>();
-//        for(var entity : dividendEntities) {
-//            dividends.add(Dividend.builder()
-//                    .date(entity.getDate())
-//                    .dividend(entity.getDividend())
-//                    .build());
-//        }
+    // 1. 회사 id 를 기준으로 회사 정보와 배당금을 한 번의 join 으로 조회
+    // -> 회사명은 중복될 수 있어 (GOOG, GOOGL) id 로 조회해야 다른 회사의 배당금이 섞이지 않음
+    // -> entity 를 만들지 않고 필요한 컬럼만 읽어 바로 응답 형식으로 변환
+    private ScrapedResult loadDividends(Long companyId) {
+        List<CompanyRepository.FinanceRow> rows = this.companyRepository.findFinanceById(companyId);
+        if (rows.isEmpty()) {
+            throw new NoCompanyException();
+        }
 
-        List<Dividend> dividends = dividendEntities.stream()
-                .map(e -> new Dividend(e.getDate(), e.getDividend())).collect(Collectors.toList());
+        // 2. 결과 조합 후 변환 (배당금이 없는 회사는 date 가 null 인 row 하나)
+        CompanyRepository.FinanceRow first = rows.get(0);
+        List<Dividend> dividends = new ArrayList<>(rows.size());
+        for (CompanyRepository.FinanceRow row : rows) {
+            if (row.getDate() != null) {
+                dividends.add(Dividend.of(row.getDate(), row.getDividend()));
+            }
+        }
 
-        return new ScrapedResult(new Company(company.getTicker(), company.getName()),
-                dividends
-        );
+        return new ScrapedResult(new Company(first.getTicker(), first.getName()), dividends);
     }
 }
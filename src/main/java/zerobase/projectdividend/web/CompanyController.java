@@ -9,11 +9,15 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.util.ObjectUtils;
 import org.springframework.web.bind.annotation.*;
 import zerobase.projectdividend.exception.impl.NotExistTickerException;
+import zerobase.projectdividend.model.BulkRegistration;
 import zerobase.projectdividend.model.Company;
+import zerobase.projectdividend.model.constants.CacheKey;
 import zerobase.projectdividend.persist.entity.CompanyEntity;
 import zerobase.projectdividend.service.CompanyService;
+import zerobase.projectdividend.service.FinanceCacheRefresher;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/company")
@@ -22,6 +26,7 @@ public class CompanyController {
 
     private final CompanyService companyService;
     private final CacheManager cacheManager;
+    private final FinanceCacheRefresher financeCacheRefresher;
 
     @GetMapping("/autocomplete")
     @PreAuthorize("hasRole('READ')")
@@ -56,18 +61,34 @@ public class CompanyController {
         return ResponseEntity.ok(company);
     }
 
+    // 여러 회사를 한 번에 추가 (일부 회사가 실패해도 나머지 회사는 추가)
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('WRITE')")
+    public ResponseEntity<?> addCompanies(@RequestBody List<Company> request) {
+        List<String> tickers = request.stream()
+                .map(Company::getTicker)
+                .collect(Collectors.toList());
+
+        BulkRegistration registration = this.companyService.saveAll(tickers);
+        registration.getRegistered().forEach(company -> this.companyService.addAutocompleteKeyword(company.getName()));
+
+        return ResponseEntity.ok(registration);
+    }
+
     @DeleteMapping("/{ticker}")
     @PreAuthorize("hasRole('WRITE')")
     public ResponseEntity<?> deleteCompany(@PathVariable String ticker) {
         // DB에 저장된 데이터 삭제
-        String companyName = this.companyService.deleteCompany(ticker);
+        CompanyEntity company = this.companyService.deleteCompany(ticker);
 
-        // cache에 저장된 데이터도 삭제
-        this.clearFinanceCache(companyName);
-        return ResponseEntity.ok(companyName);
+        // cache에 저장된 데이터도 삭제 (캐시 key 는 회사 id)
+        this.clearFinanceCache(company.getId());
+        return ResponseEntity.ok(company.getName());
     }
 
-    private void clearFinanceCache(String companyName) {
-        this.cacheManager.getCache("finance").evict(companyName);
+    private void clearFinanceCache(Long companyId) {
+        this.cacheManager.getCache(CacheKey.KEY_FINANCE).evict(String.valueOf(companyId));
+        // 기간 조회 캐시 (key : {회사 id}:{from}:{to}:{limit})
+        this.financeCacheRefresher.evictRanges(companyId);
     }
 }
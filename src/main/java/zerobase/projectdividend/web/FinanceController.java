@@ -1,25 +1,51 @@
 package zerobase.projectdividend.web;
 
 import lombok.AllArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import zerobase.projectdividend.model.AnnualDividend;
+import zerobase.projectdividend.model.DividendRange;
 import zerobase.projectdividend.model.ScrapedResult;
+import zerobase.projectdividend.scheduler.ReadPopularity;
 import zerobase.projectdividend.service.FinanceService;
 
+import java.time.LocalDate;
+import java.util.List;
+
 @RestController
 @RequestMapping("/finance")
 @AllArgsConstructor
 public class FinanceController {
     private final FinanceService financeService;
+    private final ReadPopularity readPopularity;
 
     @GetMapping("/dividend/{companyName}")
     @PreAuthorize("hasRole('READ')")
-    public ResponseEntity<?> searchFinance(@PathVariable String companyName) {
-        ScrapedResult result = this.financeService.getDividendByCompanyName(companyName);
+    public ResponseEntity<?> searchFinance(@PathVariable String companyName,
+                                           @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                           @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                           @RequestParam(required = false) Integer limit) {
+        // 범위를 지정하지 않으면 전체 이력 (스크래핑 후 갱신되는 캐시)
+        DividendRange range = DividendRange.of(from, to, limit);
+        ScrapedResult result = range.isAll()
+                ? this.financeService.getDividendByCompanyName(companyName)
+                : this.financeService.getDividendByCompanyName(companyName, range);
+        // 스크래핑 우선순위 계산용 (캐시에서 응답한 경우도 포함)
+        // ticker, 대소문자가 다른 이름으로 조회해도 같은 회사로 세도록 저장된 회사명으로 기록
+        this.readPopularity.recordRead(result.getCompany().getName());
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/dividend/{companyName}/annual")
+    @PreAuthorize("hasRole('READ')")
+    public ResponseEntity<?> searchAnnualDividends(@PathVariable String companyName) {
+        List<AnnualDividend> result = this.financeService.getAnnualDividends(companyName);
         return ResponseEntity.ok(result);
     }
 }
@@ -0,0 +1,29 @@
+-- 기존 DIVIDEND 테이블의 배당금(문자열)과 배당일(시각)을 숫자, 날짜 컬럼으로 변환하고
+-- entity 가 사용하는 id sequence, 기간 조회 index 를 추가 (H2)
+-- ddl-auto 로 테이블을 새로 만드는 환경에서는 필요 없음
+
+-- 1. 숫자로 바꿀 수 없는 배당금이 있으면 먼저 확인 (0 건이어야 함)
+SELECT id, company_id, date, dividend
+  FROM dividend
+ WHERE REGEXP_LIKE(TRIM(dividend), '^[0-9]+(\.[0-9]+)?$') = FALSE;
+
+-- 2. 같은 날짜의 중복 배당금 정리 (시각만 다르던 row 가 같은 날짜가 됨)
+DELETE FROM dividend d
+ WHERE EXISTS (SELECT 1
+                 FROM dividend o
+                WHERE o.company_id = d.company_id
+                  AND CAST(o.date AS DATE) = CAST(d.date AS DATE)
+                  AND o.id < d.id);
+
+-- 3. 컬럼 타입 변환
+ALTER TABLE dividend ALTER COLUMN dividend DECIMAL(19, 6);
+ALTER TABLE dividend ALTER COLUMN date DATE;
+
+-- 4. id sequence (IDENTITY 대신 50개씩 미리 할당받아 batch insert, DividendEntity.ID_ALLOCATION_SIZE)
+-- 첫 번호를 받으면 그 앞의 50개까지 사용하므로 기존 최대 id + 51 부터 시작
+CREATE SEQUENCE IF NOT EXISTS dividend_seq
+    START WITH (SELECT COALESCE(MAX(id), 0) + 51 FROM dividend)
+    INCREMENT BY 50;
+
+-- 5. 회사별 기간 조회를 index 만 읽고 끝낼 수 있도록 배당금까지 포함한 index
+CREATE INDEX IF NOT EXISTS ix_dividend_company_date ON dividend(company_id, date, dividend);
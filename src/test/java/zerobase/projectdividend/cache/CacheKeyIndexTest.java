@@ -0,0 +1,89 @@
+package zerobase.projectdividend.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import zerobase.projectdividend.config.CacheConfig;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CacheKeyIndexTest {
+
+    @Mock
+    private RedisConnectionFactory redisConnectionFactory;
+
+    @Mock
+    private RedisConnection redisConnection;
+
+    private final RedisCacheConfiguration redisCacheConfiguration = new CacheConfig().redisCacheConfiguration(new GenericJackson2JsonRedisSerializer());
+
+    /**
+     * 캐시 key index
+     * 1. 저장한 캐시 key 를 회사 id 의 set 에 기록하고 캐시와 같은 보관 시간으로 연장
+     * 2. 회사의 set 에 기록된 key 와 set 을 SCAN 없이 한 번에 삭제
+     */
+    @Test
+    @DisplayName("캐시 key index - 저장한 캐시 key 를 회사 id 의 set 에 기록")
+    void addToGroupSet() {
+        //given
+        given(redisConnectionFactory.getConnection())
+                .willReturn(redisConnection);
+        CacheKeyIndex index = new CacheKeyIndex(redisConnectionFactory, redisCacheConfiguration,
+                "finance-range", "finance-range-keys", Duration.ofHours(1));
+
+        //when
+        index.add("1:2020-01-01::5");
+
+        //then
+        verify(redisConnection).openPipeline();
+        verify(redisConnection).sAdd(bytes("finance-range-keys::1"), bytes("finance-range::1:2020-01-01::5"));
+        verify(redisConnection).pExpire(bytes("finance-range-keys::1"), Duration.ofHours(1).toMillis());
+        verify(redisConnection).closePipeline();
+        verify(redisConnection).close();
+    }
+
+    @Test
+    @DisplayName("캐시 key index - 기록된 key 와 set 을 SCAN 없이 한 번에 삭제")
+    void evictRecordedKeys() {
+        //given
+        given(redisConnection.closePipeline())
+                .willReturn(List.of(Set.of(bytes("finance-range::1:2020-01-01::5")), Set.of()));
+        CacheKeyIndex index = new CacheKeyIndex(redisConnectionFactory, redisCacheConfiguration,
+                "finance-range", "finance-range-keys", Duration.ofHours(1));
+        ArgumentCaptor<byte[]> deleted = ArgumentCaptor.forClass(byte[].class);
+
+        //when
+        int evicted = index.evict(redisConnection, List.of("1", "2"));
+
+        //then
+        assertEquals(1, evicted);
+        verify(redisConnection).sMembers(bytes("finance-range-keys::1"));
+        verify(redisConnection).sMembers(bytes("finance-range-keys::2"));
+        verify(redisConnection, never()).scan(any());
+        verify(redisConnection).del(deleted.capture());
+        assertEquals(List.of("finance-range-keys::1", "finance-range-keys::2", "finance-range::1:2020-01-01::5"),
+                deleted.getAllValues().stream().map(key -> new String(key, StandardCharsets.UTF_8)).collect(Collectors.toList()));
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,104 @@
+package zerobase.projectdividend.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import zerobase.projectdividend.scraper.CircuitBreaker;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RedisCacheGuardTest {
+
+    @Mock
+    private CacheManager redisCacheManager;
+
+    @Mock
+    private Cache redisCache;
+
+    @Mock
+    private RedisConnectionFactory redisConnectionFactory;
+
+    /**
+     * Redis 장애 시 캐시
+     * 1. Redis 오류 - 예외 없이 원본에서 읽고 L1 에서 응답, 연속으로 실패하면 Redis 를 건너뜀
+     * 2. 노드 간 lock - Redis 오류면 lock 없이 읽고, breaker 가 열리면 Redis 를 호출하지 않음
+     */
+    @Test
+    @DisplayName("Redis 오류 - 예외 없이 원본에서 읽고 L1 에서 응답, 연속으로 실패하면 Redis 를 건너뜀")
+    void bypassRedisWhileUnhealthy() {
+        //given
+        given(redisCacheManager.getCache("finance"))
+                .willReturn(redisCache);
+        given(redisCache.getName())
+                .willReturn("finance");
+        given(redisCache.get(any()))
+                .willThrow(new RedisConnectionFailureException("connection refused"));
+        willThrow(new RedisConnectionFailureException("connection refused"))
+                .given(redisCache).put(any(), any());
+
+        RedisCacheGuard guard = new RedisCacheGuard(
+                new CircuitBreaker("redis-cache", 2, Duration.ofMinutes(1), Duration.ofMinutes(1)));
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(new GuardedCacheManager(redisCacheManager, guard),
+                10, Duration.ofMinutes(1), invalidation -> {
+        });
+        Cache cache = manager.getCache("finance");
+
+        //when
+        String loaded = cache.get("3M Company", () -> "dividends");
+        String cached = cache.get("3M Company", () -> "reloaded");
+        String other = cache.get("Coca-Cola", () -> "other dividends");
+
+        //then
+        assertEquals("dividends", loaded);
+        assertEquals("dividends", cached);
+        assertEquals("other dividends", other);
+        // get, put 두 번 실패 후에는 Redis 를 호출하지 않음
+        verify(redisCache, times(1)).get(any());
+        verify(redisCache, times(1)).put(any(), any());
+        assertEquals(CircuitBreaker.State.OPEN, guard.getState());
+        assertEquals(1, guard.getFailed(RedisCacheGuard.Operation.READ));
+        assertEquals(1, guard.getFailed(RedisCacheGuard.Operation.WRITE));
+        assertEquals(1, guard.getRejected(RedisCacheGuard.Operation.READ));
+        assertEquals(1, guard.getRejected(RedisCacheGuard.Operation.WRITE));
+    }
+
+    @Test
+    @DisplayName("노드 간 lock - Redis 오류면 lock 없이 읽고, breaker 가 열리면 Redis 를 호출하지 않음")
+    void loadLockThroughGuard() {
+        //given
+        given(redisConnectionFactory.getConnection())
+                .willThrow(new RedisConnectionFailureException("connection refused"));
+        RedisCacheGuard guard = new RedisCacheGuard(
+                new CircuitBreaker("redis-cache", 2, Duration.ofMinutes(1), Duration.ofMinutes(1)));
+        RedisLoadLock lock = new RedisLoadLock(redisConnectionFactory, guard, Duration.ofSeconds(10), Duration.ofSeconds(1));
+
+        //when
+        String first = lock.tryLock("finance::1");
+        String second = lock.tryLock("finance::1");
+        String third = lock.tryLock("finance::1");
+        lock.unlock("finance::1", third);
+
+        //then
+        // 빈 token : lock 없이 읽고 해제하지 않음
+        assertEquals("", first);
+        assertEquals("", second);
+        assertEquals("", third);
+        verify(redisConnectionFactory, times(2)).getConnection();
+        assertEquals(CircuitBreaker.State.OPEN, guard.getState());
+        assertEquals(1, guard.getRejected(RedisCacheGuard.Operation.WRITE));
+    }
+}
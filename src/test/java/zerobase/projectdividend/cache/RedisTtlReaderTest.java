@@ -0,0 +1,82 @@
+package zerobase.projectdividend.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import zerobase.projectdividend.config.CacheConfig;
+import zerobase.projectdividend.scraper.CircuitBreaker;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RedisTtlReaderTest {
+
+    @Mock
+    private RedisConnectionFactory redisConnectionFactory;
+
+    @Mock
+    private RedisConnection redisConnection;
+
+    private final GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer();
+
+    private final RedisCacheConfiguration redisCacheConfiguration = new CacheConfig().redisCacheConfiguration(serializer);
+
+    private final RedisCacheGuard guard = new RedisCacheGuard(
+            new CircuitBreaker("redis-cache", 2, Duration.ofMinutes(1), Duration.ofMinutes(1)));
+
+    /**
+     * L2 값과 남은 시간 조회
+     * 1. GET, PTTL 을 한 번의 pipeline 으로 요청
+     * 2. Redis 오류 - 예외 없이 miss 로 처리
+     */
+    @Test
+    @DisplayName("L2 값과 남은 시간 조회 - GET, PTTL 을 한 번의 pipeline 으로 요청")
+    void readValueAndTtlInPipeline() {
+        //given
+        given(redisConnectionFactory.getConnection())
+                .willReturn(redisConnection);
+        given(redisConnection.closePipeline())
+                .willReturn(Arrays.asList(serializer.serialize("dividends"), 300_000L));
+        RedisTtlReader reader = new RedisTtlReader(redisConnectionFactory, redisCacheConfiguration, guard);
+
+        //when
+        TtlReader.TimedValue timed = reader.read("finance", "1");
+
+        //then
+        assertEquals("dividends", timed.getValue().get());
+        assertEquals(Duration.ofMinutes(5), timed.getRemaining());
+        verify(redisConnection).openPipeline();
+        verify(redisConnection).get("finance::1".getBytes(StandardCharsets.UTF_8));
+        verify(redisConnection).pTtl("finance::1".getBytes(StandardCharsets.UTF_8));
+        verify(redisConnection).close();
+    }
+
+    @Test
+    @DisplayName("L2 값과 남은 시간 조회 - Redis 오류는 예외 없이 miss 로 처리")
+    void missOnRedisFailure() {
+        //given
+        given(redisConnectionFactory.getConnection())
+                .willThrow(new RedisConnectionFailureException("connection refused"));
+        RedisTtlReader reader = new RedisTtlReader(redisConnectionFactory, redisCacheConfiguration, guard);
+
+        //when
+        TtlReader.TimedValue timed = reader.read("finance", "1");
+
+        //then
+        assertNull(timed);
+        assertEquals(1, guard.getFailed(RedisCacheGuard.Operation.READ));
+    }
+}
@@ -0,0 +1,89 @@
+package zerobase.projectdividend.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import zerobase.projectdividend.model.Company;
+import zerobase.projectdividend.model.Dividend;
+import zerobase.projectdividend.model.ScrapedResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScrapedResultRedisSerializerTest {
+
+    private final GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
+
+    /**
+     * finance 캐시 바이너리 직렬화
+     * 1. 배당금 이력 - 압축 여부와 상관없이 같은 값으로 복원, JSON 보다 작음
+     * 2. JSON - 바이너리로 나타낼 수 없는 값은 JSON 으로 저장, 기존 JSON 값도 읽음
+     * 3. 지원하지 않는 버전 - 실패
+     */
+    @Test
+    @DisplayName("배당금 이력 - 압축 여부와 상관없이 같은 값으로 복원, JSON 보다 작음")
+    void roundTrip() {
+        //given
+        List<Dividend> dividends = new ArrayList<>();
+        LocalDate start = LocalDate.of(1975, 2, 15);
+        for (int i = 0; i < 200; i++) {
+            dividends.add(Dividend.of(start.plusMonths(3L * i), BigDecimal.valueOf(25 + i % 100, 2)));
+        }
+        dividends.add(new Dividend(LocalDateTime.of(2024, 5, 23, 0, 0), "1.500"));
+        ScrapedResult value = new ScrapedResult(new Company("MMM", "3M Company"), dividends);
+        ScrapedResultRedisSerializer plain = new ScrapedResultRedisSerializer(json, 0);
+        ScrapedResultRedisSerializer compressed = new ScrapedResultRedisSerializer(json, 512);
+
+        //when
+        byte[] plainBytes = plain.serialize(value);
+        byte[] compressedBytes = compressed.serialize(value);
+
+        //then
+        assertEquals(value, plain.deserialize(plainBytes));
+        assertEquals(value, compressed.deserialize(compressedBytes));
+        // 압축한 값도 다른 설정의 serializer 로 읽을 수 있음
+        assertEquals(value, plain.deserialize(compressedBytes));
+        assertTrue(compressedBytes.length < plainBytes.length);
+        assertTrue(plainBytes.length * 4 < json.serialize(value).length);
+    }
+
+    @Test
+    @DisplayName("JSON - 바이너리로 나타낼 수 없는 값은 JSON 으로 저장, 기존 JSON 값도 읽음")
+    void fallbackToJson() {
+        //given
+        ScrapedResultRedisSerializer serializer = new ScrapedResultRedisSerializer(json, 512);
+        // 0시가 아닌 배당일
+        ScrapedResult value = new ScrapedResult(new Company("MMM", "3M Company"),
+                List.of(new Dividend(LocalDateTime.of(2024, 5, 23, 9, 30), "1.51")));
+        ScrapedResult legacy = new ScrapedResult(new Company("KO", "Coca-Cola"),
+                List.of(Dividend.of(LocalDate.of(2024, 3, 14), new BigDecimal("0.485"))));
+
+        //when
+        byte[] bytes = serializer.serialize(value);
+        Object fromLegacy = serializer.deserialize(json.serialize(legacy));
+
+        //then
+        assertEquals('{', bytes[0]);
+        assertEquals(value, serializer.deserialize(bytes));
+        assertEquals(legacy, fromLegacy);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 버전 - 실패")
+    void unsupportedVersion() {
+        //given
+        ScrapedResultRedisSerializer serializer = new ScrapedResultRedisSerializer(json, 0);
+        byte[] bytes = serializer.serialize(new ScrapedResult(new Company("MMM", "3M Company"), new ArrayList<>()));
+        bytes[1] = ScrapedResultRedisSerializer.VERSION + 1;
+
+        //when
+        //then
+        assertThrows(SerializationException.class, () -> serializer.deserialize(bytes));
+    }
+}
@@ -0,0 +1,144 @@
+package zerobase.projectdividend.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TwoLevelCacheTest {
+
+    /**
+     * L1(메모리) + L2 캐시 (L2 는 Redis 대신 ConcurrentMapCache 사용)
+     * 1. 조회 - L2 에서 읽은 값은 L1 에 올리고 다음 조회는 L1 에서 응답
+     * 2. 변경 - 다른 노드로 무효화 메시지를 보내고, 받은 노드는 L1 에서만 지움
+     * 3. L1 - 최대 크기를 넘으면 오래 조회되지 않은 key, ttl 이 지난 key 제거
+     * 4. refresh-ahead - 만료가 가까운 값은 기존 값으로 응답하고 새 값으로 교체
+     */
+    @Test
+    @DisplayName("조회 - L2 에서 읽은 값은 L1 에 올리고 다음 조회는 L1 에서 응답")
+    void promoteToLocalCache() {
+        //given
+        ConcurrentMapCacheManager redis = new ConcurrentMapCacheManager("finance");
+        redis.getCache("finance").put("3M Company", "dividends");
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(redis, 10, Duration.ofMinutes(1), invalidation -> {
+        });
+        Cache cache = manager.getCache("finance");
+
+        //when
+        Cache.ValueWrapper first = cache.get("3M Company");
+        Cache.ValueWrapper second = cache.get("3M Company");
+        Cache.ValueWrapper missing = cache.get("Unknown");
+
+        //then
+        assertEquals("dividends", first.get());
+        assertEquals("dividends", second.get());
+        assertNull(missing);
+        CacheStats stats = manager.getStats().get("finance");
+        assertEquals(1, stats.getL1Hits());
+        assertEquals(2, stats.getL1Misses());
+        assertEquals(1, stats.getL2Hits());
+        assertEquals(1, stats.getL2Misses());
+    }
+
+    @Test
+    @DisplayName("변경 - 다른 노드로 무효화 메시지를 보내고, 받은 노드는 L1 에서만 지움")
+    void invalidateOtherNodes() {
+        //given
+        // 두 노드가 같은 Redis 를 사용하고, 보낸 메시지는 양쪽 모두 받음 (pub/sub)
+        ConcurrentMapCacheManager redis = new ConcurrentMapCacheManager("finance", "finance-range");
+        List<TwoLevelCacheManager> nodes = new ArrayList<>();
+        List<CacheInvalidation> sent = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            nodes.add(new TwoLevelCacheManager(redis, 10, Duration.ofMinutes(1), invalidation -> {
+                sent.add(invalidation);
+                CacheInvalidation received = CacheInvalidation.decode(invalidation.encode());
+                nodes.forEach(node -> node.onInvalidation(received));
+            }));
+        }
+        Cache nodeA = nodes.get(0).getCache("finance");
+        Cache nodeB = nodes.get(1).getCache("finance");
+        Cache rangeB = nodes.get(1).getCache("finance-range");
+        nodeA.put("3M Company", "old");
+        rangeB.put("3M Company:2020-01-01::5", "old range");
+        assertEquals("old", nodeB.get("3M Company").get());
+        assertEquals("old range", rangeB.get("3M Company:2020-01-01::5").get());
+
+        //when
+        nodeA.put("3M Company", "new");
+        nodes.get(0).invalidatePrefix("finance-range", "3M Company:");
+        redis.getCache("finance-range").put("3M Company:2020-01-01::5", "new range");
+
+        //then
+        assertEquals("new", nodeB.get("3M Company").get());
+        assertEquals("new range", rangeB.get("3M Company:2020-01-01::5").get());
+        assertEquals(CacheInvalidation.Type.EVICT_PREFIX, sent.get(sent.size() - 1).getType());
+        assertEquals(nodes.get(0).getNodeId(), sent.get(sent.size() - 1).getOrigin());
+    }
+
+    @Test
+    @DisplayName("L1 - 최대 크기를 넘으면 오래 조회되지 않은 key, ttl 이 지난 key 제거")
+    void boundedLocalCache() {
+        //given
+        AtomicLong now = new AtomicLong();
+        LocalCache cache = new LocalCache(2, Duration.ofSeconds(10), now::get);
+        cache.put("a", new SimpleValueWrapper(1));
+        cache.put("b", new SimpleValueWrapper(2));
+
+        //when
+        cache.get("a");
+        cache.put("c", new SimpleValueWrapper(3));
+
+        //then
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(2, cache.size());
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertNull(cache.get("a"));
+        assertNull(cache.get("c"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("refresh-ahead - 만료가 가까운 값은 기존 값으로 응답하고 새 값으로 교체")
+    void refreshAhead() {
+        //given
+        ConcurrentMapCacheManager redis = new ConcurrentMapCacheManager("finance");
+        redis.getCache("finance").put("3M Company", "old");
+        // ttl 1시간 중 5분 남음 (refresh-ahead 구간 12분), 다시 읽는 작업은 바로 실행
+        CacheTtlPolicy policy = new CacheTtlPolicy(Duration.ZERO, Map.of("finance", Duration.ofHours(1)), 0.2);
+        // L2 값과 남은 시간은 한 번에 읽음 (Redis 는 GET + PTTL pipeline)
+        AtomicInteger reads = new AtomicInteger();
+        RefreshAhead refreshAhead = new RefreshAhead(policy, (cacheName, key) -> {
+            reads.incrementAndGet();
+            Cache.ValueWrapper value = redis.getCache(cacheName).get(key);
+            return value == null ? null : new TtlReader.TimedValue(value, Duration.ofMinutes(5));
+        }, Runnable::run);
+        List<CacheInvalidation> sent = new ArrayList<>();
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(redis, 10, Duration.ofMinutes(1), sent::add,
+                LoadLock.none(), refreshAhead);
+        Cache cache = manager.getCache("finance");
+
+        //when
+        String served = cache.get("3M Company", () -> "new");
+
+        //then
+        assertEquals("old", served);
+        assertEquals("new", redis.getCache("finance").get("3M Company").get());
+        assertEquals("new", cache.get("3M Company", () -> "newer"));
+        assertEquals(1, manager.getStats().get("finance").getRefreshes());
+        // 첫 조회는 L2 요청 한 번, 교체된 값은 L1 에서 응답
+        assertEquals(1, reads.get());
+        assertEquals(CacheInvalidation.Type.EVICT, sent.get(0).getType());
+    }
+}
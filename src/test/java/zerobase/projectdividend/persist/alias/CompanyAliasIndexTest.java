@@ -0,0 +1,139 @@
+package zerobase.projectdividend.persist.alias;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import zerobase.projectdividend.cache.CacheInvalidation;
+import zerobase.projectdividend.cache.TwoLevelCacheManager;
+import zerobase.projectdividend.exception.impl.NoCompanyException;
+import zerobase.projectdividend.persist.entity.CompanyEntity;
+import zerobase.projectdividend.persist.repository.CompanyRepository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyAliasIndexTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private CompanyRepository companyRepository;
+
+    /**
+     * 회사명, ticker 로 회사 id 조회
+     * 1. 회사명, ticker 를 대소문자, 앞뒤 공백과 무관하게 같은 캐시 key 로
+     * 2. 색인에 없으면 DB 에서 찾아 추가
+     * 3. 삭제 후 없는 회사 - 실패
+     * 4. 다른 노드에서 삭제한 회사 - 무효화 메시지를 받은 노드의 색인에서도 지움
+     */
+    @Test
+    @DisplayName("회사명, ticker 를 대소문자, 앞뒤 공백과 무관하게 같은 캐시 key 로")
+    void sameKeyForNameAndTicker() {
+        //given
+        CompanyAliasIndex index = new CompanyAliasIndex(jdbcTemplate, companyRepository);
+        index.put(new CompanyEntity(1L, "MMM", "3M Company"));
+        index.put(new CompanyEntity(2L, "KO", "Coca-Cola Company (The)"));
+
+        //when
+        String byName = index.cacheKey("3M Company");
+        String byLowerName = index.cacheKey(" 3m company ");
+        String byTicker = index.cacheKey("mmm");
+
+        //then
+        assertEquals("1", byName);
+        assertEquals("1", byLowerName);
+        assertEquals("1", byTicker);
+        assertEquals("2", index.cacheKey("KO"));
+        // 색인의 값이 아닌 복사본을 반환
+        assertNotSame(index.resolve("MMM").get(), index.resolve("MMM").get());
+        verifyNoInteractions(companyRepository);
+    }
+
+    @Test
+    @DisplayName("색인에 없으면 DB 에서 찾아 추가")
+    void resolveFromDatabaseOnce() {
+        //given
+        CompanyAliasIndex index = new CompanyAliasIndex(jdbcTemplate, companyRepository);
+        given(companyRepository.findFirstByNameIgnoreCase(anyString()))
+                .willReturn(Optional.empty());
+        given(companyRepository.findFirstByTickerIgnoreCase("o"))
+                .willReturn(Optional.of(new CompanyEntity(3L, "O", "Realty Income Corporation")));
+
+        //when
+        Optional<CompanyEntity> first = index.resolve("o");
+        Optional<CompanyEntity> second = index.resolve("Realty Income Corporation");
+
+        //then
+        assertEquals(3L, first.get().getId());
+        assertEquals(3L, second.get().getId());
+        verify(companyRepository, times(1)).findFirstByNameIgnoreCase(anyString());
+    }
+
+    @Test
+    @DisplayName("삭제 후 없는 회사 - 실패")
+    void failCacheKey_NoCompanyException() {
+        //given
+        CompanyAliasIndex index = new CompanyAliasIndex(jdbcTemplate, companyRepository);
+        CompanyEntity company = new CompanyEntity(1L, "MMM", "3M Company");
+        index.put(company);
+        given(companyRepository.findFirstByNameIgnoreCase(anyString()))
+                .willReturn(Optional.empty());
+        given(companyRepository.findFirstByTickerIgnoreCase(anyString()))
+                .willReturn(Optional.empty());
+
+        //when
+        index.remove(company);
+        NoCompanyException exception = assertThrows(NoCompanyException.class, () -> index.cacheKey("MMM"));
+
+        //then
+        assertEquals("존재하지 않는 회사명입니다.", exception.getMessage());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 삭제한 회사 - 무효화 메시지를 받은 노드의 색인에서도 지움")
+    void removeDeletedOnOtherNode() {
+        //given
+        // 두 노드가 같은 Redis(pub/sub) 를 사용하고, 보낸 메시지는 양쪽 모두 받음
+        ConcurrentMapCacheManager redis = new ConcurrentMapCacheManager("finance");
+        List<TwoLevelCacheManager> nodes = new ArrayList<>();
+        List<CompanyAliasIndex> indexes = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            TwoLevelCacheManager node = new TwoLevelCacheManager(redis, 10, Duration.ofMinutes(1), invalidation -> {
+                CacheInvalidation received = CacheInvalidation.decode(invalidation.encode());
+                nodes.forEach(n -> n.onInvalidation(received));
+            });
+            CompanyAliasIndex index = new CompanyAliasIndex(jdbcTemplate, companyRepository);
+            index.put(new CompanyEntity(1L, "MMM", "3M Company"));
+            index.put(new CompanyEntity(2L, "KO", "Coca-Cola Company (The)"));
+            new CompanyAliasSync(node, index);
+            nodes.add(node);
+            indexes.add(index);
+        }
+
+        //when
+        // 노드 A 에서 삭제
+        indexes.get(0).remove(new CompanyEntity(1L, "MMM", "3M Company"));
+        nodes.get(0).invalidate("company", "1");
+
+        //then
+        assertEquals(1, indexes.get(1).size());
+        assertEquals("2", indexes.get(1).cacheKey("KO"));
+        assertEquals(1, indexes.get(0).size());
+        verifyNoInteractions(companyRepository);
+    }
+}
@@ -0,0 +1,129 @@
+package zerobase.projectdividend.persist.series;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import zerobase.projectdividend.cache.CacheInvalidation;
+import zerobase.projectdividend.cache.TwoLevelCacheManager;
+import zerobase.projectdividend.model.Dividend;
+import zerobase.projectdividend.persist.entity.CompanyEntity;
+import zerobase.projectdividend.persist.entity.DividendEntity;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 두 노드가 같은 DB, 같은 Redis(pub/sub) 를 사용 (Redis 는 ConcurrentMapCache 와 메시지 전달로 대신함)
+@DataJpaTest
+class DividendSeriesSyncTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private final List<TwoLevelCacheManager> nodes = new ArrayList<>();
+    private final List<DividendSeriesStore> stores = new ArrayList<>();
+
+    private CompanyEntity company;
+
+    @BeforeEach
+    void setUp() {
+        company = testEntityManager.persist(new CompanyEntity(null, "MMM", "3M Company"));
+        testEntityManager.persist(DividendEntity.builder().companyId(company.getId())
+                .date(LocalDate.parse("2024-02-15")).dividend(new BigDecimal("1.51")).build());
+        testEntityManager.flush();
+
+        ConcurrentMapCacheManager redis = new ConcurrentMapCacheManager("finance");
+        for (int i = 0; i < 2; i++) {
+            TwoLevelCacheManager node = new TwoLevelCacheManager(redis, 10, Duration.ofMinutes(1), invalidation -> {
+                CacheInvalidation received = CacheInvalidation.decode(invalidation.encode());
+                nodes.forEach(n -> n.onInvalidation(received));
+            });
+            DividendSeriesStore store = new DividendSeriesStore(jdbcTemplate);
+            store.load();
+            new DividendSeriesSync(node, store);
+            nodes.add(node);
+            stores.add(store);
+        }
+    }
+
+    /**
+     * 노드 간 배당금 series
+     * 1. 다른 노드에서 저장한 배당금 - finance 무효화 메시지를 받은 노드도 DB 에서 다시 읽음
+     * 2. 다른 노드에서 삭제한 회사 - 메시지를 받은 노드의 series 에서도 제거
+     * 3. 회사 삭제 메시지 - DB 를 읽지 않고 series 에서 제거
+     * 4. 스크래핑 결과 합치기 - 그 사이 삭제된 회사는 다시 추가하지 않음
+     */
+    @Test
+    @DisplayName("다른 노드에서 저장한 배당금 - 무효화 메시지를 받은 노드도 DB 에서 다시 읽음")
+    void reloadSavedOnOtherNode() {
+        //given
+        testEntityManager.persist(DividendEntity.builder().companyId(company.getId())
+                .date(LocalDate.parse("2024-05-23")).dividend(new BigDecimal("0.70")).build());
+        testEntityManager.flush();
+
+        //when
+        // 노드 A 가 저장한 뒤 자신의 series 에 합치고 캐시를 갱신
+        stores.get(0).merge(company, List.of(new Dividend(LocalDateTime.parse("2024-05-23T00:00:00"), "0.70")));
+        nodes.get(0).invalidate("finance", String.valueOf(company.getId()));
+
+        //then
+        DividendSeries series = stores.get(1).findById(company.getId()).orElseThrow().getSeries();
+        assertEquals(2, series.size());
+        assertEquals("0.70", series.toDividends().get(1).getDividend());
+        assertEquals(LocalDate.parse("2024-05-23"), series.lastDate());
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 삭제한 회사 - 메시지를 받은 노드의 series 에서도 제거")
+    void removeDeletedOnOtherNode() {
+        //given
+        jdbcTemplate.update("delete from dividend where company_id = ?", company.getId());
+        jdbcTemplate.update("delete from company where id = ?", company.getId());
+
+        //when
+        stores.get(0).remove(company);
+        nodes.get(0).getCache("finance").evict(String.valueOf(company.getId()));
+
+        //then
+        assertTrue(stores.get(1).findById(company.getId()).isEmpty());
+        assertTrue(stores.get(1).findByName("3M Company").isEmpty());
+    }
+
+    @Test
+    @DisplayName("회사 삭제 메시지 - DB 를 읽지 않고 series 에서 제거")
+    void removeOnCompanyInvalidation() {
+        //when
+        nodes.get(0).invalidate("company", String.valueOf(company.getId()));
+
+        //then
+        assertTrue(stores.get(1).findById(company.getId()).isEmpty());
+        assertTrue(stores.get(0).findById(company.getId()).isPresent());
+    }
+
+    @Test
+    @DisplayName("스크래핑 결과 합치기 - 그 사이 삭제된 회사는 다시 추가하지 않음")
+    void mergeSkipsRemovedCompany() {
+        //given
+        stores.get(0).remove(company);
+
+        //when
+        stores.get(0).merge(company, List.of(new Dividend(LocalDateTime.parse("2024-05-23T00:00:00"), "0.70")));
+
+        //then
+        assertTrue(stores.get(0).findById(company.getId()).isEmpty());
+        assertTrue(stores.get(0).findByName("3M Company").isEmpty());
+    }
+}
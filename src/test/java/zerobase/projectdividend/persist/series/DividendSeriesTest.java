@@ -0,0 +1,90 @@
+package zerobase.projectdividend.persist.series;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import zerobase.projectdividend.model.Dividend;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DividendSeriesTest {
+
+    /**
+     * 배당금 series
+     * 1. 기간, 개수 조회 - 최근 limit 개를 날짜순으로
+     * 2. 합치기 - 새 날짜만 추가하고 같은 날짜는 기존 값 유지
+     * 3. 정렬되지 않은 배열 - 실패
+     * 4. 배당금 변환 - 컬럼 scale 보다 긴 소수는 반올림
+     */
+    @Test
+    @DisplayName("기간, 개수 조회 - 양 끝 날짜 포함, 최근 limit 개를 날짜순으로")
+    void rangeWithLimit() {
+        //given
+        DividendSeries series = DividendSeries.of(
+                days("2023-05-18", "2023-08-18", "2023-11-16", "2024-02-15", "2024-05-23"),
+                new long[]{1_500_000, 1_500_000, 1_500_000, 1_510_000, 700_000});
+
+        //when
+        List<Dividend> all = series.toDividends(null, null, null);
+        List<Dividend> range = series.toDividends(LocalDate.parse("2023-08-18"), LocalDate.parse("2024-02-15"), null);
+        List<Dividend> recent = series.toDividends(null, LocalDate.parse("2024-03-01"), 2);
+
+        //then
+        assertEquals(5, all.size());
+        assertEquals(List.of("2023-08-18", "2023-11-16", "2024-02-15"), dates(range));
+        assertEquals(List.of("2023-11-16", "2024-02-15"), dates(recent));
+        assertEquals("1.51", recent.get(1).getDividend());
+        assertEquals("0.70", all.get(4).getDividend());
+        assertEquals(LocalDateTime.parse("2024-05-23T00:00:00"), all.get(4).getDate());
+    }
+
+    @Test
+    @DisplayName("합치기 - 새 날짜만 추가하고 이미 있는 날짜는 기존 값 유지")
+    void mergeKeepsExisting() {
+        //given
+        DividendSeries series = DividendSeries.of(days("2023-11-16", "2024-02-15"), new long[]{1_500_000, 1_510_000});
+
+        //when
+        DividendSeries merged = series.merge(days("2024-02-15", "2024-05-23", "2024-05-23"),
+                new long[]{9_990_000, 700_000, 800_000});
+
+        //then
+        assertEquals(3, merged.size());
+        assertEquals(2, series.size());
+        assertEquals("1.51", merged.toDividends().get(1).getDividend());
+        assertEquals("0.70", merged.toDividends().get(2).getDividend());
+        assertEquals(LocalDate.parse("2024-05-23"), merged.lastDate());
+    }
+
+    @Test
+    @DisplayName("정렬되지 않은 배열 - 실패")
+    void failUnsorted() {
+        assertThrows(IllegalArgumentException.class,
+                () -> DividendSeries.of(days("2024-02-15", "2023-11-16"), new long[]{1, 2}));
+    }
+
+    @Test
+    @DisplayName("배당금 변환 - 컬럼 scale 보다 긴 소수는 DB 와 같이 반올림")
+    void roundLongerScale() {
+        assertEquals(1_510_000, DividendSeries.toScaled(new BigDecimal("1.51")));
+        assertEquals(123_457, DividendSeries.toScaled(new BigDecimal("0.1234565")));
+        assertEquals(123_456, DividendSeries.toScaled(new BigDecimal("0.1234564")));
+    }
+
+    private static int[] days(String... dates) {
+        int[] days = new int[dates.length];
+        for (int i = 0; i < dates.length; i++) {
+            days[i] = (int) LocalDate.parse(dates[i]).toEpochDay();
+        }
+        return days;
+    }
+
+    private static List<String> dates(List<Dividend> dividends) {
+        return dividends.stream().map(d -> d.getDate().toLocalDate().toString()).collect(Collectors.toList());
+    }
+}
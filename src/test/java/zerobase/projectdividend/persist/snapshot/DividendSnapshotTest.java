@@ -0,0 +1,123 @@
+package zerobase.projectdividend.persist.snapshot;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DividendSnapshotTest {
+
+    @TempDir
+    Path root;
+
+    /**
+     * 회사, 배당금 snapshot
+     * 1. 기록한 순서와 값 그대로 읽음
+     * 2. 손상된 파일은 읽기 전에 실패
+     * 3. finish 없이 닫으면 기존 파일 유지
+     */
+    @Test
+    @DisplayName("snapshot 기록 후 읽기 - 회사, 배당금 값과 순서 유지")
+    void writeAndRead() throws Exception {
+        //given
+        Path file = this.root.resolve("dividend.snapshot");
+        Instant createdAt = Instant.parse("2024-07-01T00:00:00Z");
+        try (DividendSnapshot.Writer writer = new DividendSnapshot.Writer(file, 3, createdAt)) {
+            writer.writeCompany(1, "MMM", "3M Company");
+            writer.writeCompany(7, "O", "Realty Income Corporation");
+            writer.writeCompany(300, "KC=F", "Coffee Sep 24 (한글)");
+            writer.writeDividend(1, LocalDate.parse("2023-11-16"), new BigDecimal("1.5"));
+            writer.writeDividend(1, LocalDate.parse("2024-05-23"), new BigDecimal("0.70"));
+            writer.writeDividend(7, LocalDate.parse("1994-11-01"), new BigDecimal("0.182083"));
+            writer.writeDividend(7, LocalDate.parse("1994-12-01"), new BigDecimal("0.182083"));
+            writer.finish();
+        }
+
+        //when
+        List<String> companies = new ArrayList<>();
+        List<String> dividends = new ArrayList<>();
+        Instant read = DividendSnapshot.read(file, new DividendSnapshot.Sink() {
+            @Override
+            public void company(long id, String ticker, String name) {
+                companies.add(id + "/" + ticker + "/" + name);
+            }
+
+            @Override
+            public void dividend(long companyId, LocalDate date, BigDecimal amount) {
+                dividends.add(companyId + "/" + date + "/" + amount.stripTrailingZeros().toPlainString());
+            }
+        });
+
+        //then
+        assertEquals(createdAt, read);
+        assertEquals(List.of("1/MMM/3M Company", "7/O/Realty Income Corporation", "300/KC=F/Coffee Sep 24 (한글)"),
+                companies);
+        assertEquals(List.of("1/2023-11-16/1.5", "1/2024-05-23/0.7", "7/1994-11-01/0.182083", "7/1994-12-01/0.182083"),
+                dividends);
+    }
+
+    @Test
+    @DisplayName("snapshot 읽기 - 손상된 파일은 checksum 으로 걸러냄")
+    void failReadCorrupted() throws Exception {
+        //given
+        Path file = this.root.resolve("dividend.snapshot");
+        try (DividendSnapshot.Writer writer = new DividendSnapshot.Writer(file, 1, Instant.now())) {
+            writer.writeCompany(1, "MMM", "3M Company");
+            writer.writeDividend(1, LocalDate.parse("2024-05-23"), new BigDecimal("0.70"));
+            writer.finish();
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length / 2] ^= 0x01;
+        Files.write(file, bytes);
+        List<Long> received = new ArrayList<>();
+
+        //when
+        IOException exception = assertThrows(IOException.class, () -> DividendSnapshot.read(file, new DividendSnapshot.Sink() {
+            @Override
+            public void company(long id, String ticker, String name) {
+                received.add(id);
+            }
+
+            @Override
+            public void dividend(long companyId, LocalDate date, BigDecimal amount) {
+                received.add(companyId);
+            }
+        }));
+
+        //then
+        assertTrue(exception.getMessage().contains("checksum"));
+        assertTrue(received.isEmpty());
+    }
+
+    @Test
+    @DisplayName("snapshot 기록 - 끝내지 않고 닫으면 이전 snapshot 유지")
+    void keepPreviousWhenNotFinished() throws Exception {
+        //given
+        Path file = this.root.resolve("dividend.snapshot");
+        try (DividendSnapshot.Writer writer = new DividendSnapshot.Writer(file, 0, Instant.now())) {
+            writer.finish();
+        }
+        long size = Files.size(file);
+
+        //when
+        try (DividendSnapshot.Writer writer = new DividendSnapshot.Writer(file, 1, Instant.now())) {
+            writer.writeCompany(1, "MMM", "3M Company");
+        }
+
+        //then
+        assertEquals(size, Files.size(file));
+        try (var files = Files.list(this.root)) {
+            assertEquals(1, files.count());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package zerobase.projectdividend.scheduler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchWriterTest {
+
+    /**
+     * 저장 단계
+     * 1. batch 로 모아서 저장, 실패한 batch 는 하나씩 다시 저장해 실패한 항목만 전달
+     * 2. 대기열이 가득 차면 put 이 대기 (backpressure)
+     */
+    @Test
+    @DisplayName("저장 단계 - batch 저장이 실패하면 실패한 항목만 onError 로 전달")
+    void isolateFailedItems() throws InterruptedException {
+        //given
+        List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+        Map<Integer, Throwable> errors = new ConcurrentHashMap<>();
+        BatchWriter<Integer> writer = new BatchWriter<>("write", 100, 10, batch -> {
+            if (batch.contains(7)) {
+                throw new IllegalStateException("fail -> 7");
+            }
+            written.addAll(batch);
+        }, errors::put);
+
+        //when
+        for (int i = 0; i < 30; i++) {
+            writer.put(i);
+        }
+        writer.close();
+
+        //then
+        assertEquals(29, written.size());
+        assertFalse(written.contains(7));
+        assertEquals(1, errors.size());
+        assertTrue(errors.containsKey(7));
+        assertEquals(29, writer.getMetrics().getProcessed());
+        assertEquals(1, writer.getMetrics().getFailed());
+    }
+
+    @Test
+    @DisplayName("저장 단계 - 대기열이 가득 차면 put 이 대기")
+    void backpressure() throws InterruptedException {
+        //given
+        CountDownLatch release = new CountDownLatch(1);
+        BatchWriter<Integer> writer = new BatchWriter<>("write", 2, 1, batch -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, (item, e) -> {
+        });
+
+        // 저장 스레드가 첫 항목을 잡고 있는 동안 대기열 2칸을 채움
+        writer.put(0);
+        writer.put(1);
+        writer.put(2);
+
+        //when
+        Thread producer = new Thread(() -> {
+            try {
+                writer.put(3);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+        producer.join(300);
+
+        //then
+        assertTrue(producer.isAlive());
+        release.countDown();
+        producer.join();
+        writer.close();
+        assertEquals(4, writer.getMetrics().getProcessed());
+    }
+}
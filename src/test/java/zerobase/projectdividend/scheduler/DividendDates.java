@@ -0,0 +1,26 @@
+package zerobase.projectdividend.scheduler;
+
+import zerobase.projectdividend.persist.repository.DividendRepository;
+
+import java.time.LocalDate;
+
+// 회사별 배당일 조회 결과(DividendDate) 테스트 데이터
+final class DividendDates {
+
+    private DividendDates() {
+    }
+
+    static DividendRepository.DividendDate dividendDate(Long companyId, LocalDate date) {
+        return new DividendRepository.DividendDate() {
+            @Override
+            public Long getCompanyId() {
+                return companyId;
+            }
+
+            @Override
+            public LocalDate getDate() {
+                return date;
+            }
+        };
+    }
+}
@@ -0,0 +1,111 @@
+package zerobase.projectdividend.scheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import zerobase.projectdividend.ProjectDividendApplication;
+import zerobase.projectdividend.persist.repository.ScrapLeaseRepository;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 같은 H2 데이터베이스를 사용하는 두 개의 애플리케이션(노드)으로 파티션 분배 확인
+class PartitionLeaseManagerTest {
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+
+    @AfterEach
+    void tearDown() {
+        if (nodeA != null) {
+            nodeA.close();
+        }
+        if (nodeB != null) {
+            nodeB.close();
+        }
+    }
+
+    /**
+     * 파티션 lease
+     * 1. 노드가 추가되면 파티션을 나눠 가짐
+     * 2. 죽은 노드의 파티션은 lease 가 만료된 뒤 다른 노드가 가져감
+     * 3. 이미 있는 파티션 row 를 다시 생성해도 owner 는 그대로
+     */
+    @Test
+    @DisplayName("파티션 lease - 두 노드가 나눠 가지고, 죽은 노드의 파티션은 만료 후 가져감")
+    void splitAndTakeOver() throws InterruptedException {
+        //given
+        nodeA = start("node-a");
+        PartitionLeaseManager a = nodeA.getBean(PartitionLeaseManager.class);
+        assertEquals(8, a.acquire().size());
+
+        nodeB = start("node-b");
+        PartitionLeaseManager b = nodeB.getBean(PartitionLeaseManager.class);
+
+        //when
+        // B 는 아직 가져갈 파티션이 없고, A 가 다음 주기에 절반을 반납하면 B 가 가져감
+        assertTrue(b.acquire().isEmpty());
+        Set<Long> ownedByA = a.acquire();
+        Set<Long> ownedByB = b.acquire();
+
+        //then
+        assertEquals(4, ownedByA.size());
+        assertEquals(4, ownedByB.size());
+        Set<Long> all = new HashSet<>(ownedByA);
+        all.addAll(ownedByB);
+        assertEquals(8, all.size());
+
+        // A 가 더 이상 갱신하지 않으면 (죽은 노드) lease 만료 후 B 가 전부 가져감
+        assertEquals(8, awaitAcquired(b, 8).size());
+    }
+
+    @Test
+    @DisplayName("파티션 lease - 이미 있는 파티션 row 를 다시 생성해도 owner 는 그대로")
+    void insertIfAbsentKeepsOwner() {
+        //given
+        nodeA = start("node-a");
+        PartitionLeaseManager a = nodeA.getBean(PartitionLeaseManager.class);
+        ScrapLeaseRepository leaseRepository = nodeA.getBean(ScrapLeaseRepository.class);
+        Long owned = a.acquire().iterator().next();
+
+        //when
+        int inserted = leaseRepository.insertIfAbsent(owned);
+
+        //then
+        assertEquals(0, inserted);
+        assertEquals("node-a", leaseRepository.findById(owned).get().getOwner());
+    }
+
+    // lease 만료(2s)를 고정된 시간만큼 기다리지 않고 제한 시간 안에서 다시 시도
+    private static Set<Long> awaitAcquired(PartitionLeaseManager manager, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        Set<Long> owned = manager.acquire();
+        while (owned.size() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+            owned = manager.acquire();
+        }
+        return owned;
+    }
+
+    private static ConfigurableApplicationContext start(String nodeId) {
+        return new SpringApplicationBuilder(ProjectDividendApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:lease-test;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=update",
+                        "spring.jpa.show-sql=false",
+                        "scheduler.scrap.yahoo=-",
+                        "scheduler.scrap.yahoo-full=-",
+                        "scheduler.lease.partitions=8",
+                        "scheduler.lease.duration=2s",
+                        "snapshot.enabled=false",
+                        "scheduler.lease.node-id=" + nodeId)
+                .run();
+    }
+}
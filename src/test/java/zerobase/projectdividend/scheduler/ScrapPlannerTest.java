@@ -0,0 +1,91 @@
+package zerobase.projectdividend.scheduler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import zerobase.projectdividend.model.constants.DividendCadence;
+import zerobase.projectdividend.persist.entity.CompanyEntity;
+import zerobase.projectdividend.persist.repository.DividendRepository;
+import zerobase.projectdividend.persist.repository.ScrapStateRepository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static zerobase.projectdividend.scheduler.DividendDates.dividendDate;
+
+@ExtendWith(MockitoExtension.class)
+class ScrapPlannerTest {
+
+    @Mock
+    private DividendRepository dividendRepository;
+
+    @Mock
+    private ScrapStateRepository scrapStateRepository;
+
+    @Mock
+    private ReadPopularity readPopularity;
+
+    /**
+     * 스크래핑 우선순위
+     * 1. 배당 주기 추정
+     * 2. 예산만큼 우선순위가 높은 회사부터 선택
+     */
+    @Test
+    @DisplayName("배당 주기 추정 - 특별 배당이 섞여도 간격의 중앙값으로 추정")
+    void inferCadence() {
+        //given
+        List<LocalDate> quarterly = Arrays.asList(
+                LocalDate.parse("2023-02-15"),
+                LocalDate.parse("2023-05-18"),
+                LocalDate.parse("2023-06-01"), // 특별 배당
+                LocalDate.parse("2023-08-18"),
+                LocalDate.parse("2023-11-16"));
+
+        //when
+        //then
+        assertEquals(DividendCadence.QUARTERLY, DividendCadence.infer(quarterly));
+        assertEquals(DividendCadence.UNKNOWN, DividendCadence.infer(quarterly.subList(0, 1)));
+    }
+
+    @Test
+    @DisplayName("스크래핑 우선순위 - 조회가 많고 배당일이 가까운 회사부터 예산만큼 선택")
+    void planByPriority() {
+        //given
+        CompanyEntity hot = new CompanyEntity(1L, "MMM", "3M Company");
+        CompanyEntity dormant = new CompanyEntity(2L, "KO", "Coca-Cola Company");
+        CompanyEntity unknown = new CompanyEntity(3L, "O", "Realty Income Corporation");
+
+        LocalDate now = LocalDate.now();
+        List<DividendRepository.DividendDate> dates = new ArrayList<>();
+        // 분기 배당, 다음 배당일이 며칠 남지 않음
+        dates.add(dividendDate(1L, now.minusDays(270)));
+        dates.add(dividendDate(1L, now.minusDays(179)));
+        dates.add(dividendDate(1L, now.minusDays(88)));
+        // 연 배당, 다음 배당일이 약 11개월 뒤
+        dates.add(dividendDate(2L, now.minusDays(395)));
+        dates.add(dividendDate(2L, now.minusDays(30)));
+        given(dividendRepository.findAllDatesSince(any()))
+                .willReturn(dates);
+        given(readPopularity.drain())
+                .willReturn(Map.of("3M Company", 10L));
+
+        ScrapPlanner planner = new ScrapPlanner(dividendRepository, scrapStateRepository, readPopularity,
+                2, Duration.ofDays(7), Duration.ofHours(6));
+
+        //when
+        List<CompanyEntity> planned = planner.plan(Arrays.asList(dormant, unknown, hot));
+
+        //then
+        // 주기를 모르는 회사가 다음 배당일이 먼 회사보다 먼저
+        assertEquals(Arrays.asList(hot, unknown), planned);
+    }
+}
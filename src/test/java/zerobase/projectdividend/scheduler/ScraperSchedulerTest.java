@@ -0,0 +1,219 @@
+package zerobase.projectdividend.scheduler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import zerobase.projectdividend.cache.RedisCacheGuard;
+import zerobase.projectdividend.cache.TwoLevelCacheManager;
+import zerobase.projectdividend.model.Company;
+import zerobase.projectdividend.model.Dividend;
+import zerobase.projectdividend.model.PageFingerprint;
+import zerobase.projectdividend.model.ScrapedResult;
+import zerobase.projectdividend.persist.entity.CompanyEntity;
+import zerobase.projectdividend.persist.entity.ScrapStateEntity;
+import zerobase.projectdividend.persist.repository.CompanyRepository;
+import zerobase.projectdividend.persist.repository.DividendRepository;
+import zerobase.projectdividend.persist.repository.ScrapStateRepository;
+import zerobase.projectdividend.persist.series.DividendSeriesStore;
+import zerobase.projectdividend.scraper.ScrapMetrics;
+import zerobase.projectdividend.scraper.ScrapTarget;
+import zerobase.projectdividend.scraper.Scraper;
+import zerobase.projectdividend.service.FinanceCacheRefresher;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static zerobase.projectdividend.scheduler.DividendDates.dividendDate;
+
+@ExtendWith(MockitoExtension.class)
+class ScraperSchedulerTest {
+
+    @Mock
+    private CompanyRepository companyRepository;
+    @Mock
+    private DividendRepository dividendRepository;
+    @Mock
+    private ScrapStateRepository scrapStateRepository;
+    @Mock
+    private Scraper yahooFinanceScraper;
+    @Mock
+    private ScrapEngine scrapEngine;
+    @Mock
+    private ScrapPlanner scrapPlanner;
+    @Mock
+    private PartitionLeaseManager leaseManager;
+    @Mock
+    private FinanceCacheRefresher financeCacheRefresher;
+    @Mock
+    private DividendSeriesStore dividendSeriesStore;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private ScrapMetrics scrapMetrics;
+    @Mock
+    private TwoLevelCacheManager cacheManager;
+    @Mock
+    private RedisCacheGuard redisCacheGuard;
+
+    @InjectMocks
+    private ScraperScheduler scraperScheduler;
+
+    private final CompanyEntity mmm = new CompanyEntity(1L, "MMM", "3M Company");
+    private final CompanyEntity ko = new CompanyEntity(2L, "KO", "Coca-Cola Company (The)");
+    private final PageFingerprint previous = new PageFingerprint("url", "\"v1\"", null, "hash");
+
+    private final List<ScrapTarget> targets = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        given(leaseManager.acquire())
+                .willReturn(Set.of(0L));
+        given(leaseManager.partitionOf(anyLong()))
+                .willReturn(0L);
+        given(companyRepository.findAll())
+                .willReturn(List.of(mmm, ko));
+        given(scrapStateRepository.findAllByTickerIn(anyCollection()))
+                .willReturn(List.of(new ScrapStateEntity("MMM", previous)));
+    }
+
+    /**
+     * 주기적인 배당금 스크래핑
+     * 1. 마지막 배당일 이후만, 지난번 페이지 정보와 함께 요청 (회사 수와 관계없이 조회 두 번)
+     * 2. 전체 스크래핑은 마지막 배당일 없이 요청
+     * 3. 바뀌지 않은 페이지는 배당금을 저장하지 않고 페이지 정보만 갱신
+     * 4. 커밋 후 series 갱신에 실패해도 batch 를 실패로 넘기지 않고 series 를 버린 뒤 캐시 갱신
+     */
+    @Test
+    @DisplayName("주기적인 배당금 스크래핑 - 마지막 배당일 이후만, 지난번 페이지 정보와 함께 요청")
+    void incrementalTargets() throws Exception {
+        //given
+        given(scrapPlanner.plan(any()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        given(dividendRepository.findLastDates(anyCollection()))
+                .willReturn(List.of(dividendDate(1L, LocalDate.parse("2024-05-23"))));
+        this.runAllWith(List.of());
+
+        //when
+        scraperScheduler.yahooFinanceScheduling();
+
+        //then
+        assertEquals(2, targets.size());
+        assertEquals(LocalDateTime.parse("2024-05-23T00:00:00"), targets.get(0).getSince());
+        assertEquals(previous.getHash(), targets.get(0).getPrevious().getHash());
+        // 배당금도 페이지 정보도 없는 회사는 전체 기간
+        assertNull(targets.get(1).getSince());
+        assertNull(targets.get(1).getPrevious());
+        verify(dividendRepository, times(1)).findLastDates(anyCollection());
+        verify(scrapStateRepository, times(1)).findAllByTickerIn(anyCollection());
+        verify(scrapStateRepository, never()).findByTicker(any());
+    }
+
+    @Test
+    @DisplayName("주기적인 배당금 스크래핑 - 전체 스크래핑은 마지막 배당일 없이 요청")
+    void fullTargets() throws Exception {
+        //given
+        this.runAllWith(List.of());
+
+        //when
+        scraperScheduler.yahooFinanceFullScheduling();
+
+        //then
+        assertEquals(2, targets.size());
+        assertNull(targets.get(0).getSince());
+        assertNotNull(targets.get(0).getPrevious());
+        verify(dividendRepository, never()).findLastDates(anyCollection());
+        verify(scrapPlanner, never()).plan(any());
+    }
+
+    @Test
+    @DisplayName("주기적인 배당금 스크래핑 - 바뀌지 않은 페이지는 페이지 정보만 갱신")
+    void unchangedPage() throws Exception {
+        //given
+        given(scrapPlanner.plan(any()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        given(transactionTemplate.execute(any()))
+                .willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        ScrapedResult unchanged = new ScrapedResult();
+        unchanged.setCompany(new Company("MMM", "3M Company"));
+        unchanged.setUnchanged(true);
+        unchanged.setFingerprint(previous);
+        this.runAllWith(List.of(unchanged));
+
+        //when
+        scraperScheduler.yahooFinanceScheduling();
+
+        //then
+        verify(dividendRepository, never()).saveNewDividends(anyLong(), any());
+        ArgumentCaptor<ScrapStateEntity> state = ArgumentCaptor.forClass(ScrapStateEntity.class);
+        verify(scrapStateRepository).save(state.capture());
+        assertEquals("MMM", state.getValue().getTicker());
+        verify(dividendSeriesStore, never()).merge(any(), any());
+        verify(financeCacheRefresher).refresh(Set.of());
+    }
+
+    @Test
+    @DisplayName("주기적인 배당금 스크래핑 - 커밋 후 series 갱신 실패는 batch 실패로 넘기지 않음")
+    void mergeFailureAfterCommit() throws Exception {
+        //given
+        given(scrapPlanner.plan(any()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        given(transactionTemplate.execute(any()))
+                .willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        given(dividendRepository.saveNewDividends(anyLong(), any()))
+                .willReturn(1);
+        willThrow(new ArithmeticException("Rounding necessary"))
+                .given(dividendSeriesStore).merge(any(), any());
+        ScrapedResult result = new ScrapedResult(new Company("MMM", "3M Company"),
+                List.of(new Dividend(LocalDateTime.parse("2024-08-23T00:00:00"), "0.7000001")));
+        result.setFingerprint(previous);
+        this.runAllWith(List.of(result));
+
+        //when
+        scraperScheduler.yahooFinanceScheduling();
+
+        //then
+        verify(dividendRepository, times(1)).saveNewDividends(anyLong(), any());
+        verify(dividendSeriesStore).remove(mmm);
+        verify(financeCacheRefresher).refresh(Set.of(mmm));
+    }
+
+    // 스크래핑 대상을 기록하고, results 를 한 batch 로 저장 단계에 전달
+    private void runAllWith(List<ScrapedResult> results) throws InterruptedException {
+        given(scrapEngine.runAll(any(), anyCollection(), any()))
+                .willAnswer(invocation -> {
+                    targets.addAll(invocation.<Collection<ScrapTarget>>getArgument(1));
+                    List<ScrapEngine.Scraped> batch = new ArrayList<>();
+                    for (ScrapedResult result : results) {
+                        ScrapTarget target = targets.stream()
+                                .filter(t -> t.getCompany().getTicker().equals(result.getCompany().getTicker()))
+                                .findFirst().orElseThrow();
+                        batch.add(new ScrapEngine.Scraped(target, result));
+                    }
+                    if (!batch.isEmpty()) {
+                        invocation.<Consumer<List<ScrapEngine.Scraped>>>getArgument(2).accept(batch);
+                    }
+                    return 0;
+                });
+    }
+}
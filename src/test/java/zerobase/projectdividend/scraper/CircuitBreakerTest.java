@@ -0,0 +1,115 @@
+package zerobase.projectdividend.scraper;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker("test", 3,
+            Duration.ofSeconds(10), Duration.ofSeconds(60), now::get);
+
+    /**
+     * circuit breaker
+     * 1. 연속 실패 횟수를 넘으면 OPEN
+     * 2. OPEN 시간이 지나면 probe 한 번만 허용, 성공하면 CLOSED
+     * 3. probe 가 실패하면 더 긴 시간 동안 OPEN
+     * 4. OPEN 되기 전에 보낸 요청이 늦게 성공 - circuit 을 닫지 않음
+     */
+    @Test
+    @DisplayName("circuit breaker - 연속 실패 횟수를 넘으면 OPEN")
+    void openAfterConsecutiveFailures() {
+        //given
+        circuitBreaker.onFailure(acquire());
+        circuitBreaker.onSuccess(acquire());
+        circuitBreaker.onFailure(acquire());
+        circuitBreaker.onFailure(acquire());
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+
+        //when
+        circuitBreaker.onFailure(acquire());
+
+        //then
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertTrue(circuitBreaker.tryAcquire().isEmpty());
+    }
+
+    @Test
+    @DisplayName("circuit breaker - OPEN 시간이 지나면 probe 한 번만 허용, 성공하면 CLOSED")
+    void halfOpenProbe() {
+        //given
+        openCircuit();
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        //when
+        Optional<CircuitBreaker.Permit> probe = circuitBreaker.tryAcquire();
+        Optional<CircuitBreaker.Permit> other = circuitBreaker.tryAcquire();
+        circuitBreaker.onSuccess(probe.get());
+
+        //then
+        assertTrue(other.isEmpty());
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertTrue(circuitBreaker.tryAcquire().isPresent());
+    }
+
+    @Test
+    @DisplayName("circuit breaker - probe 가 실패하면 더 긴 시간 동안 OPEN")
+    void backoffAfterFailedProbe() {
+        //given
+        openCircuit();
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        CircuitBreaker.Permit probe = acquire();
+
+        //when
+        circuitBreaker.onFailure(probe);
+
+        //then
+        // 두 번째 OPEN 은 20초 (jitter 로 10 ~ 20초)
+        Duration remaining = circuitBreaker.getRemainingOpenDuration();
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertTrue(remaining.compareTo(Duration.ofSeconds(10)) >= 0);
+        assertTrue(remaining.compareTo(Duration.ofSeconds(20)) <= 0);
+        assertTrue(circuitBreaker.tryAcquire().isEmpty());
+    }
+
+    @Test
+    @DisplayName("circuit breaker - OPEN 되기 전에 보낸 요청이 늦게 성공해도 circuit 을 닫지 않음")
+    void ignoreLateSuccess() {
+        //given
+        CircuitBreaker.Permit late = acquire();
+        openCircuit();
+
+        //when
+        circuitBreaker.onSuccess(late);
+
+        //then
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertTrue(circuitBreaker.tryAcquire().isEmpty());
+
+        // HALF_OPEN 에서도 probe 의 결과만 반영
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        CircuitBreaker.Permit probe = acquire();
+        circuitBreaker.onSuccess(late);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        circuitBreaker.onFailure(probe);
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+    private CircuitBreaker.Permit acquire() {
+        return circuitBreaker.tryAcquire().orElseThrow();
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.onFailure(acquire());
+        }
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+}
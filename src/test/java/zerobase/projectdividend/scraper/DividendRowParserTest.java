@@ -0,0 +1,99 @@
+package zerobase.projectdividend.scraper;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import zerobase.projectdividend.model.Dividend;
+import zerobase.projectdividend.model.constants.Month;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DividendRowParserTest {
+
+    /**
+     * 배당금 row 파싱
+     * 1. 성공
+     * 2. 성공 - 배당금 row 가 아닌 경우 null
+     * 3. 실패 - 잘못된 월 / 금액
+     */
+    @Test
+    @DisplayName("배당금 row 파싱 - 성공")
+    void successParse() {
+        //given
+        String row = "May 23, 2024 0.70 Dividend";
+
+        //when
+        Dividend dividend = DividendRowParser.parse(row);
+
+        //then
+        assertEquals(LocalDateTime.parse("2024-05-23T00:00:00"), dividend.getDate());
+        assertEquals("0.70", dividend.getDividend());
+    }
+
+    @Test
+    @DisplayName("배당금 row 파싱 - 성공 - 한자리 일, 공백이 여러개인 경우")
+    void successParse_SingleDigitDayAndSpaces() {
+        //given
+        String row = " Feb 1, 2023   1.5 Dividend";
+
+        //when
+        Dividend dividend = DividendRowParser.parse(row);
+
+        //then
+        assertEquals(LocalDateTime.parse("2023-02-01T00:00:00"), dividend.getDate());
+        assertEquals("1.5", dividend.getDividend());
+    }
+
+    @Test
+    @DisplayName("배당금 row 파싱 - 성공 - 배당금 row 가 아닌 경우 null")
+    void successParse_NotDividendRow() {
+        //given
+        String row = "Jul 1, 2024 103.55 105.47 101.41 104.56 104.56 3,512,900";
+
+        //when
+        Dividend dividend = DividendRowParser.parse(row);
+
+        //then
+        assertNull(dividend);
+    }
+
+    @Test
+    @DisplayName("배당금 row 파싱 - 실패 - 잘못된 월")
+    void failParse_UnexpectedMonth() {
+        //given
+        String row = "Mai 23, 2024 0.70 Dividend";
+
+        //when
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> DividendRowParser.parse(row));
+
+        //then
+        assertTrue(exception.getMessage().startsWith("Unexpected Month Value"));
+    }
+
+    @Test
+    @DisplayName("배당금 row 파싱 - 실패 - 금액이 없는 경우")
+    void failParse_NoAmount() {
+        //given
+        String row = "May 23, 2024 Dividend";
+
+        //when
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> DividendRowParser.parse(row));
+
+        //then
+        assertTrue(exception.getMessage().startsWith("Unexpected Dividend Value"));
+    }
+
+    @Test
+    @DisplayName("월 약어 -> 월 번호")
+    void monthLookup() {
+        assertEquals(1, Month.stringToNumber("Jan"));
+        assertEquals(12, Month.stringToNumber("Dec"));
+        assertEquals(9, Month.numberOf("x Sep", 2));
+        assertEquals(-1, Month.stringToNumber("Abc"));
+        assertEquals(-1, Month.stringToNumber("January"));
+        assertEquals(-1, Month.numberOf("Se", 0));
+    }
+}
@@ -0,0 +1,248 @@
+package zerobase.projectdividend.scraper;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import zerobase.projectdividend.exception.impl.CircuitOpenException;
+import zerobase.projectdividend.exception.impl.FailToScrapException;
+import zerobase.projectdividend.exception.impl.NotExistCompanyWithTickerException;
+import zerobase.projectdividend.model.Company;
+import zerobase.projectdividend.model.PageFingerprint;
+import zerobase.projectdividend.model.ScrapedResult;
+import zerobase.projectdividend.model.constants.ScrapMode;
+import zerobase.projectdividend.scraper.archive.PageArchive;
+import zerobase.projectdividend.scraper.archive.ReplayScraper;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 기록된 페이지(PageArchive) 또는 고정된 응답으로 스크래핑 경로 확인 (네트워크 없음)
+class YahooFinanceScraperTest {
+
+    private static final Company COMPANY = new Company("MMM", "3M Company");
+
+    private static final String DIVIDENDS = "<table class=\"table svelte-ewueuo\"><thead><tr><th>Date</th></tr></thead>"
+            + "<tbody><tr><td>Feb 15, 2024</td><td>1.51 Dividend</td></tr>"
+            + "<tr><td>May 23, 2024</td><td>0.70 Dividend</td></tr></tbody></table>";
+
+    private static final String HISTORY = "<table class=\"table svelte-ewueuo\"><thead><tr><th>Date</th></tr></thead>"
+            + "<tbody><tr><td>Jul 1, 2024</td><td>103.55</td></tr>"
+            + "<tr><td>May 23, 2024</td><td>0.70 Dividend</td></tr></tbody></table>";
+
+    @TempDir
+    Path root;
+
+    /**
+     * 배당금 스크래핑
+     * 1. 마지막 배당일 다음날부터만 요청, 없으면 전체 기간
+     * 2. 배당금 전용 페이지를 먼저 사용
+     * 3. 배당금 전용 페이지에 표가 없으면 전체 이력 페이지 사용
+     * 4. 표 내용(SHA-256)이 지난번과 같으면 파싱 생략
+     * 5. 304 응답이면 파싱 없이 지난번 페이지 정보 유지
+     * 6. 없는 페이지(404)는 스크랩 실패지만 circuit breaker 에 기록하지 않음
+     * 7. 서버 에러는 circuit breaker 에 실패로 기록
+     * 8. 여러 회사 스크래핑 - listener 예외는 결과 future 로 넘기지 않음
+     */
+    @Test
+    @DisplayName("배당금 스크래핑 - 마지막 배당일 다음날부터만 요청, 없으면 전체 기간")
+    void requestOnlyAfterSince() {
+        //given
+        List<String> urls = new ArrayList<>();
+        PageSource source = (ticker, kind, url, previous) -> {
+            urls.add(url);
+            return CompletableFuture.completedFuture(ok(url, DIVIDENDS));
+        };
+        YahooFinanceScraper scraper = new YahooFinanceScraper(source, new ScrapMetrics(), CircuitBreaker.disabled());
+        long nextDay = LocalDate.parse("2024-05-24").atStartOfDay(ZoneOffset.UTC).toEpochSecond();
+
+        //when
+        scraper.scrap(COMPANY, LocalDateTime.parse("2024-05-23T00:00:00"));
+        scraper.scrap(COMPANY, null);
+
+        //then
+        assertEquals(2, urls.size());
+        assertTrue(urls.get(0).contains("filter=div"));
+        assertTrue(urls.get(0).contains("period1=" + nextDay + "&"));
+        assertTrue(urls.get(1).contains("period1=86400&"));
+    }
+
+    @Test
+    @DisplayName("배당금 스크래핑 - 배당금 전용 페이지를 먼저 사용")
+    void useDividendOnlyPage() throws Exception {
+        //given
+        PageArchive archive = new PageArchive(this.root);
+        archive.record("MMM", PageKind.DIVIDEND_HISTORY, Instant.now(), DIVIDENDS);
+        archive.record("MMM", PageKind.FULL_HISTORY, Instant.now(), HISTORY);
+        ScrapMetrics metrics = new ScrapMetrics();
+        ReplayScraper scraper = new ReplayScraper(archive, null, metrics);
+
+        //when
+        ScrapedResult result = scraper.scrap(COMPANY);
+
+        //then
+        assertEquals(ScrapMode.DIVIDEND_ONLY, result.getMode());
+        assertEquals(2, result.getDividends().size());
+        assertEquals("1.51", result.getDividends().get(0).getDividend());
+        assertEquals(0, metrics.getFallbacks());
+        assertEquals(0, metrics.getPages(ScrapMode.FULL_HISTORY));
+    }
+
+    @Test
+    @DisplayName("배당금 스크래핑 - 배당금 전용 페이지에 표가 없으면 전체 이력 페이지 사용")
+    void fallbackToMonthlyHistory() throws Exception {
+        //given
+        PageArchive archive = new PageArchive(this.root);
+        archive.record("MMM", PageKind.DIVIDEND_HISTORY, Instant.now(), "<html><body>no table</body></html>");
+        archive.record("MMM", PageKind.FULL_HISTORY, Instant.now(), HISTORY);
+        ScrapMetrics metrics = new ScrapMetrics();
+        ReplayScraper scraper = new ReplayScraper(archive, null, metrics);
+
+        //when
+        ScrapedResult result = scraper.scrap(COMPANY);
+
+        //then
+        assertEquals(ScrapMode.FULL_HISTORY, result.getMode());
+        // 주가 row 는 건너뛰고 배당금 row 만
+        assertEquals(1, result.getDividends().size());
+        assertEquals(LocalDateTime.parse("2024-05-23T00:00:00"), result.getDividends().get(0).getDate());
+        assertEquals(1, metrics.getFallbacks());
+        assertEquals(1, metrics.getPages(ScrapMode.DIVIDEND_ONLY));
+        assertEquals(1, metrics.getPages(ScrapMode.FULL_HISTORY));
+    }
+
+    @Test
+    @DisplayName("배당금 스크래핑 - 표 내용이 지난번과 같으면 파싱 생략, 바뀌면 다시 파싱")
+    void skipUnchangedTable() throws Exception {
+        //given
+        PageArchive archive = new PageArchive(this.root);
+        archive.record("MMM", PageKind.DIVIDEND_HISTORY, Instant.parse("2024-07-01T00:00:00Z"), DIVIDENDS);
+        ScrapMetrics metrics = new ScrapMetrics();
+        ReplayScraper scraper = new ReplayScraper(archive, null, metrics);
+        PageFingerprint previous = scraper.scrap(COMPANY).getFingerprint();
+
+        //when
+        ScrapedResult same = scraper.scrap(COMPANY, null, previous);
+        archive.record("MMM", PageKind.DIVIDEND_HISTORY, Instant.parse("2024-07-02T00:00:00Z"),
+                DIVIDENDS.replace("0.70", "0.71"));
+        ScrapedResult changed = scraper.scrap(COMPANY, null, previous);
+
+        //then
+        assertEquals(64, previous.getHash().length());
+        assertTrue(same.isUnchanged());
+        assertEquals(0, same.getDividends().size());
+        assertEquals(previous.getHash(), same.getFingerprint().getHash());
+        assertFalse(changed.isUnchanged());
+        assertEquals("0.71", changed.getDividends().get(1).getDividend());
+        assertNotEquals(previous.getHash(), changed.getFingerprint().getHash());
+        assertEquals(1, metrics.getUnchanged());
+        assertEquals(2, metrics.getParsed());
+    }
+
+    @Test
+    @DisplayName("배당금 스크래핑 - 304 응답이면 파싱 없이 지난번 페이지 정보 유지")
+    void notModified() {
+        //given
+        PageSource source = (ticker, kind, url, previous) -> CompletableFuture.completedFuture(
+                new FetchedPage(url, HttpURLConnection.HTTP_NOT_MODIFIED, "", 0, null, null));
+        ScrapMetrics metrics = new ScrapMetrics();
+        YahooFinanceScraper scraper = new YahooFinanceScraper(source, metrics, CircuitBreaker.disabled());
+        PageFingerprint previous = new PageFingerprint("url", "\"v1\"", null, "hash");
+
+        //when
+        ScrapedResult result = scraper.scrap(COMPANY, null, previous);
+
+        //then
+        assertTrue(result.isUnchanged());
+        assertEquals(0, result.getDividends().size());
+        assertSame(previous, result.getFingerprint());
+        assertEquals(ScrapMode.DIVIDEND_ONLY, result.getMode());
+        assertEquals(1, metrics.getNotModified());
+        assertEquals(0, metrics.getFallbacks());
+        assertEquals(0, metrics.getParsed());
+    }
+
+    @Test
+    @DisplayName("배당금 스크래핑 - 없는 페이지(404)는 circuit breaker 에 실패로 기록하지 않음")
+    void notFoundIsNotUpstreamFailure() {
+        //given
+        PageSource source = (ticker, kind, url, previous) -> CompletableFuture.completedFuture(
+                new FetchedPage(url, HttpURLConnection.HTTP_NOT_FOUND, "", 0, null, null));
+        CircuitBreaker circuitBreaker = new CircuitBreaker("test", 2, Duration.ofSeconds(30), Duration.ofMinutes(1));
+        YahooFinanceScraper scraper = new YahooFinanceScraper(source, new ScrapMetrics(), circuitBreaker);
+
+        //when
+        for (int i = 0; i < 3; i++) {
+            assertThrows(FailToScrapException.class, () -> scraper.scrap(COMPANY));
+            assertThrows(NotExistCompanyWithTickerException.class, () -> scraper.scrapCompanyByTicker("XXX"));
+        }
+
+        //then
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    @DisplayName("배당금 스크래핑 - 서버 에러는 circuit breaker 에 실패로 기록")
+    void serverErrorIsUpstreamFailure() {
+        //given
+        PageSource source = (ticker, kind, url, previous) -> CompletableFuture.failedFuture(
+                new IOException("HTTP 503 -> " + url));
+        CircuitBreaker circuitBreaker = new CircuitBreaker("test", 2, Duration.ofSeconds(30), Duration.ofMinutes(1));
+        YahooFinanceScraper scraper = new YahooFinanceScraper(source, new ScrapMetrics(), circuitBreaker);
+
+        //when
+        scraper.scrap(COMPANY);
+        scraper.scrap(COMPANY);
+
+        //then
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertThrows(CircuitOpenException.class, () -> scraper.scrap(COMPANY));
+    }
+
+    @Test
+    @DisplayName("여러 회사 스크래핑 - listener 예외는 결과 future 로 넘기지 않음")
+    void listenerFailureDoesNotFailAll() {
+        //given
+        Company failing = new Company("XXX", "Failing Company");
+        PageSource source = (ticker, kind, url, previous) -> "MMM".equals(ticker)
+                ? CompletableFuture.completedFuture(ok(url, DIVIDENDS))
+                : CompletableFuture.failedFuture(new IOException("HTTP 503 -> " + url));
+        YahooFinanceScraper scraper = new YahooFinanceScraper(source, new ScrapMetrics(), CircuitBreaker.disabled());
+        List<String> failed = new ArrayList<>();
+        ScrapListener listener = new ScrapListener() {
+            @Override
+            public void onSuccess(ScrapTarget target, ScrapedResult result) {
+                throw new IllegalStateException("fail to store");
+            }
+
+            @Override
+            public void onFailure(ScrapTarget target, Throwable error) {
+                failed.add(target.getCompany().getTicker());
+                throw new IllegalStateException("fail to record");
+            }
+        };
+
+        //when
+        CompletableFuture<Void> all = scraper.scrapAll(
+                List.of(new ScrapTarget(COMPANY), new ScrapTarget(failing)), 2, listener);
+
+        //then
+        // onSuccess 가 실패하면 onFailure 로, onFailure 의 예외는 기록만 함
+        assertDoesNotThrow(() -> all.join());
+        assertEquals(List.of("MMM", "XXX"), failed);
+    }
+
+    private static FetchedPage ok(String url, String body) {
+        return new FetchedPage(url, HttpURLConnection.HTTP_OK, body, body.length(), null, null);
+    }
+}
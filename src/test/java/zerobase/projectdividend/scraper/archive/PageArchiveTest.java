@@ -0,0 +1,62 @@
+package zerobase.projectdividend.scraper.archive;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import zerobase.projectdividend.model.Company;
+import zerobase.projectdividend.model.ScrapedResult;
+import zerobase.projectdividend.scraper.PageKind;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PageArchiveTest {
+
+    private static final String HISTORY = "<table class=\"table svelte-ewueuo\"><thead><tr><th>Date</th></tr></thead>"
+            + "<tbody><tr><td>Jul 1, 2024</td><td>103.55</td></tr>"
+            + "<tr><td>May 23, 2024</td><td>0.70 Dividend</td></tr></tbody></table>";
+
+    @TempDir
+    Path root;
+
+    @Test
+    @DisplayName("페이지 기록 후 시점별 조회")
+    void recordAndFind() throws Exception {
+        //given
+        PageArchive archive = new PageArchive(this.root);
+        Instant first = Instant.parse("2024-07-01T00:00:00Z");
+        Instant second = Instant.parse("2024-07-02T00:00:00Z");
+        archive.record("KC=F", PageKind.SUMMARY, first, "first");
+        archive.record("KC=F", PageKind.SUMMARY, second, "second");
+
+        //when
+        PageArchive reopened = new PageArchive(this.root);
+
+        //then
+        assertEquals(2, reopened.list("KC=F", PageKind.SUMMARY).size());
+        assertEquals("second", reopened.read(reopened.find("KC=F", PageKind.SUMMARY, null).get()));
+        assertEquals("first", reopened.read(reopened.find("KC=F", PageKind.SUMMARY, first.plusSeconds(60)).get()));
+        assertTrue(reopened.find("KC=F", PageKind.SUMMARY, first.minusSeconds(60)).isEmpty());
+        assertTrue(reopened.find("MMM", PageKind.SUMMARY, null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("기록된 페이지로 배당금 스크래핑 - 배당금 전용 페이지가 없으면 전체 이력 페이지 사용")
+    void replayScrap() throws Exception {
+        //given
+        PageArchive archive = new PageArchive(this.root);
+        archive.record("MMM", PageKind.FULL_HISTORY, Instant.now(), HISTORY);
+        ReplayScraper scraper = new ReplayScraper(archive);
+
+        //when
+        ScrapedResult result = scraper.scrap(new Company("MMM", "3M Company"));
+
+        //then
+        assertEquals(1, result.getDividends().size());
+        assertEquals(LocalDateTime.parse("2024-05-23T00:00:00"), result.getDividends().get(0).getDate());
+        assertEquals("0.70", result.getDividends().get(0).getDividend());
+    }
+}
@@ -7,19 +7,27 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import zerobase.projectdividend.cache.TwoLevelCacheManager;
 import zerobase.projectdividend.exception.impl.*;
+import zerobase.projectdividend.model.BulkRegistration;
 import zerobase.projectdividend.model.Company;
 import zerobase.projectdividend.model.Dividend;
 import zerobase.projectdividend.model.ScrapedResult;
+import zerobase.projectdividend.persist.alias.CompanyAliasIndex;
 import zerobase.projectdividend.persist.entity.CompanyEntity;
 import zerobase.projectdividend.persist.entity.DividendEntity;
 import zerobase.projectdividend.persist.repository.CompanyRepository;
 import zerobase.projectdividend.persist.repository.DividendRepository;
+import zerobase.projectdividend.persist.repository.ScrapStateRepository;
+import zerobase.projectdividend.persist.series.DividendSeriesStore;
 import zerobase.projectdividend.scraper.Scraper;
 
 import java.time.LocalDateTime;
@@ -27,13 +35,16 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -45,9 +56,24 @@ class CompanyServiceTest {
     @Mock
     private DividendRepository dividendRepository;
 
+    @Mock
+    private ScrapStateRepository scrapStateRepository;
+
     @Mock
     private Scraper yahooFinanceScraper;
 
+    @Mock
+    private DividendSeriesStore dividendSeriesStore;
+
+    @Mock
+    private CompanyAliasIndex companyAliasIndex;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private TwoLevelCacheManager cacheManager;
+
     @Mock
     private Trie<String, String> trie;
 
@@ -95,6 +121,7 @@ class CompanyServiceTest {
 
         given(dividendRepository.saveAll(any()))
                 .willReturn(dividendEntities);
+        givenTransaction();
         ArgumentCaptor<List<DividendEntity>> captor2 = ArgumentCaptor.forClass(List.class);
 
         //when
@@ -105,6 +132,8 @@ class CompanyServiceTest {
         assertEquals("3M Company", captor1.getValue().getName());
         assertEquals("MMM", captor1.getValue().getTicker());
         verify(dividendRepository, times(1)).saveAll(captor2.capture());
+        // 새로 등록한 회사만 series 에 추가
+        verify(dividendSeriesStore).append(companyEntity, dividends);
     }
 
     @Test
@@ -173,6 +202,93 @@ class CompanyServiceTest {
 
     }
 
+    @Test
+    @DisplayName("여러 회사 정보 한 번에 추가 - 일부 실패")
+    void addCompanies_PartialFailure() {
+        //given
+        given(companyRepository.existsByTicker(anyString()))
+                .willReturn(false);
+        given(companyRepository.existsByTicker("O"))
+                .willReturn(true);
+
+        Company company = Company.builder()
+                .name("3M Company")
+                .ticker("MMM")
+                .build();
+        given(yahooFinanceScraper.scrapCompanyByTickerAsync("MMM"))
+                .willReturn(CompletableFuture.completedFuture(company));
+        given(yahooFinanceScraper.scrapCompanyByTickerAsync("XXX"))
+                .willReturn(CompletableFuture.failedFuture(new NotExistCompanyWithTickerException()));
+
+        ScrapedResult scrapedResult = ScrapedResult.builder()
+                .company(company)
+                .dividends(getDividend())
+                .build();
+        given(yahooFinanceScraper.scrapAsync(any(), any(), any(), any()))
+                .willReturn(CompletableFuture.completedFuture(scrapedResult));
+        // 일괄 스크래핑은 Scraper 의 기본 구현을 그대로 사용
+        given(yahooFinanceScraper.scrapAll(any(), anyInt(), any()))
+                .willAnswer(InvocationOnMock::callRealMethod);
+        given(yahooFinanceScraper.scrapAll(any(), anyInt(), any(), any()))
+                .willAnswer(InvocationOnMock::callRealMethod);
+
+        given(companyRepository.save(any()))
+                .willReturn(new CompanyEntity(company));
+        givenTransaction();
+
+        //when
+        BulkRegistration result = companyService.saveAll(Arrays.asList("MMM", " O ", "MMM", "XXX"));
+
+        //then
+        assertEquals(1, result.getRegistered().size());
+        assertEquals("3M Company", result.getRegistered().get(0).getName());
+        assertEquals(2, result.getFailed().size());
+        assertEquals("이미 정보가 존재하는 회사입니다.", result.getFailed().get("O"));
+        assertEquals("Ticker에 해당하는 회사가 없습니다.", result.getFailed().get("XXX"));
+        verify(companyRepository, times(1)).save(any());
+        verify(dividendRepository, times(1)).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("여러 회사 정보 한 번에 추가 - 배당금 저장이 실패하면 메모리에 반영하지 않고 실패로 응답")
+    void addCompanies_StoreFailure() {
+        //given
+        given(companyRepository.existsByTicker(anyString()))
+                .willReturn(false);
+        Company company = Company.builder()
+                .name("3M Company")
+                .ticker("MMM")
+                .build();
+        given(yahooFinanceScraper.scrapCompanyByTickerAsync("MMM"))
+                .willReturn(CompletableFuture.completedFuture(company));
+        given(yahooFinanceScraper.scrapAsync(any(), any(), any(), any()))
+                .willReturn(CompletableFuture.completedFuture(new ScrapedResult(company, getDividend())));
+        given(yahooFinanceScraper.scrapAll(any(), anyInt(), any()))
+                .willAnswer(InvocationOnMock::callRealMethod);
+        given(yahooFinanceScraper.scrapAll(any(), anyInt(), any(), any()))
+                .willAnswer(InvocationOnMock::callRealMethod);
+        given(companyRepository.save(any()))
+                .willReturn(new CompanyEntity(company));
+        given(dividendRepository.saveAll(any()))
+                .willThrow(new IllegalStateException("fail to insert"));
+        givenTransaction();
+
+        //when
+        BulkRegistration result = companyService.saveAll(List.of("MMM"));
+
+        //then
+        assertEquals(0, result.getRegistered().size());
+        assertEquals("Scrap을 실패하였습니다.", result.getFailed().get("MMM"));
+        verify(dividendSeriesStore, never()).append(any(), any());
+        verify(companyAliasIndex, never()).put(any());
+    }
+
+    // 트랜잭션 없이 callback 만 실행 (rollback 은 TransactionTemplate 이 처리)
+    private void givenTransaction() {
+        given(transactionTemplate.execute(any()))
+                .willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
     /**
      * 전체 회사 리스트 가져오기
      * 1. 성공
@@ -269,6 +385,7 @@ class CompanyServiceTest {
      * ticker 에 해당하는 회사 정보 삭제
      * 1. 성공
      * 2. 실패 - ticker에 해당하는 회사가 없는 경우
+     * 3. 다른 노드의 별칭 색인, series 에서도 지우도록 알림
      */
     @Test
     @DisplayName("ticker 에 해당하는 회사 정보 삭제 - 성공")
@@ -291,6 +408,24 @@ class CompanyServiceTest {
         verify(companyRepository, times(1)).delete(any());
     }
 
+    @Test
+    @DisplayName("ticker 에 해당하는 회사 정보 삭제 - 다른 노드의 별칭 색인, series 에서도 지우도록 알림")
+    void deleteCompany_NotifyOtherNodes() {
+        //given
+        CompanyEntity companyEntity = new CompanyEntity(1L, "MMM", "3M Company");
+        given(companyRepository.findByTicker("MMM"))
+                .willReturn(Optional.of(companyEntity));
+
+        //when
+        CompanyEntity deleted = companyService.deleteCompany("MMM");
+
+        //then
+        assertEquals(1L, deleted.getId());
+        verify(dividendSeriesStore).remove(companyEntity);
+        verify(companyAliasIndex).remove(companyEntity);
+        verify(cacheManager).invalidate("company", "1");
+    }
+
     @Test
     @DisplayName("ticker 에 해당하는 회사 정보 삭제 - 실패 - ticker에 해당하는 회사가 없는 경우")
     void failDeleteCompany_NoCompanyException() {
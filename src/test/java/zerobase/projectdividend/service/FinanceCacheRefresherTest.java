@@ -0,0 +1,153 @@
+package zerobase.projectdividend.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import zerobase.projectdividend.cache.CacheKeyIndex;
+import zerobase.projectdividend.cache.CacheTtlPolicy;
+import zerobase.projectdividend.cache.RedisCacheGuard;
+import zerobase.projectdividend.cache.TwoLevelCacheManager;
+import zerobase.projectdividend.config.CacheConfig;
+import zerobase.projectdividend.model.Company;
+import zerobase.projectdividend.model.ScrapedResult;
+import zerobase.projectdividend.persist.entity.CompanyEntity;
+import zerobase.projectdividend.scraper.CircuitBreaker;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class FinanceCacheRefresherTest {
+
+    @Mock
+    private RedisConnectionFactory redisConnectionFactory;
+
+    @Mock
+    private RedisConnection redisConnection;
+
+    @Mock
+    private FinanceService financeService;
+
+    @Mock
+    private TwoLevelCacheManager cacheManager;
+
+    @Mock
+    private CacheKeyIndex financeRangeKeyIndex;
+
+    private final CacheTtlPolicy cacheTtlPolicy = new CacheTtlPolicy(Duration.ZERO, Map.of("finance", Duration.ofHours(24)), 0);
+
+    private final RedisCacheGuard redisCacheGuard = new RedisCacheGuard(
+            new CircuitBreaker("redis-cache", 2, Duration.ofMinutes(1), Duration.ofMinutes(1)));
+
+    private final RedisCacheConfiguration redisCacheConfiguration = new CacheConfig().redisCacheConfiguration(new GenericJackson2JsonRedisSerializer());
+
+    @Test
+    @DisplayName("finance 캐시 갱신 - 바뀐 회사만 @Cacheable 과 같은 key, ttl 로 pipeline 에 나눠서 기록")
+    void refreshInPipelinedBatches() {
+        //given
+        List<CompanyEntity> companies = new ArrayList<>();
+        for (long i = 1; i <= 150; i++) {
+            companies.add(new CompanyEntity(i, "T" + i, "Company " + i));
+        }
+        given(financeService.loadDividends(any()))
+                .willAnswer(invocation -> {
+                    CompanyEntity company = invocation.getArgument(0);
+                    return new ScrapedResult(new Company(company.getTicker(), company.getName()), new ArrayList<>());
+                });
+        given(redisConnectionFactory.getConnection())
+                .willReturn(redisConnection);
+
+        FinanceCacheRefresher refresher = new FinanceCacheRefresher(redisConnectionFactory, redisCacheConfiguration, financeService, cacheManager, cacheTtlPolicy, financeRangeKeyIndex, redisCacheGuard);
+        ArgumentCaptor<byte[]> keys = ArgumentCaptor.forClass(byte[].class);
+
+        //when
+        int written = refresher.refresh(companies);
+
+        //then
+        assertEquals(150, written);
+        verify(redisConnection, times(2)).openPipeline();
+        verify(redisConnection, times(2)).closePipeline();
+        verify(redisConnection, times(150)).pSetEx(keys.capture(), eq(Duration.ofHours(24).toMillis()), any(byte[].class));
+        assertEquals("finance::1", new String(keys.getAllValues().get(0), StandardCharsets.UTF_8));
+        // 기간 조회 캐시도 pipeline 단위로 한 번에 지움
+        verify(financeRangeKeyIndex, times(2)).evict(eq(redisConnection), any());
+        verify(redisConnection, never()).scan(any());
+    }
+
+    @Test
+    @DisplayName("finance 캐시 갱신 - 바뀐 회사의 기간 조회 캐시는 SCAN 없이 기록된 key 만 삭제")
+    void evictRangeEntriesOfChangedCompany() {
+        //given
+        CompanyEntity company = new CompanyEntity(1L, "MMM", "3M Company");
+        given(financeService.loadDividends(any()))
+                .willReturn(new ScrapedResult(new Company("MMM", "3M Company"), new ArrayList<>()));
+        given(redisConnectionFactory.getConnection())
+                .willReturn(redisConnection);
+
+        FinanceCacheRefresher refresher = new FinanceCacheRefresher(redisConnectionFactory, redisCacheConfiguration, financeService, cacheManager, cacheTtlPolicy, financeRangeKeyIndex, redisCacheGuard);
+
+        //when
+        refresher.refresh(List.of(company));
+
+        //then
+        verify(financeRangeKeyIndex).evict(redisConnection, List.of("1"));
+        verify(redisConnection, never()).scan(any());
+        verify(cacheManager).invalidate("finance", "1");
+        verify(cacheManager).invalidatePrefix("finance-range", "1:");
+    }
+
+    @Test
+    @DisplayName("finance 캐시 갱신 - 삭제한 회사의 기간 조회 캐시를 Redis 와 모든 노드의 L1 에서 삭제")
+    void evictRangesOfDeletedCompany() {
+        //given
+        FinanceCacheRefresher refresher = new FinanceCacheRefresher(redisConnectionFactory, redisCacheConfiguration, financeService, cacheManager, cacheTtlPolicy, financeRangeKeyIndex, redisCacheGuard);
+
+        //when
+        refresher.evictRanges(1L);
+
+        //then
+        verify(financeRangeKeyIndex).evict(List.of("1"));
+        verify(cacheManager).invalidatePrefix("finance-range", "1:");
+    }
+
+    @Test
+    @DisplayName("finance 캐시 갱신 - Redis 오류면 예외 없이 건너뛰고 모든 노드의 L1 에서는 지움")
+    void skipWhileRedisUnhealthy() {
+        //given
+        CompanyEntity company = new CompanyEntity(1L, "MMM", "3M Company");
+        given(financeService.loadDividends(any()))
+                .willReturn(new ScrapedResult(new Company("MMM", "3M Company"), new ArrayList<>()));
+        given(redisConnectionFactory.getConnection())
+                .willThrow(new RedisConnectionFailureException("connection refused"));
+
+        FinanceCacheRefresher refresher = new FinanceCacheRefresher(redisConnectionFactory, redisCacheConfiguration, financeService, cacheManager, cacheTtlPolicy, financeRangeKeyIndex, redisCacheGuard);
+
+        //when
+        int written = refresher.refresh(List.of(company));
+
+        //then
+        assertEquals(0, written);
+        assertEquals(1, redisCacheGuard.getFailed(RedisCacheGuard.Operation.WRITE));
+        verify(cacheManager).invalidate("finance", "1");
+        verify(cacheManager).invalidatePrefix("finance-range", "1:");
+    }
+}
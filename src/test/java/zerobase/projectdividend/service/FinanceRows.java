@@ -0,0 +1,39 @@
+package zerobase.projectdividend.service;
+
+import zerobase.projectdividend.persist.entity.CompanyEntity;
+import zerobase.projectdividend.persist.repository.CompanyRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// 회사 + 배당금 join 조회 결과(FinanceRow) 테스트 데이터
+final class FinanceRows {
+
+    private FinanceRows() {
+    }
+
+    // 배당금이 없는 회사는 date, dividend 가 null 인 row
+    static CompanyRepository.FinanceRow financeRow(CompanyEntity company, LocalDate date, BigDecimal dividend) {
+        return new CompanyRepository.FinanceRow() {
+            @Override
+            public String getTicker() {
+                return company.getTicker();
+            }
+
+            @Override
+            public String getName() {
+                return company.getName();
+            }
+
+            @Override
+            public LocalDate getDate() {
+                return date;
+            }
+
+            @Override
+            public BigDecimal getDividend() {
+                return dividend;
+            }
+        };
+    }
+}
@@ -0,0 +1,144 @@
+package zerobase.projectdividend.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import zerobase.projectdividend.cache.CacheStats;
+import zerobase.projectdividend.cache.TwoLevelCacheManager;
+import zerobase.projectdividend.model.ScrapedResult;
+import zerobase.projectdividend.persist.alias.CompanyAliasIndex;
+import zerobase.projectdividend.persist.entity.CompanyEntity;
+import zerobase.projectdividend.persist.repository.CompanyRepository;
+import zerobase.projectdividend.persist.repository.DividendRepository;
+import zerobase.projectdividend.persist.series.DividendSeriesStore;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static zerobase.projectdividend.service.FinanceRows.financeRow;
+
+// @Cacheable(sync = true) + TwoLevelCache 로 캐시 miss 가 동시에 몰려도 DB 는 한 번만 조회하는지 확인
+// Redis 대신 ConcurrentMapCacheManager 를 L2 로 사용
+@SpringJUnitConfig(FinanceServiceConcurrencyTest.Config.class)
+class FinanceServiceConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    private static final CompanyEntity MMM = new CompanyEntity(1L, "MMM", "3M Company");
+
+    @Configuration
+    @EnableCaching
+    static class Config {
+
+        @Bean
+        CompanyRepository companyRepository() {
+            return mock(CompanyRepository.class);
+        }
+
+        @Bean
+        TwoLevelCacheManager cacheManager() {
+            return new TwoLevelCacheManager(new ConcurrentMapCacheManager(), 100, Duration.ofMinutes(1), invalidation -> {
+            });
+        }
+
+        // cache key 식에서 bean 이름(@companyAliasIndex)으로 참조
+        @Bean
+        CompanyAliasIndex companyAliasIndex(CompanyRepository companyRepository) {
+            CompanyAliasIndex companyAliasIndex = new CompanyAliasIndex(mock(JdbcTemplate.class), companyRepository);
+            companyAliasIndex.put(MMM);
+            return companyAliasIndex;
+        }
+
+        @Bean
+        FinanceService financeService(CompanyRepository companyRepository, CompanyAliasIndex companyAliasIndex) {
+            return new FinanceService(companyRepository, mock(DividendRepository.class), mock(DividendSeriesStore.class),
+                    companyAliasIndex);
+        }
+    }
+
+    @Autowired
+    private FinanceService financeService;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private TwoLevelCacheManager cacheManager;
+
+    /**
+     * 배당금 조회 동시 요청
+     * 1. 캐시 miss 가 동시에 몰림 - DB 조회는 한 번, 모든 요청이 같은 결과
+     */
+    @Test
+    @DisplayName("캐시 miss 가 동시에 몰림 - DB 조회는 한 번, 모든 요청이 같은 결과")
+    void coalesceConcurrentMisses() throws Exception {
+        //given
+        AtomicInteger queries = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        List<CompanyRepository.FinanceRow> rows = List.of(financeRow(MMM, LocalDate.parse("2023-05-18"), new BigDecimal("1.5")));
+        given(companyRepository.findFinanceById(1L))
+                .willAnswer(invocation -> {
+                    queries.incrementAndGet();
+                    // 나머지 요청이 모두 기다릴 때까지 조회를 끝내지 않음
+                    assertTrue(release.await(5, TimeUnit.SECONDS));
+                    return rows;
+                });
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        //when
+        List<Future<ScrapedResult>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            results.add(executor.submit(() -> financeService.getDividendByCompanyName("3M Company")));
+        }
+        CacheStats stats = awaitCoalesced(THREADS - 1);
+        release.countDown();
+
+        List<ScrapedResult> values = new ArrayList<>();
+        for (Future<ScrapedResult> result : results) {
+            values.add(result.get(5, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        //then
+        assertEquals(1, queries.get());
+        assertEquals(1, stats.getLoads());
+        assertEquals(THREADS - 1, stats.getCoalesced());
+        for (ScrapedResult value : values) {
+            assertEquals("3M Company", value.getCompany().getName());
+            assertEquals("1.50", value.getDividends().get(0).getDividend());
+        }
+        // 다음 요청은 캐시에서 응답
+        financeService.getDividendByCompanyName("3M Company");
+        assertEquals(1, queries.get());
+    }
+
+    private CacheStats awaitCoalesced(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            CacheStats stats = cacheManager.getStats().get("finance");
+            if (stats != null && stats.getCoalesced() == expected) {
+                return stats;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("requests are not coalesced");
+    }
+}
@@ -0,0 +1,125 @@
+package zerobase.projectdividend.service;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import zerobase.projectdividend.model.ScrapedResult;
+import zerobase.projectdividend.persist.alias.CompanyAliasIndex;
+import zerobase.projectdividend.persist.entity.CompanyEntity;
+import zerobase.projectdividend.persist.entity.DividendEntity;
+import zerobase.projectdividend.persist.series.DividendSeriesStore;
+
+import javax.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 캐시 miss 시 DB 조회가 한 번의 쿼리로 끝나는지 hibernate 통계로 확인
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({FinanceService.class, CompanyAliasIndex.class})
+class FinanceServiceQueryTest {
+
+    // 메모리 series 대신 DB 조회 경로를 확인 (mock 은 항상 비어 있음)
+    @MockBean
+    private DividendSeriesStore dividendSeriesStore;
+
+    @Autowired
+    private FinanceService financeService;
+
+    @Autowired
+    private CompanyAliasIndex companyAliasIndex;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        CompanyEntity company = testEntityManager.persist(new CompanyEntity(null, "MMM", "3M Company"));
+        testEntityManager.persist(DividendEntity.builder().companyId(company.getId())
+                .date(LocalDate.parse("2024-02-15")).dividend(new BigDecimal("1.51")).build());
+        testEntityManager.persist(DividendEntity.builder().companyId(company.getId())
+                .date(LocalDate.parse("2023-11-16")).dividend(new BigDecimal("1.5")).build());
+        testEntityManager.persist(DividendEntity.builder().companyId(company.getId())
+                .date(LocalDate.parse("2024-05-23")).dividend(new BigDecimal("0.70")).build());
+        CompanyEntity realty = testEntityManager.persist(new CompanyEntity(null, "O", "Realty Income Corporation"));
+        testEntityManager.flush();
+        // 저장할 때와 같이 별칭 색인에 추가 (회사 조회 쿼리 없이 id 를 찾음)
+        companyAliasIndex.put(company);
+        companyAliasIndex.put(realty);
+        testEntityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    /**
+     * 해당 회사의 정보와 배당금 정보 조회 쿼리
+     * 1. 회사와 배당금을 join 한 쿼리 하나, entity 는 만들지 않음
+     * 2. 배당금이 없는 회사도 쿼리 하나
+     * 3. 이름이 같은 회사 - 조회한 회사의 배당금만
+     */
+    @Test
+    @DisplayName("해당 회사의 정보와 배당금 정보 조회 - 쿼리 한 번, entity 로딩 없음")
+    void loadDividendsInSingleStatement() {
+        //when
+        ScrapedResult result = financeService.getDividendByCompanyName("3M Company");
+
+        //then
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals("MMM", result.getCompany().getTicker());
+        assertEquals(3, result.getDividends().size());
+        assertEquals("1.50", result.getDividends().get(0).getDividend());
+        assertEquals("0.70", result.getDividends().get(2).getDividend());
+    }
+
+    @Test
+    @DisplayName("해당 회사의 정보와 배당금 정보 조회 - 배당금이 없는 회사도 쿼리 한 번")
+    void loadCompanyWithoutDividendsInSingleStatement() {
+        //when
+        ScrapedResult result = financeService.getDividendByCompanyName("Realty Income Corporation");
+
+        //then
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals("O", result.getCompany().getTicker());
+        assertEquals(0, result.getDividends().size());
+    }
+
+    @Test
+    @DisplayName("해당 회사의 정보와 배당금 정보 조회 - 이름이 같은 회사의 배당금은 섞이지 않음")
+    void loadDividendsOfSameNamedCompany() {
+        //given
+        CompanyEntity goog = testEntityManager.persist(new CompanyEntity(null, "GOOG", "Alphabet Inc."));
+        CompanyEntity googl = testEntityManager.persist(new CompanyEntity(null, "GOOGL", "Alphabet Inc."));
+        testEntityManager.persist(DividendEntity.builder().companyId(goog.getId())
+                .date(LocalDate.parse("2024-06-10")).dividend(new BigDecimal("0.20")).build());
+        testEntityManager.persist(DividendEntity.builder().companyId(googl.getId())
+                .date(LocalDate.parse("2024-06-10")).dividend(new BigDecimal("0.20")).build());
+        testEntityManager.persist(DividendEntity.builder().companyId(googl.getId())
+                .date(LocalDate.parse("2024-09-09")).dividend(new BigDecimal("0.20")).build());
+        testEntityManager.flush();
+        companyAliasIndex.put(goog);
+        companyAliasIndex.put(googl);
+        testEntityManager.clear();
+
+        //when
+        ScrapedResult result = financeService.getDividendByCompanyName("GOOG");
+
+        //then
+        assertEquals("GOOG", result.getCompany().getTicker());
+        assertEquals(1, result.getDividends().size());
+    }
+}
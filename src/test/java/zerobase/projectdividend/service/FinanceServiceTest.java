@@ -3,17 +3,27 @@ package zerobase.projectdividend.service;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import zerobase.projectdividend.exception.impl.InvalidDividendRangeException;
 import zerobase.projectdividend.exception.impl.NoCompanyException;
+import zerobase.projectdividend.model.AnnualDividend;
 import zerobase.projectdividend.model.Dividend;
+import zerobase.projectdividend.model.DividendRange;
 import zerobase.projectdividend.model.ScrapedResult;
+import zerobase.projectdividend.persist.alias.CompanyAliasIndex;
 import zerobase.projectdividend.persist.entity.CompanyEntity;
 import zerobase.projectdividend.persist.entity.DividendEntity;
 import zerobase.projectdividend.persist.repository.CompanyRepository;
 import zerobase.projectdividend.persist.repository.DividendRepository;
+import zerobase.projectdividend.persist.series.DividendSeries;
+import zerobase.projectdividend.persist.series.DividendSeriesStore;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -22,9 +32,12 @@ import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static zerobase.projectdividend.service.FinanceRows.financeRow;
 
 @ExtendWith(MockitoExtension.class)
 class FinanceServiceTest {
@@ -33,6 +46,10 @@ class FinanceServiceTest {
     private CompanyRepository companyRepository;
     @Mock
     private DividendRepository dividendRepository;
+    @Mock
+    private DividendSeriesStore dividendSeriesStore;
+    @Mock
+    private CompanyAliasIndex companyAliasIndex;
 
     @InjectMocks
     private FinanceService financeService;
@@ -40,7 +57,11 @@ class FinanceServiceTest {
     /**
      * 해당 회사의 정보와 배당금 정보 반환
      * 1. 성공
-     * 2. 실패 - 회사명이 없는 경우
+     * 2. 성공 - 메모리 series 에서 응답
+     * 3. 성공 - 배당금이 없는 회사
+     * 4. 실패 - 회사명이 없는 경우
+     * 5. 기간, 개수 지정 - 최근 limit 개를 날짜순으로
+     * 6. 기간, 개수 지정 - 실패 - 시작일이 종료일보다 늦은 경우
      */
     @Test
     @DisplayName("해당 회사의 정보와 배당금 정보 반환 - 성공")
@@ -51,13 +72,15 @@ class FinanceServiceTest {
                 .name("3M Company")
                 .ticker("MMM")
                 .build();
-        given(companyRepository.findByName(anyString()))
+        given(companyAliasIndex.resolve(anyString()))
                 .willReturn(Optional.of(company));
         List<DividendEntity> dividendEntities = getDividend();
-        given(dividendRepository.findAllByCompanyId(anyLong()))
-                .willReturn(dividendEntities);
+        given(companyRepository.findFinanceById(1L))
+                .willReturn(dividendEntities.stream()
+                        .map(e -> financeRow(company, e.getDate(), e.getDividend()))
+                        .collect(Collectors.toList()));
         List<Dividend> dividends = dividendEntities.stream()
-                .map(e -> new Dividend(e.getDate(), e.getDividend())).collect(Collectors.toList());
+                .map(DividendEntity::toDividend).collect(Collectors.toList());
 
         //when
 
@@ -67,13 +90,147 @@ class FinanceServiceTest {
         assertEquals(company.getName(), new CompanyEntity(dividendByCompanyName.getCompany()).getName());
         assertEquals(company.getTicker(), new CompanyEntity(dividendByCompanyName.getCompany()).getTicker());
         assertEquals(dividends, dividendByCompanyName.getDividends());
+        // 응답 형식은 숫자로 저장하기 전과 같음
+        assertEquals(LocalDateTime.parse("2023-05-18T00:00:00"), dividendByCompanyName.getDividends().get(0).getDate());
+        assertEquals("0.70", dividendByCompanyName.getDividends().get(4).getDividend());
+    }
+
+    @Test
+    @DisplayName("기간, 개수를 지정한 배당금 정보 반환 - 최근 limit 개를 날짜순으로")
+    void successGetDividendByCompanyNameInRange() {
+        //given
+        CompanyEntity company = CompanyEntity.builder()
+                .id(1L)
+                .name("3M Company")
+                .ticker("MMM")
+                .build();
+        given(companyAliasIndex.resolve(anyString()))
+                .willReturn(Optional.of(company));
+        // 최근 날짜부터 조회된 결과
+        List<DividendEntity> recent = getDividend().subList(3, 5);
+        List<DividendEntity> newestFirst = List.of(recent.get(1), recent.get(0));
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        given(dividendRepository.findRecentInRange(anyLong(), any(), any(), pageable.capture()))
+                .willReturn(newestFirst);
+        DividendRange range = DividendRange.of(LocalDate.parse("2023-01-01"), null, 2);
+
+        //when
+        ScrapedResult result = financeService.getDividendByCompanyName("3M Company", range);
+
+        //then
+        assertEquals(2, pageable.getValue().getPageSize());
+        assertEquals(2, result.getDividends().size());
+        assertEquals(LocalDateTime.parse("2024-02-15T00:00:00"), result.getDividends().get(0).getDate());
+        assertEquals(LocalDateTime.parse("2024-05-23T00:00:00"), result.getDividends().get(1).getDate());
+    }
+
+    @Test
+    @DisplayName("기간, 개수를 지정한 배당금 정보 반환 - 실패 - 시작일이 종료일보다 늦은 경우")
+    void failDividendRange_InvalidDividendRangeException() {
+        //when
+        InvalidDividendRangeException exception = assertThrows(InvalidDividendRangeException.class,
+                () -> DividendRange.of(LocalDate.parse("2024-01-01"), LocalDate.parse("2023-01-01"), null));
+
+        //then
+        assertEquals("조회 기간 또는 개수가 올바르지 않습니다.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("연도별 배당금 합계 반환 - 성공")
+    void successGetAnnualDividends() {
+        //given
+        CompanyEntity company = CompanyEntity.builder()
+                .id(1L)
+                .name("3M Company")
+                .ticker("MMM")
+                .build();
+        given(companyAliasIndex.resolve(anyString()))
+                .willReturn(Optional.of(company));
+        DividendRepository.YearlyDividend year2023 = new DividendRepository.YearlyDividend() {
+            @Override
+            public Integer getYear() {
+                return 2023;
+            }
+
+            @Override
+            public BigDecimal getTotal() {
+                return new BigDecimal("3.750000");
+            }
+
+            @Override
+            public Long getCount() {
+                return 3L;
+            }
+        };
+        given(dividendRepository.sumByYear(anyLong()))
+                .willReturn(List.of(year2023));
+
+        //when
+        List<AnnualDividend> result = financeService.getAnnualDividends("3M Company");
+
+        //then
+        assertEquals(1, result.size());
+        assertEquals(2023, result.get(0).getYear());
+        assertEquals(new BigDecimal("3.75"), result.get(0).getTotal());
+        assertEquals(3, result.get(0).getCount());
+    }
+
+    @Test
+    @DisplayName("해당 회사의 정보와 배당금 정보 반환 - 메모리 series 에 있으면 DB 조회 없이 응답")
+    void successGetDividendByCompanyName_FromSeries() {
+        //given
+        given(companyAliasIndex.resolve(anyString()))
+                .willReturn(Optional.of(new CompanyEntity(1L, "MMM", "3M Company")));
+        List<DividendEntity> dividendEntities = getDividend();
+        int[] days = new int[dividendEntities.size()];
+        long[] amounts = new long[dividendEntities.size()];
+        for (int i = 0; i < dividendEntities.size(); i++) {
+            days[i] = (int) dividendEntities.get(i).getDate().toEpochDay();
+            amounts[i] = DividendSeries.toScaled(dividendEntities.get(i).getDividend());
+        }
+        given(dividendSeriesStore.findById(anyLong()))
+                .willReturn(Optional.of(new DividendSeriesStore.Entry(1L, "MMM", "3M Company",
+                        DividendSeries.of(days, amounts))));
+        List<Dividend> dividends = dividendEntities.stream()
+                .map(DividendEntity::toDividend).collect(Collectors.toList());
+
+        //when
+        ScrapedResult result = financeService.getDividendByCompanyName("3M Company");
+
+        //then
+        assertEquals("MMM", result.getCompany().getTicker());
+        assertEquals(dividends, result.getDividends());
+        verifyNoInteractions(companyRepository, dividendRepository);
+    }
+
+    @Test
+    @DisplayName("해당 회사의 정보와 배당금 정보 반환 - 배당금이 없는 회사")
+    void successGetDividendByCompanyName_NoDividend() {
+        //given
+        CompanyEntity company = CompanyEntity.builder()
+                .id(1L)
+                .name("3M Company")
+                .ticker("MMM")
+                .build();
+        given(companyAliasIndex.resolve(anyString()))
+                .willReturn(Optional.of(company));
+        // left join 이라 배당금 컬럼이 null 인 row 하나
+        given(companyRepository.findFinanceById(1L))
+                .willReturn(List.of(financeRow(company, null, null)));
+
+        //when
+        ScrapedResult result = financeService.getDividendByCompanyName("3M Company");
+
+        //then
+        assertEquals("MMM", result.getCompany().getTicker());
+        assertEquals(0, result.getDividends().size());
     }
 
     @Test
     @DisplayName("해당 회사의 정보와 배당금 정보 반환 - 실패 - 회사명이 없는 경우 ")
     void failGetDividendByCompanyName_NoCompanyException() {
         //given
-        given(companyRepository.findByName(anyString()))
+        given(companyAliasIndex.resolve(anyString()))
                 .willReturn(Optional.empty());
 
         //when
@@ -86,20 +243,20 @@ class FinanceServiceTest {
     private List<DividendEntity> getDividend() {
         List<DividendEntity> dividends = new ArrayList<>();
         dividends.add(DividendEntity.builder()
-                .date(LocalDateTime.parse("2023-05-18T00:00:00"))
-                .dividend("1.25").build());
+                .date(LocalDate.parse("2023-05-18"))
+                .dividend(new BigDecimal("1.25")).build());
         dividends.add(DividendEntity.builder()
-                .date(LocalDateTime.parse("2023-08-18T00:00:00"))
-                .dividend("1.25").build());
+                .date(LocalDate.parse("2023-08-18"))
+                .dividend(new BigDecimal("1.25")).build());
         dividends.add(DividendEntity.builder()
-                .date(LocalDateTime.parse("2023-11-16T00:00:00"))
-                .dividend("1.25").build());
+                .date(LocalDate.parse("2023-11-16"))
+                .dividend(new BigDecimal("1.25")).build());
         dividends.add(DividendEntity.builder()
-                .date(LocalDateTime.parse("2024-02-15T00:00:00"))
-                .dividend("1.26").build());
+                .date(LocalDate.parse("2024-02-15"))
+                .dividend(new BigDecimal("1.26")).build());
         dividends.add(DividendEntity.builder()
-                .date(LocalDateTime.parse("2024-05-23T00:00:00"))
-                .dividend("0.70").build());
+                .date(LocalDate.parse("2024-05-23"))
+                .dividend(new BigDecimal("0.70")).build());
         return dividends;
     }
 }
\ No newline at end of file
@@ -28,6 +28,7 @@ import zerobase.projectdividend.persist.entity.MemberEntity;
 import zerobase.projectdividend.security.JwtAuthenticationFilter;
 import zerobase.projectdividend.security.TokenProvider;
 import zerobase.projectdividend.service.CompanyService;
+import zerobase.projectdividend.service.FinanceCacheRefresher;
 import zerobase.projectdividend.service.FinanceService;
 import zerobase.projectdividend.service.MemberService;
 
@@ -43,6 +44,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -72,6 +74,9 @@ class CompanyControllerTest {
     @MockBean
     private FinanceService financeService;
 
+    @MockBean
+    private FinanceCacheRefresher financeCacheRefresher;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -194,7 +199,7 @@ class CompanyControllerTest {
 
         //given
         given(companyService.deleteCompany(anyString()))
-                .willReturn("3M Company");
+                .willReturn(new CompanyEntity(1L, "MMM", "3M Company"));
 
         given(cacheManager.getCache(anyString()))
                 .willReturn(cache);
@@ -207,6 +212,9 @@ class CompanyControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").value("3M Company"))
         ;
+        // 캐시 key 는 회사 id, 기간 조회 캐시도 함께 삭제
+        verify(cache).evict("1");
+        verify(financeCacheRefresher).evictRanges(1L);
     }
 
     private List<CompanyEntity> getCompanies() {
@@ -39,9 +39,11 @@ import zerobase.projectdividend.config.AppConfig;
 import zerobase.projectdividend.model.Auth;
 import zerobase.projectdividend.model.Company;
 import zerobase.projectdividend.model.Dividend;
+import zerobase.projectdividend.model.DividendRange;
 import zerobase.projectdividend.model.ScrapedResult;
 import zerobase.projectdividend.persist.entity.MemberEntity;
 import zerobase.projectdividend.persist.repository.MemberRepository;
+import zerobase.projectdividend.scheduler.ReadPopularity;
 import zerobase.projectdividend.security.JwtAuthenticationFilter;
 import zerobase.projectdividend.security.SecurityConfiguration;
 import zerobase.projectdividend.security.TokenProvider;
@@ -50,6 +52,7 @@ import zerobase.projectdividend.service.MemberService;
 
 import javax.annotation.PostConstruct;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -60,6 +63,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -75,6 +79,9 @@ class FinanceControllerTest {
     @MockBean
     private FinanceService financeService;
 
+    @MockBean
+    private ReadPopularity readPopularity;
+
     @MockBean
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
@@ -121,6 +128,37 @@ class FinanceControllerTest {
 
     }
 
+    @Test
+    @WithMockUser(roles = {"READ"})
+    void successSearchFinanceInRange() throws Exception{
+        //given
+        Company company = Company.builder()
+                .name("3M Company")
+                .ticker("MMM")
+                .build();
+
+        ScrapedResult result = ScrapedResult.builder()
+                .company(company)
+                .dividends(getDividend().subList(4, 5))
+                .build();
+
+        given(financeService.getDividendByCompanyName(anyString(), any(DividendRange.class)))
+                .willReturn(result);
+
+        //when
+
+        //then
+        mockMvc.perform(get("/finance/dividend/3M Company")
+                        .param("from", "2024-01-01")
+                        .param("limit", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.dividends.length()").value(1))
+                .andExpect(jsonPath("$.dividends[0].date").value("2024-05-23T00:00:00"));
+        verify(financeService).getDividendByCompanyName("3M Company",
+                DividendRange.of(LocalDate.parse("2024-01-01"), null, 1));
+    }
+
     private List<Dividend> getDividend() {
         List<Dividend> dividends = new ArrayList<>();
         dividends.add(Dividend.builder()